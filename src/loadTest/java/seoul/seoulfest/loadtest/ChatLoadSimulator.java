@@ -0,0 +1,228 @@
+package seoul.seoulfest.loadtest;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP/SockJS 클라이언트 시뮬레이터
+ * - 사용자마다 /ws-stomp 로 연결하여 참여 채팅방 토픽을 구독
+ * - 각 사용자가 /app/chat/message 로 일정 간격마다 메시지 전송
+ * - 메시지 본문에 전송 시각(nanoTime)을 담아 수신 시 전송 -> 수신 지연 시간을 기록
+ * - 서버와 같은 JVM 에서 실행되므로 nanoTime 을 그대로 비교할 수 있음
+ */
+@Slf4j
+public class ChatLoadSimulator {
+
+	private static final String CONTENT_PREFIX = "lt|";
+
+	private final LoadTestConfig config;
+	private final String url;
+
+	private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong expectedDeliveries = new AtomicLong();
+	private final AtomicInteger connectFailures = new AtomicInteger();
+	private final AtomicInteger sendFailures = new AtomicInteger();
+	private final AtomicInteger errorFrames = new AtomicInteger();
+
+	// 채팅방 ID -> 구독 중인 세션 수 (메시지당 예상 수신 수)
+	private final Map<Long, AtomicInteger> subscribers = new ConcurrentHashMap<>();
+
+	private WebSocketStompClient stompClient;
+
+	public ChatLoadSimulator(LoadTestConfig config, int port) {
+		this.config = config;
+		this.url = "http://localhost:" + port + "/ws-stomp";
+	}
+
+	/**
+	 * 시뮬레이션 실행
+	 *
+	 * @param tokens       사용자별 액세스 토큰
+	 * @param roomsByUser  사용자별 참여 채팅방 ID
+	 */
+	public Map<String, Object> run(List<String> tokens, List<List<Long>> roomsByUser) throws InterruptedException {
+		stompClient = new WebSocketStompClient(
+			new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+		stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+		stompClient.setDefaultHeartbeat(new long[] {0, 0});
+
+		List<StompSession> sessions = connectAll(tokens, roomsByUser);
+		Thread.sleep(config.getSettleMillis());
+
+		long startNanos = System.nanoTime();
+		sendAll(sessions, roomsByUser);
+		long sendElapsedNanos = System.nanoTime() - startNanos;
+
+		awaitDeliveries();
+		long elapsedNanos = System.nanoTime() - startNanos;
+
+		sessions.forEach(StompSession::disconnect);
+		stompClient.stop();
+
+		return buildResult(sessions.size(), sendElapsedNanos, elapsedNanos);
+	}
+
+	private List<StompSession> connectAll(List<String> tokens, List<List<Long>> roomsByUser) {
+		List<StompSession> sessions = new ArrayList<>(tokens.size());
+		for (int i = 0; i < tokens.size(); i++) {
+			StompHeaders connectHeaders = new StompHeaders();
+			connectHeaders.add("Authorization", "Bearer " + tokens.get(i));
+
+			try {
+				StompSession session = stompClient
+					.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new ErrorCountingHandler())
+					.get(10, TimeUnit.SECONDS);
+
+				for (Long roomId : roomsByUser.get(i)) {
+					session.subscribe("/topic/chat/room/" + roomId, new LatencyFrameHandler());
+					subscribers.computeIfAbsent(roomId, key -> new AtomicInteger()).incrementAndGet();
+				}
+				session.subscribe("/user/queue/errors", new ErrorCountingHandler());
+				sessions.add(session);
+			} catch (Exception e) {
+				connectFailures.incrementAndGet();
+				sessions.add(null);
+				log.warn("사용자 {} 연결 실패: {}", i, e.getMessage());
+			}
+		}
+		log.info("연결 완료: {}/{}", tokens.size() - connectFailures.get(), tokens.size());
+		return sessions;
+	}
+
+	private void sendAll(List<StompSession> sessions, List<List<Long>> roomsByUser) throws InterruptedException {
+		ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+			Math.max(2, Runtime.getRuntime().availableProcessors()));
+		CountDownLatch done = new CountDownLatch(sessions.size());
+
+		for (int i = 0; i < sessions.size(); i++) {
+			StompSession session = sessions.get(i);
+			List<Long> rooms = roomsByUser.get(i);
+			if (session == null || rooms.isEmpty()) {
+				done.countDown();
+				continue;
+			}
+
+			AtomicInteger remaining = new AtomicInteger(config.getMessagesPerUser());
+			long initialDelay = (long)(Math.random() * config.getSendIntervalMillis());
+			scheduler.scheduleAtFixedRate(() -> {
+				int left = remaining.getAndDecrement();
+				if (left <= 0) {
+					if (left == 0) {
+						done.countDown();
+					}
+					return;
+				}
+				send(session, rooms.get(left % rooms.size()));
+			}, initialDelay, config.getSendIntervalMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		done.await();
+		scheduler.shutdownNow();
+	}
+
+	private void send(StompSession session, Long roomId) {
+		Map<String, Object> request = new LinkedHashMap<>();
+		request.put("chatRoomId", roomId);
+		request.put("content", CONTENT_PREFIX + System.nanoTime());
+		request.put("type", "TEXT");
+
+		try {
+			session.send("/app/chat/message", request);
+			sent.incrementAndGet();
+			expectedDeliveries.addAndGet(subscribers.getOrDefault(roomId, new AtomicInteger()).get());
+		} catch (Exception e) {
+			sendFailures.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 예상 수신 수에 도달하거나 drain-timeout 이 지날 때까지 대기
+	 */
+	private void awaitDeliveries() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + config.getDrainTimeoutMillis();
+		while (latencyRecorder.getCount() < expectedDeliveries.get() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+	}
+
+	private Map<String, Object> buildResult(int sessions, long sendElapsedNanos, long elapsedNanos) {
+		long received = latencyRecorder.getCount();
+		long expected = expectedDeliveries.get();
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("sessions", sessions - connectFailures.get());
+		result.put("connectFailures", connectFailures.get());
+		result.put("sent", sent.get());
+		result.put("sendFailures", sendFailures.get());
+		result.put("errorFrames", errorFrames.get());
+		result.put("expectedDeliveries", expected);
+		result.put("received", received);
+		result.put("lost", Math.max(0, expected - received));
+		result.put("sendThroughputPerSec", Math.round(sent.get() / (sendElapsedNanos / 1_000_000_000.0)));
+		result.put("deliveryThroughputPerSec", Math.round(received / elapsedSeconds));
+		result.put("latency", latencyRecorder.summarize());
+		return result;
+	}
+
+	/**
+	 * 채팅방 메시지 수신 시 지연 시간 기록
+	 */
+	private class LatencyFrameHandler implements StompFrameHandler {
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return Map.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			long receivedAt = System.nanoTime();
+			Object content = ((Map<?, ?>)payload).get("content");
+			if (content instanceof String text && text.startsWith(CONTENT_PREFIX)) {
+				latencyRecorder.record(receivedAt - Long.parseLong(text.substring(CONTENT_PREFIX.length())));
+			}
+		}
+	}
+
+	/**
+	 * 오류 프레임(/user/queue/errors, STOMP ERROR) 수 집계
+	 */
+	private class ErrorCountingHandler extends StompSessionHandlerAdapter {
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return Map.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			errorFrames.incrementAndGet();
+			log.debug("오류 수신: {}", payload);
+		}
+	}
+}
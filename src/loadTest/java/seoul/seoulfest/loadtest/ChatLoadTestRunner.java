@@ -0,0 +1,194 @@
+package seoul.seoulfest.loadtest;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+import seoul.seoulfest.SeoulFestApplication;
+import seoul.seoulfest.auth.custom.CustomUserDetails;
+import seoul.seoulfest.auth.dto.LoginDto;
+import seoul.seoulfest.chat.entity.ChatRoom;
+import seoul.seoulfest.chat.enums.ChatRole;
+import seoul.seoulfest.chat.enums.ChatRoomType;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.chat.service.chatroom.ChatRoomMembershipService;
+import seoul.seoulfest.member.entity.Member;
+import seoul.seoulfest.member.enums.Role;
+import seoul.seoulfest.member.repository.MemberRepository;
+import seoul.seoulfest.util.jwt.JwtTokenProvider;
+
+/**
+ * 채팅 부하 테스트 실행기
+ * - 임베디드 Redis 와 H2 로 애플리케이션을 띄우고, 테스트 사용자/채팅방을 생성한 뒤 시뮬레이터 실행
+ * - 결과는 {report-dir}/{label}.json 으로 저장 (키 순서가 고정되어 버전 간 diff 가능)
+ * - 실행: ./gradlew loadTest -Dloadtest.label=v1.2.0 -Dloadtest.users=500
+ * - chat.* 시스템 속성은 그대로 애플리케이션 설정으로 전달 (예: -Dchat.message.write-behind.enabled=true)
+ */
+@Slf4j
+public class ChatLoadTestRunner {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfig config = new LoadTestConfig();
+
+		RedisServer redisServer = null;
+		int redisPort;
+		if (config.getRedisPort() != null) {
+			redisPort = config.getRedisPort();
+		} else {
+			redisPort = findFreePort();
+			redisServer = new RedisServer(redisPort);
+			redisServer.start();
+		}
+
+		ConfigurableApplicationContext context = null;
+		try {
+			context = new SpringApplicationBuilder(SeoulFestApplication.class)
+				.properties(applicationProperties(redisPort))
+				.run(args);
+			int port = ((WebServerApplicationContext)context).getWebServer().getPort();
+
+			List<String> tokens = new ArrayList<>();
+			List<List<Long>> roomsByUser = new ArrayList<>();
+			seed(context, config, tokens, roomsByUser);
+
+			Map<String, Object> result = new ChatLoadSimulator(config, port).run(tokens, roomsByUser);
+			writeReport(config, result);
+		} finally {
+			if (context != null) {
+				context.close();
+			}
+			if (redisServer != null) {
+				redisServer.stop();
+			}
+		}
+	}
+
+	/**
+	 * 테스트 사용자와 채팅방 생성
+	 * - 사용자 i 는 (i + k) % rooms 번째 채팅방들에 참여 (k < roomsPerUser)
+	 */
+	private static void seed(ConfigurableApplicationContext context, LoadTestConfig config, List<String> tokens,
+		List<List<Long>> roomsByUser) {
+		MemberRepository memberRepository = context.getBean(MemberRepository.class);
+		ChatRoomRepository chatRoomRepository = context.getBean(ChatRoomRepository.class);
+		ChatRoomMembershipService membershipService = context.getBean(ChatRoomMembershipService.class);
+		JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+		List<Member> members = new ArrayList<>(config.getUsers());
+		for (int i = 0; i < config.getUsers(); i++) {
+			String verifyId = "loadtest-" + i;
+			members.add(memberRepository.save(Member.builder()
+				.verifyId(verifyId)
+				.username("user" + i)
+				.email(verifyId + "@loadtest.local")
+				.role(Role.ROLE_USER)
+				.build()));
+
+			LoginDto loginDto = LoginDto.builder()
+				.email(verifyId + "@loadtest.local")
+				.verifyId(verifyId)
+				.role(Role.ROLE_USER.name())
+				.build();
+			tokens.add(jwtTokenProvider.generateAccessToken(CustomUserDetails.create(loginDto)));
+		}
+
+		List<ChatRoom> rooms = new ArrayList<>(config.getRooms());
+		for (int r = 0; r < config.getRooms(); r++) {
+			rooms.add(chatRoomRepository.save(ChatRoom.builder()
+				.name("loadtest-room-" + r)
+				.information("load test")
+				.category("loadtest")
+				.type(ChatRoomType.GROUP)
+				.owner(members.get(r % members.size()))
+				.build()));
+		}
+
+		for (int i = 0; i < members.size(); i++) {
+			List<Long> joined = new ArrayList<>();
+			for (int k = 0; k < Math.min(config.getRoomsPerUser(), rooms.size()); k++) {
+				ChatRoom room = rooms.get((i + k) % rooms.size());
+				membershipService.createChatRoomMember(room, members.get(i), ChatRole.USER);
+				joined.add(room.getId());
+			}
+			roomsByUser.add(joined);
+		}
+		log.info("테스트 데이터 생성 완료 - 사용자: {}, 채팅방: {}", members.size(), rooms.size());
+	}
+
+	private static void writeReport(LoadTestConfig config, Map<String, Object> result) throws Exception {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("label", config.getLabel());
+		report.put("config", config.toReport());
+		report.put("result", result);
+
+		File dir = new File(config.getReportDir());
+		dir.mkdirs();
+		File file = new File(dir, config.getLabel() + ".json");
+
+		ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		objectMapper.writeValue(file, report);
+
+		log.info("부하 테스트 결과: {}", objectMapper.writeValueAsString(result));
+		log.info("리포트 저장: {}", file.getAbsolutePath());
+	}
+
+	/**
+	 * 테스트용 애플리케이션 설정
+	 * - 외부 연동(OAuth2, AWS, 공공 API)은 호출되지 않으므로 더미 값 사용
+	 */
+	private static Map<String, Object> applicationProperties(int redisPort) {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("server.port", 0);
+
+		properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		properties.put("spring.datasource.username", "sa");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.jpa.hibernate.ddl-auto", "create");
+		properties.put("spring.batch.job.enabled", false);
+		properties.put("spring.batch.jdbc.initialize-schema", "always");
+
+		properties.put("spring.data.redis.host", "localhost");
+		properties.put("spring.data.redis.port", redisPort);
+		properties.put("spring.data.redis.password", "");
+
+		properties.put("jwt.secret", "LoadTestSecretKeyForHS512ThatIsAtLeast64BytesLongAndOnlyUsedLocally!!");
+		properties.put("spring.security.oauth2.client.registration.google.client-id", "loadtest");
+		properties.put("spring.security.oauth2.client.registration.google.client-secret", "loadtest");
+
+		properties.put("cloud.aws.credentials.access-key", "loadtest");
+		properties.put("cloud.aws.credentials.secret-key", "loadtest");
+		properties.put("cloud.aws.region.static", "ap-northeast-2");
+		properties.put("cloud.aws.region.auto", false);
+		properties.put("cloud.aws.stack.auto", false);
+		properties.put("cloud.aws.s3.bucket", "loadtest");
+
+		properties.put("open-api.event.key", "loadtest");
+		properties.put("open-api.parking.go-key", "loadtest");
+		properties.put("open-api.parking.si-key", "loadtest");
+		properties.put("redirect-url.frontend", "http://localhost");
+		properties.put("request-url.ml-server", "http://localhost");
+
+		// 부하 테스트 자체가 전송 한도를 넘으므로 기본적으로 유량 제한 해제 (-Dchat.rate-limit.enabled=true 로 재설정 가능)
+		properties.put("chat.rate-limit.enabled", false);
+		return properties;
+	}
+
+	private static int findFreePort() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package seoul.seoulfest.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 전송 -> 수신 지연 시간 기록기
+ * - 모든 표본을 보관하고 종료 시 정렬하여 정확한 백분위수를 계산
+ */
+public class LatencyRecorder {
+
+	private long[] samples = new long[1 << 16];
+	private int count;
+
+	public synchronized void record(long latencyNanos) {
+		if (count == samples.length) {
+			samples = Arrays.copyOf(samples, samples.length * 2);
+		}
+		samples[count++] = latencyNanos;
+	}
+
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * 지연 시간 요약 (ms 단위)
+	 */
+	public synchronized Map<String, Object> summarize() {
+		long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("count", count);
+		if (count == 0) {
+			return summary;
+		}
+
+		summary.put("minMs", toMillis(sorted[0]));
+		summary.put("meanMs", toMillis((long)Arrays.stream(sorted).average().orElse(0)));
+		summary.put("p50Ms", toMillis(percentile(sorted, 50)));
+		summary.put("p90Ms", toMillis(percentile(sorted, 90)));
+		summary.put("p99Ms", toMillis(percentile(sorted, 99)));
+		summary.put("p999Ms", toMillis(percentile(sorted, 99.9)));
+		summary.put("maxMs", toMillis(sorted[count - 1]));
+		return summary;
+	}
+
+	private long percentile(long[] sorted, double percentile) {
+		int index = (int)Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+	}
+
+	private double toMillis(long nanos) {
+		return Math.round(nanos / 1_000.0) / 1_000.0;
+	}
+}
@@ -0,0 +1,46 @@
+package seoul.seoulfest.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 속성)
+ */
+@Getter
+public class LoadTestConfig {
+
+	// 리포트 파일 이름 및 비교 기준 (예: 버전명, 브랜치명)
+	private final String label = System.getProperty("loadtest.label", "local");
+
+	private final int users = Integer.getInteger("loadtest.users", 200);
+	private final int rooms = Integer.getInteger("loadtest.rooms", 20);
+	private final int roomsPerUser = Integer.getInteger("loadtest.rooms-per-user", 1);
+
+	// 사용자별 전송 메시지 수와 전송 간격
+	private final int messagesPerUser = Integer.getInteger("loadtest.messages-per-user", 50);
+	private final long sendIntervalMillis = Long.getLong("loadtest.send-interval-ms", 200);
+
+	// 구독 완료 대기 시간 / 전송 후 수신 대기 최대 시간
+	private final long settleMillis = Long.getLong("loadtest.settle-ms", 2000);
+	private final long drainTimeoutMillis = Long.getLong("loadtest.drain-timeout-ms", 30000);
+
+	// 외부 Redis 사용 시 포트 지정 (미지정 시 임베디드 Redis 실행)
+	private final Integer redisPort = Integer.getInteger("loadtest.redis.port");
+
+	private final String reportDir = System.getProperty("loadtest.report-dir", "build/reports/load-test");
+
+	/**
+	 * 리포트에 기록할 설정 값
+	 */
+	public Map<String, Object> toReport() {
+		Map<String, Object> config = new LinkedHashMap<>();
+		config.put("users", users);
+		config.put("rooms", rooms);
+		config.put("roomsPerUser", roomsPerUser);
+		config.put("messagesPerUser", messagesPerUser);
+		config.put("sendIntervalMs", sendIntervalMillis);
+		return config;
+	}
+}
@@ -34,7 +34,8 @@ public class JwtFilter extends OncePerRequestFilter {
 		"/api/login",
 		"/api/token/exchange",
 		"/api/token/refresh",
-		"/ws-stomp/**"
+		"/ws-stomp/**",
+		"/ws-stomp-native"
 	);
 
 	private final JwtTokenProvider jwtTokenProvider;
@@ -0,0 +1,65 @@
+package seoul.seoulfest.chat.batch.step;
+
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.service.chatting.ChatMessageArchiver;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ChatArchiveStepConfig {
+
+	private static final String CUTOFF_KEY = "archiveCutoff";
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ChatMessageArchiver chatMessageArchiver;
+
+	/**
+	 * 오래된 채팅 메시지 아카이브 스텝 정의
+	 */
+	@Bean
+	public Step archiveChatMessagesStep() {
+		return new StepBuilder("archiveChatMessagesStep", jobRepository)
+			.tasklet(archiveChatMessagesTasklet(), transactionManager)
+			.build();
+	}
+
+	/**
+	 * 한 번 실행할 때마다 batch-size 개씩 옮기고, 남은 대상이 있으면 다시 실행 (실행마다 별도 트랜잭션)
+	 * - 기준 시각은 스텝 시작 시 한 번만 계산하여 실행 도중 대상이 늘어나지 않도록 함
+	 */
+	@Bean
+	public Tasklet archiveChatMessagesTasklet() {
+		return (contribution, chunkContext) -> {
+			ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+			if (!stepContext.containsKey(CUTOFF_KEY)) {
+				stepContext.put(CUTOFF_KEY, chatMessageArchiver.cutoff().toString());
+				log.info("채팅 메시지 아카이브 시작 - 기준 시각: {}", stepContext.getString(CUTOFF_KEY));
+			}
+			LocalDateTime cutoff = LocalDateTime.parse(stepContext.getString(CUTOFF_KEY));
+
+			int moved = chatMessageArchiver.archiveBatch(cutoff);
+			contribution.incrementWriteCount(moved);
+
+			if (moved < chatMessageArchiver.getBatchSize()) {
+				log.info("채팅 메시지 아카이브 완료 - 총 {}건 이동",
+					contribution.getStepExecution().getWriteCount() + contribution.getWriteCount());
+				return RepeatStatus.FINISHED;
+			}
+			return RepeatStatus.CONTINUABLE;
+		};
+	}
+}
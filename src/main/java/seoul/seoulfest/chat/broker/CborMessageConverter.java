@@ -0,0 +1,27 @@
+package seoul.seoulfest.chat.broker;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * CBOR 본문 메시지 변환기
+ * - 클라이언트가 content-type: application/cbor 로 보낸 SEND 프레임을 @MessageMapping 파라미터로 변환
+ * - content-type 이 정확히 일치할 때만 사용하여 기본 JSON 변환기를 대신하지 않도록 함
+ */
+public class CborMessageConverter extends MappingJackson2MessageConverter {
+
+	public static final MimeType APPLICATION_CBOR = MimeType.valueOf("application/cbor");
+
+	public CborMessageConverter() {
+		super(APPLICATION_CBOR);
+		CBORMapper mapper = new CBORMapper();
+		mapper.registerModule(new JavaTimeModule());
+		mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		setObjectMapper(mapper);
+		setStrictContentTypeMatch(true);
+	}
+}
@@ -0,0 +1,170 @@
+package seoul.seoulfest.chat.broker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 메시지 본문 CBOR 인코딩 협상 인터셉터
+ * - 네이티브 웹소켓 엔드포인트(/ws-stomp-native)로 연결하고 CONNECT 헤더에 "payload-encoding: cbor" 를 보낸 세션만 적용
+ * - 해당 세션으로 나가는 JSON MESSAGE 프레임을 CBOR 로 변환하고 application/octet-stream 으로 보내 바이너리 프레임으로 전송
+ *   (SockJS 는 텍스트 프레임만 지원하므로 기존 /ws-stomp 엔드포인트는 항상 JSON)
+ * - 브로드캐스트는 구독자마다 같은 본문 배열을 공유하므로 최근 변환 결과를 재사용하여 메시지당 한 번만 변환
+ * - 인바운드 채널(CONNECT/DISCONNECT)과 아웃바운드 채널(MESSAGE) 양쪽에 등록해야 함
+ */
+@Slf4j
+@Component
+public class CborPayloadInterceptor implements ChannelInterceptor {
+
+	public static final String ENCODING_HEADER = "payload-encoding";
+	public static final String CBOR = "cbor";
+
+	// 네이티브 웹소켓 엔드포인트로 연결된 세션 표시 (핸드셰이크 시 세션 속성에 저장)
+	public static final String BINARY_CAPABLE_ATTRIBUTE = "binaryCapable";
+
+	private static final int ENCODED_CACHE_SIZE = 64;
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+	private final CBORFactory cborFactory = new CBORFactory();
+
+	@Value("${chat.websocket.cbor.enabled:true}")
+	private boolean enabled;
+
+	// CBOR 를 협상한 세션 ID
+	private final Map<String, Boolean> cborSessions = new ConcurrentHashMap<>();
+
+	// 원본 JSON 본문(동일 인스턴스) -> CBOR 본문
+	private final Map<PayloadKey, byte[]> encodedCache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PayloadKey, byte[]> eldest) {
+			return size() > ENCODED_CACHE_SIZE;
+		}
+	};
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (!enabled) {
+			return message;
+		}
+
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+		SimpMessageType messageType = accessor.getMessageType();
+
+		if (messageType == SimpMessageType.CONNECT) {
+			registerSession(accessor);
+			return message;
+		}
+		if (messageType == SimpMessageType.DISCONNECT) {
+			cborSessions.remove(accessor.getSessionId());
+			return message;
+		}
+		// 구독자에게 나가는 메시지만 변환 (구독 ID가 없는 인바운드 SEND 는 제외)
+		if (messageType == SimpMessageType.MESSAGE && accessor.getSubscriptionId() != null
+			&& cborSessions.containsKey(accessor.getSessionId())) {
+			return encode(message, accessor);
+		}
+		return message;
+	}
+
+	public int getCborSessionCount() {
+		return cborSessions.size();
+	}
+
+	private void registerSession(StompHeaderAccessor accessor) {
+		if (!CBOR.equalsIgnoreCase(accessor.getFirstNativeHeader(ENCODING_HEADER))) {
+			return;
+		}
+
+		Map<String, Object> attributes = accessor.getSessionAttributes();
+		if (attributes == null || !Boolean.TRUE.equals(attributes.get(BINARY_CAPABLE_ATTRIBUTE))) {
+			log.debug("바이너리 프레임을 지원하지 않는 연결이므로 JSON 을 사용합니다: {}", accessor.getSessionId());
+			return;
+		}
+		cborSessions.put(accessor.getSessionId(), Boolean.TRUE);
+	}
+
+	/**
+	 * JSON 본문을 CBOR 로 변환한 새 메시지 생성 (JSON 이 아니면 그대로 반환)
+	 */
+	private Message<?> encode(Message<?> message, StompHeaderAccessor accessor) {
+		MimeType contentType = accessor.getContentType();
+		if (!(message.getPayload() instanceof byte[] json)
+			|| contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+			return message;
+		}
+
+		byte[] cbor;
+		try {
+			cbor = toCbor(json);
+		} catch (IOException e) {
+			log.warn("CBOR 변환 실패, JSON 으로 전송합니다: {}", e.getMessage());
+			return message;
+		}
+
+		StompHeaderAccessor encoded = StompHeaderAccessor.wrap(message);
+		encoded.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+		encoded.setNativeHeader(ENCODING_HEADER, CBOR);
+		encoded.setContentLength(cbor.length);
+		return MessageBuilder.createMessage(cbor, encoded.getMessageHeaders());
+	}
+
+	byte[] toCbor(byte[] json) throws IOException {
+		PayloadKey key = new PayloadKey(json);
+		synchronized (encodedCache) {
+			byte[] cached = encodedCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		// 트리를 만들지 않고 토큰 단위로 복사
+		ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+		try (JsonParser parser = jsonFactory.createParser(json);
+			 JsonGenerator generator = cborFactory.createGenerator(out)) {
+			parser.nextToken();
+			generator.copyCurrentStructure(parser);
+		}
+		byte[] cbor = out.toByteArray();
+
+		synchronized (encodedCache) {
+			encodedCache.put(key, cbor);
+		}
+		return cbor;
+	}
+
+	/**
+	 * 본문 배열 인스턴스 기준 키 (내용 비교 없이 동일 브로드캐스트만 재사용)
+	 */
+	private record PayloadKey(byte[] payload) {
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof PayloadKey other && other.payload == payload;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(payload);
+		}
+	}
+}
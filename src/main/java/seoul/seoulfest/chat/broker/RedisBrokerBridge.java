@@ -0,0 +1,164 @@
+package seoul.seoulfest.chat.broker;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.service.chatting.RecentMessageCache;
+import seoul.seoulfest.chat.service.chatting.StompDestinationParser;
+
+/**
+ * Redis pub/sub 기반 STOMP 메시지 다중 노드 전파 브리지
+ * - 브로커 채널로 들어온 채팅방/개인 큐 메시지를 Redis 채널로 발행
+ * - 다른 노드에서 발행한 메시지를 수신하여 현재 노드의 브로커 채널로 다시 전달
+ * - 각 노드는 자신에게 연결된 구독자에게만 전달하므로 중복 전송이 없음
+ * - chat.broker.mode=redis 일 때만 활성화
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+
+	public static final String CHANNEL = "chat:broker:fanout";
+
+	// 다른 노드에서 전달된 메시지임을 표시하는 헤더 (재발행 방지)
+	static final String ORIGIN_HEADER = "chatBrokerOrigin";
+
+	private static final String ROOM_TOPIC_PREFIX = "/topic/chat/room/";
+	private static final String USER_PREFIX = "/user/";
+	private static final String QUEUE_SEGMENT = "/queue/";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ObjectProvider<MessageChannel> brokerChannelProvider;
+	private final RecentMessageCache recentMessageCache;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public RedisBrokerBridge(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		@Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannelProvider,
+		RecentMessageCache recentMessageCache) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.brokerChannelProvider = brokerChannelProvider;
+		this.recentMessageCache = recentMessageCache;
+	}
+
+	/**
+	 * 브로커 채널로 전송되는 메시지를 Redis로 발행
+	 */
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		if (headers.containsKey(ORIGIN_HEADER)) {
+			return message;
+		}
+
+		if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+			|| !(message.getPayload() instanceof byte[] payload)) {
+			return message;
+		}
+
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		if (!isBridgedDestination(destination)) {
+			return message;
+		}
+
+		try {
+			MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+			BrokerEnvelope envelope = new BrokerEnvelope(nodeId, destination,
+				contentType != null ? contentType.toString() : null, payload);
+
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+		} catch (Exception e) {
+			// 전파에 실패해도 현재 노드의 구독자에게는 정상 전달
+			log.error("브로커 메시지 Redis 발행 실패: {} - {}", destination, e.getMessage());
+		}
+
+		return message;
+	}
+
+	/**
+	 * 다른 노드에서 발행한 메시지를 현재 노드의 브로커 채널로 전달
+	 */
+	@Override
+	public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+		BrokerEnvelope envelope;
+		try {
+			envelope = objectMapper.readValue(message.getBody(), BrokerEnvelope.class);
+		} catch (IOException e) {
+			log.error("브로커 메시지 역직렬화 실패: {}", e.getMessage());
+			return;
+		}
+
+		if (nodeId.equals(envelope.getOrigin())) {
+			return;
+		}
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(envelope.getDestination());
+		if (envelope.getContentType() != null) {
+			accessor.setContentType(MimeType.valueOf(envelope.getContentType()));
+		}
+		accessor.setHeader(ORIGIN_HEADER, envelope.getOrigin());
+
+		Message<byte[]> relayed = MessageBuilder.createMessage(envelope.getPayload(), accessor.getMessageHeaders());
+		brokerChannelProvider.getObject().send(relayed);
+
+		// 다른 노드에서 전송/삭제된 채팅 메시지를 현재 노드의 최근 메시지 캐시에도 반영
+		String destination = envelope.getDestination();
+		long roomId = StompDestinationParser.parseRoomTopic(destination);
+		if (roomId != StompDestinationParser.INVALID_ROOM_ID
+			&& destination.indexOf('/', ROOM_TOPIC_PREFIX.length()) < 0) {
+			recentMessageCache.applyBrokerPayload(roomId, envelope.getPayload());
+		}
+	}
+
+	/**
+	 * 다른 노드로 전파할 목적지인지 확인
+	 * - /topic/chat/room/** : 채팅방 메시지 및 상태 이벤트
+	 * - /user/{user}/queue/** : 개인 큐 (각 노드에서 자신에게 연결된 세션으로 변환)
+	 */
+	private boolean isBridgedDestination(String destination) {
+		if (destination == null) {
+			return false;
+		}
+		if (destination.startsWith(ROOM_TOPIC_PREFIX)) {
+			return true;
+		}
+		return destination.startsWith(USER_PREFIX) && destination.indexOf(QUEUE_SEGMENT, USER_PREFIX.length()) > 0;
+	}
+
+	/**
+	 * Redis로 전송되는 메시지 형식
+	 */
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class BrokerEnvelope {
+		private String origin;        // 발행한 노드 ID
+		private String destination;   // STOMP 목적지
+		private String contentType;   // 페이로드 타입
+		private byte[] payload;       // 변환된 메시지 본문
+	}
+}
@@ -4,13 +4,17 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import seoul.seoulfest.auth.exception.AuthErrorCode;
+import seoul.seoulfest.chat.dto.request.chatting.request.ChatHistoryRequest;
 import seoul.seoulfest.chat.dto.request.chatting.request.ChatMessageRequest;
 import seoul.seoulfest.chat.dto.request.chatting.request.DeleteMessageRequest;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSliceResponse;
+import seoul.seoulfest.chat.metrics.ChatMetrics;
 import seoul.seoulfest.chat.service.chatting.ChatMessageService;
 import seoul.seoulfest.exception.BusinessException;
 
@@ -20,6 +24,7 @@ import seoul.seoulfest.exception.BusinessException;
 public class ChatMessageController {
 
 	private final ChatMessageService chatMessageService;
+	private final ChatMetrics chatMetrics;
 
 	/**
 	 * 채팅 메시지 전송
@@ -33,7 +38,8 @@ public class ChatMessageController {
 			String verifyId = getUserVerifyId(headerAccessor);
 
 			// 서비스를 통해 메시지 처리 및 발송
-			chatMessageService.sendMessage(messageRequest, verifyId);
+			chatMetrics.recordHandler("send", () -> chatMessageService.sendMessage(messageRequest, verifyId));
+			chatMetrics.recordRoomMessage(messageRequest.getChatRoomId());
 		} catch (Exception e) {
 			log.error("메시지 전송 오류: {}", e.getMessage(), e);
 			throw e;
@@ -49,7 +55,8 @@ public class ChatMessageController {
 		SimpMessageHeaderAccessor headerAccessor) {
 		try {
 			String verifyId = getUserVerifyId(headerAccessor);
-			chatMessageService.enterChatRoom(roomId, verifyId);
+			chatMetrics.recordHandler("enter", () -> chatMessageService.enterChatRoom(roomId, verifyId,
+				headerAccessor.getSessionId()));
 		} catch (Exception e) {
 			log.error("채팅방 입장 오류: {}", e.getMessage(), e);
 			throw e;
@@ -65,7 +72,7 @@ public class ChatMessageController {
 
 		try {
 			String verifyId = getUserVerifyId(headerAccessor);
-			chatMessageService.leaveChatRoom(roomId, verifyId);
+			chatMetrics.recordHandler("leave", () -> chatMessageService.leaveChatRoom(roomId, verifyId));
 		} catch (Exception e) {
 			log.error("채팅방 퇴장 오류: {}", e.getMessage(), e);
 			throw e;
@@ -86,7 +93,7 @@ public class ChatMessageController {
 
 			// 서비스를 통해 메시지 삭제 처리
 			// 삭제 후 웹소켓을 통해 해당 채팅방의 모든 사용자에게 삭제 이벤트 발송
-			chatMessageService.deleteMessage(deleteRequest.getMessageId(), verifyId);
+			chatMetrics.recordHandler("delete", () -> chatMessageService.deleteMessage(deleteRequest.getMessageId(), verifyId));
 		} catch (Exception e) {
 			log.error("메시지 삭제 오류: {}", e.getMessage(), e);
 			throw e;
@@ -102,13 +109,33 @@ public class ChatMessageController {
 		SimpMessageHeaderAccessor headerAccessor) {
 		try {
 			String verifyId = getUserVerifyId(headerAccessor);
-			chatMessageService.markAsRead(roomId, verifyId);
+			chatMetrics.recordHandler("read", () -> chatMessageService.markAsRead(roomId, verifyId));
 		} catch (Exception e) {
 			log.error("메시지 읽음 처리 오류: {}", e.getMessage(), e);
 			throw e;
 		}
 	}
 
+	/**
+	 * 채팅방 이전 메시지 커서 기반 조회
+	 * - 클라이언트가 "/app/chat/room/{roomId}/history"로 요청하면 요청한 세션의 "/user/queue/history"로 응답
+	 */
+	@MessageMapping("/chat/room/{roomId}/history")
+	@SendToUser(destinations = "/queue/history", broadcast = false)
+	public ChatMessageSliceResponse getMessageHistory(@DestinationVariable Long roomId,
+		@Payload ChatHistoryRequest historyRequest,
+		SimpMessageHeaderAccessor headerAccessor) {
+		try {
+			String verifyId = getUserVerifyId(headerAccessor);
+			int size = historyRequest.getSize() != null ? historyRequest.getSize() : 20;
+			return chatMetrics.recordHandler("history",
+				() -> chatMessageService.getMessagesByCursor(roomId, historyRequest.getCursor(), verifyId, size));
+		} catch (Exception e) {
+			log.error("메시지 이력 조회 오류: {}", e.getMessage(), e);
+			throw e;
+		}
+	}
+
 	/**
 	 * 헤더 액세서에서 사용자 인증 ID 추출
 	 * - 인터셉터에서 설정한 Principal 또는 세션 속성에서 가져옴
@@ -13,7 +13,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import seoul.seoulfest.auth.custom.CustomUserDetails;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageContextResponse;
 import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSliceResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSyncResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatPresenceResponse;
 import seoul.seoulfest.chat.service.chatting.ChatMessageService;
 import seoul.seoulfest.util.response.Response;
 
@@ -54,4 +58,89 @@ public class ChatMessageRestController {
 
 		return Response.ok(messages).toResponseEntity();
 	}
+
+	/**
+	 * 채팅방 메시지 커서 기반 조회 (무한 스크롤용)
+	 * - 전체 개수를 세지 않고 cursor(마지막으로 로드된 메시지 ID) 이전 메시지를 조회
+	 * - 응답의 nextCursor를 다음 요청의 cursor로 사용
+	 */
+	@GetMapping("/rooms/{roomId}/messages/cursor")
+	public ResponseEntity<Response<ChatMessageSliceResponse>> getMessagesByCursor(
+		@PathVariable Long roomId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+		ChatMessageSliceResponse messages = chatMessageService.getMessagesByCursor(
+			roomId, cursor, userDetails.getName(), size);
+
+		return Response.ok(messages).toResponseEntity();
+	}
+
+	/**
+	 * 순번 기반 재동기화 (재연결 시 놓친 메시지만 조회)
+	 * - afterSeq: 마지막으로 받은 메시지의 seq
+	 * - 응답의 hasMore 가 true 면 lastSeq 를 afterSeq 로 다시 요청
+	 */
+	@GetMapping("/rooms/{roomId}/messages/sync")
+	public ResponseEntity<Response<ChatMessageSyncResponse>> syncMessages(
+		@PathVariable Long roomId,
+		@RequestParam Long afterSeq,
+		@RequestParam(defaultValue = "100") int limit,
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+		ChatMessageSyncResponse messages = chatMessageService.syncMessages(
+			roomId, afterSeq, userDetails.getName(), limit);
+
+		return Response.ok(messages).toResponseEntity();
+	}
+
+	/**
+	 * 채팅방 메시지 검색
+	 * - 검색어를 포함하는 메시지를 최신순으로 조회
+	 * - 응답의 nextCursor를 다음 요청의 cursor로 사용
+	 */
+	@GetMapping("/rooms/{roomId}/messages/search")
+	public ResponseEntity<Response<ChatMessageSliceResponse>> searchMessages(
+		@PathVariable Long roomId,
+		@RequestParam String keyword,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+		ChatMessageSliceResponse messages = chatMessageService.searchMessages(
+			roomId, keyword, cursor, userDetails.getName(), size);
+
+		return Response.ok(messages).toResponseEntity();
+	}
+
+	/**
+	 * 특정 메시지 전후 메시지 조회 (검색 결과 위치로 이동)
+	 * - window: 기준 메시지 앞뒤로 조회할 메시지 수
+	 */
+	@GetMapping("/rooms/{roomId}/messages/{messageId}/context")
+	public ResponseEntity<Response<ChatMessageContextResponse>> getMessageContext(
+		@PathVariable Long roomId,
+		@PathVariable Long messageId,
+		@RequestParam(defaultValue = "10") int window,
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+		ChatMessageContextResponse messages = chatMessageService.getMessageContext(
+			roomId, messageId, userDetails.getName(), window);
+
+		return Response.ok(messages).toResponseEntity();
+	}
+
+	/**
+	 * 채팅방 접속자 수 조회
+	 */
+	@GetMapping("/rooms/{roomId}/presence")
+	public ResponseEntity<Response<ChatPresenceResponse>> getPresence(
+		@PathVariable Long roomId,
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+		ChatPresenceResponse presence = chatMessageService.getPresence(roomId, userDetails.getName());
+
+		return Response.ok(presence).toResponseEntity();
+	}
 }
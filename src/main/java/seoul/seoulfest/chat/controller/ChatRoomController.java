@@ -16,12 +16,15 @@ import org.springframework.web.bind.annotation.RestController;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import seoul.seoulfest.auth.custom.CustomUserDetails;
+import seoul.seoulfest.chat.dto.request.chatroom.BulkInviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.CreateChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.InviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.KickChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.UpdateChatRoomReq;
+import seoul.seoulfest.chat.dto.response.BulkInviteChatRoomRes;
 import seoul.seoulfest.chat.dto.response.ChatRoomRes;
 import seoul.seoulfest.chat.dto.response.MyChatRoomRes;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
 import seoul.seoulfest.chat.service.chatroom.ChatRoomService;
 import seoul.seoulfest.util.response.Response;
 
@@ -89,6 +92,17 @@ public class ChatRoomController {
 		return Response.ok().toResponseEntity();
 	}
 
+	/**
+	 * 채팅방 일괄 초대 (이메일, 고유번호 목록)
+	 * - 존재하지 않거나 이미 참여 이력이 있는 회원은 제외하고 결과로 반환
+	 */
+	@PostMapping("/chatrooms/invite/bulk")
+	public ResponseEntity<Response<BulkInviteChatRoomRes>> inviteChatRoomBulk(
+		@RequestBody @Valid BulkInviteChatRoomReq request) {
+		BulkInviteChatRoomRes result = chatRoomService.inviteChatRoomBulk(request);
+		return Response.ok(result).toResponseEntity();
+	}
+
 	/**
 	 * 채팅방 강퇴
 	 * @param reqeust
@@ -121,14 +135,18 @@ public class ChatRoomController {
 
 	/**
 	 * 채팅방 목록 전체 조회
+	 * - sort: latest(최근 활동순), participation(참여 인원순), relevance(검색어 관련도순)
+	 * - sort 를 지정하지 않으면 검색어가 있을 때 관련도순, 없을 때 최근 활동순
 	 */
 	@GetMapping("/chatrooms")
 	public ResponseEntity<Response<Page<ChatRoomRes>>> listAllChatRooms(
 		@RequestParam(defaultValue = "1", required = false) int page,
 		@RequestParam(defaultValue = "10", required = false) int size,
-		@RequestParam(required = false) String keyword) {
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) String sort) {
 
-		Page<ChatRoomRes> allChatRooms = chatRoomService.listAllChatRooms(page, size, keyword);
+		Page<ChatRoomRes> allChatRooms = chatRoomService.listAllChatRooms(page, size, keyword,
+			ChatRoomSortType.resolve(sort, keyword));
 		return Response.ok(allChatRooms).toResponseEntity();
 	}
 
@@ -139,9 +157,10 @@ public class ChatRoomController {
 	public ResponseEntity<Response<Page<ChatRoomRes>>> listChatRoomsByCategory(
 		@PathVariable String category,
 		@RequestParam(defaultValue = "1", required = false) int page,
-		@RequestParam(defaultValue = "10", required = false) int size) {
+		@RequestParam(defaultValue = "10", required = false) int size,
+		@RequestParam(defaultValue = "latest", required = false) String sort) {
 
-		Page<ChatRoomRes> categoryRooms = chatRoomService.listChatRoomsByCategory(page, size, category);
+		Page<ChatRoomRes> categoryRooms = chatRoomService.listChatRoomsByCategory(page, size, category, ChatRoomSortType.from(sort));
 		return Response.ok(categoryRooms).toResponseEntity();
 	}
 
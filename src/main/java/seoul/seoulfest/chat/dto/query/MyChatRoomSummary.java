@@ -0,0 +1,28 @@
+package seoul.seoulfest.chat.dto.query;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import seoul.seoulfest.chat.enums.ChatRoomType;
+
+/**
+ * 내 채팅방 목록 조회용 프로젝션
+ * - 채팅방 정보, 참여 인원 수, 내 읽음 정보, 마지막 메시지 스냅샷을 한 번의 쿼리로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class MyChatRoomSummary {
+
+	private Long chatRoomId;
+	private String name;
+	private ChatRoomType type;
+	private String fromType;
+	private Long fromId;
+	private int participation;
+	private LocalDateTime lastReadAt;
+	private LocalDateTime joinedAt;
+	private LocalDateTime lastMessageAt;
+	private String lastMessageContent;
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package seoul.seoulfest.chat.dto.request.chatroom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BulkInviteChatRoomReq {
+
+	@NotNull
+	private Long chatRoomId;
+
+	@Size(max = 200, message = "한 번에 최대 200명까지 초대할 수 있습니다")
+	private List<String> verifyIds = new ArrayList<>();
+
+	@Size(max = 200, message = "한 번에 최대 200명까지 초대할 수 있습니다")
+	private List<String> emails = new ArrayList<>();
+
+	@AssertTrue(message = "emails 또는 verifyIds 중 하나는 반드시 입력해야 합니다")
+	public boolean isEmailsOrVerifyIdsProvided() {
+		return (verifyIds != null && !verifyIds.isEmpty()) || (emails != null && !emails.isEmpty());
+	}
+}
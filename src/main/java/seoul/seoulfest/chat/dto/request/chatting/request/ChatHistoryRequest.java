@@ -0,0 +1,18 @@
+package seoul.seoulfest.chat.dto.request.chatting.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryRequest {
+
+	private Long cursor;    // 마지막으로 로드된 메시지 ID (없으면 최신 메시지부터)
+	private Integer size;   // 조회할 메시지 수
+}
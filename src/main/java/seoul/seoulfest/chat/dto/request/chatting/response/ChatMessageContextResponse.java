@@ -0,0 +1,26 @@
+package seoul.seoulfest.chat.dto.request.chatting.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 메시지 전후 메시지 응답 DTO (검색 결과로 이동할 때 사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageContextResponse {
+	private List<ChatMessageResponse> messages;  // 기준 메시지 전후 메시지 목록 (최신순)
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Long anchorMessageId;                 // 기준 메시지 ID
+	private boolean hasOlder;                     // 더 이전 메시지 존재 여부 (커서 조회로 이어서 조회)
+	private boolean hasNewer;                     // 더 최신 메시지 존재 여부
+}
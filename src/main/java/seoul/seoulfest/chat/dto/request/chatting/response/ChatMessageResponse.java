@@ -2,6 +2,9 @@ package seoul.seoulfest.chat.dto.request.chatting.response;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,8 +20,11 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessageResponse {
+	// 시간 순 ID는 2^53 을 넘으므로 JavaScript 에서 정밀도가 손실되지 않도록 문자열로 직렬화
+	@JsonSerialize(using = ToStringSerializer.class)
 	private Long messageId;           // 메시지 ID
 	private Long chatRoomId;          // 채팅방 ID
+	private Long seq;                 // 채팅방 내 메시지 순번 (재동기화 기준)
 	private Long senderId;            // 발신자 ID
 	private String senderName;        // 발신자 이름
 	private String content;           // 메시지 내용
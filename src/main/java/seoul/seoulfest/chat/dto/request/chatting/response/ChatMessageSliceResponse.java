@@ -0,0 +1,25 @@
+package seoul.seoulfest.chat.dto.request.chatting.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 채팅 메시지 목록 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSliceResponse {
+	private List<ChatMessageResponse> messages;  // 메시지 목록 (최신순)
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Long nextCursor;                      // 다음 조회에 사용할 커서 (없으면 null)
+	private boolean hasNext;                      // 이전 메시지 존재 여부
+}
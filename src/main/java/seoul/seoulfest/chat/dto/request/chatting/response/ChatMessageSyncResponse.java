@@ -0,0 +1,21 @@
+package seoul.seoulfest.chat.dto.request.chatting.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 순번 기반 재동기화 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSyncResponse {
+	private List<ChatMessageResponse> messages;  // afterSeq 이후 메시지 목록 (순번 오름차순)
+	private Long lastSeq;                         // 다음 요청에 사용할 afterSeq
+	private boolean hasMore;                      // 아직 받지 않은 메시지 존재 여부 (true 면 lastSeq 로 다시 요청)
+}
@@ -0,0 +1,27 @@
+package seoul.seoulfest.chat.dto.request.chatting.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 접속 상태 요약 이벤트 DTO
+ * - 일정 주기 동안 모인 입장/퇴장을 하나로 묶어 /topic/chat/room/{roomId}/status 로 발송
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceDigest {
+	private Long chatRoomId;                 // 채팅방 ID
+	private String eventType;                // 이벤트 타입 (PRESENCE)
+	private int joined;                      // 주기 동안 입장한 회원 수
+	private int left;                        // 주기 동안 퇴장(나가기, 강퇴 포함)한 회원 수
+	private long online;                     // 현재 접속 중인 회원 수
+	private List<ChatUserStatusEvent> events; // 개별 상태 이벤트 (최대 digest-max-events 개, 나머지는 수만 집계)
+	private LocalDateTime timestamp;         // 요약 생성 시간
+}
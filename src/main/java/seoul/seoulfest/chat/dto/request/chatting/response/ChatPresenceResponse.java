@@ -0,0 +1,18 @@
+package seoul.seoulfest.chat.dto.request.chatting.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 접속자 수 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceResponse {
+	private Long chatRoomId;  // 채팅방 ID
+	private long online;      // 현재 접속 중인 회원 수
+}
@@ -20,6 +20,6 @@ public class ChatUserStatusEvent {
 	private Long chatRoomId;           // 채팅방 ID
 	private Long memberId;             // 회원 ID
 	private String memberName;         // 회원 이름
-	private String eventType;          // 이벤트 타입 (JOIN, LEAVE)
+	private String eventType;          // 이벤트 타입 (JOIN, LEAVE, EXIT, KICK)
 	private LocalDateTime timestamp;   // 이벤트 발생 시간
 }
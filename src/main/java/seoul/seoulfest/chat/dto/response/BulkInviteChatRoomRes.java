@@ -0,0 +1,20 @@
+package seoul.seoulfest.chat.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInviteChatRoomRes {
+
+	private Long chatRoomId;
+	private int invitedCount;            // 새로 초대된 회원 수
+	private List<String> alreadyMembers; // 이미 참여(탈퇴, 강퇴 포함) 이력이 있어 제외된 verifyId/email
+	private List<String> notFound;       // 존재하지 않는 verifyId/email
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import seoul.seoulfest.util.BaseEntity;
+import seoul.seoulfest.util.id.TimeOrderedId;
 
 @Entity
 @Getter
@@ -14,7 +15,7 @@ import seoul.seoulfest.util.BaseEntity;
 public class ChatMedia extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	@Column(name = "media_id")
 	private Long mediaId;
 
@@ -0,0 +1,35 @@
+package seoul.seoulfest.chat.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지나 chat_media 에서 옮겨진 첨부 미디어
+ * - ChatMessageArchiver 가 메시지와 같은 트랜잭션에서 JDBC 로만 기록 (메시지의 모든 첨부 S3 키 보존)
+ * - chat_message_archive 와 연관관계를 두지 않고 메시지 ID 만 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_media_archive", indexes = {
+	@Index(name = "idx_chat_media_archive_message_id", columnList = "message_id")
+})
+public class ChatMediaArchive {
+
+	@Id
+	@Column(name = "media_id")
+	private Long id;
+
+	@Column(name = "message_id", nullable = false)
+	private Long messageId;
+
+	@Column(name = "s3_key", nullable = false, length = 255)
+	private String s3Key;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
@@ -4,23 +4,27 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.hibernate.annotations.CreationTimestamp;
-
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import seoul.seoulfest.member.entity.Member;
+import seoul.seoulfest.util.id.TimeOrderedId;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+	// 채팅방별 커서(keyset) 기반 메시지 조회용 인덱스
+	@Index(name = "idx_chat_message_room_id_message_id", columnList = "chat_room_id, message_id"),
+	// 채팅방별 순번 기반 재동기화용 인덱스 (순번 중복 방지)
+	@Index(name = "uk_chat_message_room_id_seq", columnList = "chat_room_id, seq", unique = true)
+})
 public class ChatMessage {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	@Column(name = "message_id")
 	private Long id;
 
@@ -32,13 +36,17 @@ public class ChatMessage {
 	@JoinColumn(name = "sender_id", nullable = false)
 	private Member sender;
 
+	// 채팅방 내 메시지 순번 (채팅방마다 1부터 단조 증가, 순번 도입 이전 메시지는 null)
+	@Column(name = "seq")
+	private Long seq;
+
 	@Column(columnDefinition = "TEXT")
 	private String content;
 
 	@Column(length = 50)
 	private String type;  // 예: "TEXT", "IMAGE", "FILE" 등
 
-	@CreationTimestamp
+	// INSERT 가 flush 시점까지 지연되므로 생성 시점에 설정 (저장 직후 브로드캐스트/스냅샷에서 사용)
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -50,12 +58,15 @@ public class ChatMessage {
 	private List<ChatMedia> chatMedias = new ArrayList<>();
 
 	@Builder
-	public ChatMessage(ChatRoom chatRoom, Member sender, String content, String type, LocalDateTime deletedAt) {
+	public ChatMessage(ChatRoom chatRoom, Member sender, Long seq, String content, String type,
+		LocalDateTime deletedAt) {
 		this.chatRoom = chatRoom;
 		this.sender = sender;
+		this.seq = seq;
 		this.content = content;
 		this.type = type;
 		this.deletedAt = deletedAt;
+		this.createdAt = LocalDateTime.now();
 	}
 
 	// 연관관계 편의 메서드: 채팅방 설정
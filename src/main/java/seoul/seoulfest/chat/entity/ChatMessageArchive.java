@@ -0,0 +1,54 @@
+package seoul.seoulfest.chat.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지나 chat_message 에서 옮겨진 메시지
+ * - ChatMessageArchiver 가 JDBC 로만 기록하고, 애플리케이션에서는 조회만 함
+ * - 채팅방/회원과 연관관계를 두지 않고 ID 만 보관 (채팅방 삭제와 무관하게 유지)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message_archive", indexes = {
+	@Index(name = "idx_chat_message_archive_room_id_message_id", columnList = "chat_room_id, message_id")
+})
+public class ChatMessageArchive {
+
+	@Id
+	@Column(name = "message_id")
+	private Long id;
+
+	@Column(name = "chat_room_id", nullable = false)
+	private Long chatRoomId;
+
+	@Column(name = "seq")
+	private Long seq;
+
+	@Column(name = "sender_id", nullable = false)
+	private Long senderId;
+
+	@Column(columnDefinition = "TEXT")
+	private String content;
+
+	@Column(length = 50)
+	private String type;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "deleted_at")
+	private LocalDateTime deletedAt;
+
+	// 첫 번째 첨부 미디어 S3 키 (없으면 null, 응답용 - 전체 첨부는 chat_media_archive 에 보관)
+	@Column(name = "media_s3_key", length = 255)
+	private String mediaS3Key;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
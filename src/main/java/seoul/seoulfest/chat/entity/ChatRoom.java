@@ -17,7 +17,10 @@ import seoul.seoulfest.util.BaseEntity;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "chat_room")
+@Table(name = "chat_room", indexes = {
+	// 참여 인원순 정렬용 인덱스
+	@Index(name = "idx_chat_room_type_participant_count", columnList = "type, participant_count")
+})
 public class ChatRoom extends BaseEntity {
 
 	@Id
@@ -50,6 +53,24 @@ public class ChatRoom extends BaseEntity {
 	@Setter
 	private LocalDateTime deletedAt;
 
+	// 마지막 메시지 스냅샷 (채팅방 목록 조회 시 메시지 테이블 조회 없이 사용)
+	@Column(name = "last_message_id")
+	private Long lastMessageId;
+
+	@Column(name = "last_message_content", length = 100)
+	private String lastMessageContent;
+
+	@Column(name = "last_message_at")
+	private LocalDateTime lastMessageAt;
+
+	@Column(name = "last_message_sender_id")
+	private Long lastMessageSenderId;
+
+	// 참여 중(ACTIVE)인 회원 수
+	// - 참여/초대/탈퇴/강퇴 시 ChatRoomRepository 의 원자적 update 로만 변경 (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+	@Column(name = "participant_count", nullable = false, updatable = false)
+	private int participantCount = 0;
+
 	// 채팅방에 속한 회원들
 	@OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<ChatRoomMember> chatRoomMembers = new ArrayList<>();
@@ -0,0 +1,35 @@
+package seoul.seoulfest.chat.enums;
+
+/**
+ * STOMP 브로커 모드 (chat.broker.mode)
+ * - SIMPLE: 단일 노드 내장 브로커 (기본값)
+ * - REDIS: 노드마다 내장 브로커를 두고 Redis pub/sub 으로 메시지 전파
+ * - RELAY: 외부 STOMP 브로커(RabbitMQ 등)로 중계
+ */
+public enum ChatBrokerMode {
+	SIMPLE, REDIS, RELAY;
+
+	/**
+	 * 설정 값을 브로커 모드로 변환 (대소문자 무시, 없으면 SIMPLE)
+	 *
+	 * @throws IllegalArgumentException 알 수 없는 값인 경우
+	 */
+	public static ChatBrokerMode from(String value) {
+		if (value == null || value.isBlank()) {
+			return SIMPLE;
+		}
+		for (ChatBrokerMode mode : values()) {
+			if (mode.name().equalsIgnoreCase(value.trim())) {
+				return mode;
+			}
+		}
+		throw new IllegalArgumentException("알 수 없는 chat.broker.mode: " + value);
+	}
+
+	/**
+	 * 여러 노드가 메시지를 주고받는 모드인지 확인
+	 */
+	public boolean isMultiNode() {
+		return this != SIMPLE;
+	}
+}
@@ -0,0 +1,51 @@
+package seoul.seoulfest.chat.enums;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 채팅방 목록 정렬 기준
+ * - LATEST: 최근 활동순 (기본값)
+ * - PARTICIPATION: 참여 인원순, 같으면 최근 활동순
+ * - RELEVANCE: 검색어 관련도순 (검색 색인 사용, 색인을 쓸 수 없으면 최근 활동순)
+ */
+public enum ChatRoomSortType {
+	LATEST(Sort.by(Sort.Direction.DESC, "updatedAt")),
+	PARTICIPATION(Sort.by(Sort.Direction.DESC, "participantCount").and(Sort.by(Sort.Direction.DESC, "updatedAt"))),
+	RELEVANCE(Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+	private final Sort sort;
+
+	ChatRoomSortType(Sort sort) {
+		this.sort = sort;
+	}
+
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * 요청 파라미터를 정렬 기준으로 변환 (없거나 알 수 없는 값이면 최근 활동순)
+	 */
+	public static ChatRoomSortType from(String value) {
+		if (value == null) {
+			return LATEST;
+		}
+		for (ChatRoomSortType type : values()) {
+			if (type.name().equalsIgnoreCase(value)) {
+				return type;
+			}
+		}
+		return LATEST;
+	}
+
+	/**
+	 * 검색 요청의 정렬 기준 결정
+	 * - 정렬을 지정하지 않은 검색은 관련도순, 검색어가 없으면 최근 활동순
+	 */
+	public static ChatRoomSortType resolve(String value, String keyword) {
+		if (value == null || value.isBlank()) {
+			return (keyword == null || keyword.isBlank()) ? LATEST : RELEVANCE;
+		}
+		return from(value);
+	}
+}
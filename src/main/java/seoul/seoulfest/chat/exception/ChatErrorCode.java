@@ -20,7 +20,10 @@ public enum ChatErrorCode implements ErrorCode {
 	INVALID_FILE_TYPE("CHT-010",HttpStatus.BAD_REQUEST, "지원하지 않는 파일 타입"),
 	FILE_UPLOAD_FAILED("CHT-011",HttpStatus.BAD_REQUEST, "파일 업로드 실패"),
 	KICKED_CHATROOM_MEMBER("CHT-012",HttpStatus.BAD_REQUEST, "추방된 사용자"),
-	EXITED_CHATROOM_MEMBER("CHT_013", HttpStatus.FORBIDDEN, "채팅방을 탈퇴한 회원입니다.");
+	EXITED_CHATROOM_MEMBER("CHT_013", HttpStatus.FORBIDDEN, "채팅방을 탈퇴한 회원입니다."),
+	TOO_MANY_MESSAGES("CHT-014", HttpStatus.TOO_MANY_REQUESTS, "메시지 전송 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+	MESSAGE_PENDING("CHT-015", HttpStatus.CONFLICT, "아직 저장 중인 메시지입니다. 잠시 후 다시 시도해주세요."),
+	MESSAGE_SEQ_UNAVAILABLE("CHT-016", HttpStatus.SERVICE_UNAVAILABLE, "메시지 순번을 발급할 수 없습니다. 잠시 후 다시 시도해주세요.");
 	;
 
 	private final String code;
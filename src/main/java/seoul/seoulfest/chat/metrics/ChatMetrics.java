@@ -0,0 +1,359 @@
+package seoul.seoulfest.chat.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import seoul.seoulfest.chat.service.chatting.StompDestinationParser;
+
+/**
+ * 채팅 메시징 메트릭
+ * - 인바운드 STOMP 프레임 수(명령/허용 여부별), 세션/구독 수, 핸들러 처리 시간, 브로커 발행 수와 fan-out 크기, 아웃바운드 프레임 크기
+ * - 채팅방별 메시지 수는 최근 구간의 상위 top-k 채팅방만 room 태그로 구분하고 나머지는 "other" 로 집계
+ *   (room 태그 값은 최대 max-tagged-rooms 개로 제한, tagged-room-idle-windows 구간 연속으로 상위권에 없으면 태그 제거)
+ * - 구간(window-ms)별 채팅방 메시지 수로 가장 활발한 채팅방 목록을 계산 (actuator chatrooms 엔드포인트)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMetrics {
+
+	private static final String OTHER_ROOM = "other";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.metrics.hot-rooms.window-ms:10000}")
+	private long windowMillis;
+
+	@Value("${chat.metrics.hot-rooms.top-k:20}")
+	private int topK;
+
+	@Value("${chat.metrics.max-tagged-rooms:100}")
+	private int maxTaggedRooms;
+
+	// 상위권에서 빠진 뒤 room 태그를 유지할 구간 수 (잠깐 순위가 바뀔 때마다 시계열이 생겼다 사라지지 않도록)
+	@Value("${chat.metrics.tagged-room-idle-windows:6}")
+	private int taggedRoomIdleWindows;
+
+	// 세션 ID -> (구독 ID -> 목적지)
+	private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+	// 목적지 -> 이 노드의 구독자 수
+	private final Map<String, AtomicInteger> subscribersByDestination = new ConcurrentHashMap<>();
+
+	// 현재 구간의 채팅방별 메시지 수
+	private volatile Map<Long, LongAdder> currentWindow = new ConcurrentHashMap<>();
+
+	// 직전 구간 기준 활발한 채팅방 (메시지 수 내림차순)
+	@Getter
+	private volatile List<HotRoom> hotRooms = List.of();
+
+	// room 태그로 구분하는 채팅방 ID -> 메시지 카운터
+	private final Map<Long, Counter> taggedRoomCounters = new ConcurrentHashMap<>();
+
+	// room 태그 채팅방 ID -> 마지막으로 상위권이었던 구간 번호 (rollWindow 스레드에서만 사용)
+	private final Map<Long, Long> taggedRoomLastHotWindow = new HashMap<>();
+	private long windowSequence;
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+	private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+
+	private Counter otherRoomCounter;
+	private DistributionSummary fanoutSummary;
+	private DistributionSummary outboundBytesSummary;
+
+	@PostConstruct
+	public void init() {
+		Gauge.builder("chat.stomp.sessions", subscriptions, Map::size)
+			.description("이 노드에 연결된 STOMP 세션 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.stomp.subscriptions", this, ChatMetrics::getSubscriptionCount)
+			.description("이 노드의 활성 구독 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.stomp.destinations", subscribersByDestination, Map::size)
+			.description("구독자가 있는 목적지 수")
+			.register(meterRegistry);
+
+		otherRoomCounter = Counter.builder("chat.room.messages").tag("room", OTHER_ROOM).register(meterRegistry);
+		fanoutSummary = DistributionSummary.builder("chat.broker.fanout")
+			.description("브로드캐스트 한 건당 이 노드의 구독자 수")
+			.register(meterRegistry);
+		outboundBytesSummary = DistributionSummary.builder("chat.stomp.outbound.bytes")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 인바운드 STOMP 프레임 기록 (StompInterceptor 처리 결과 포함)
+	 *
+	 * @param accepted 인터셉터를 통과했으면 true
+	 */
+	public void recordInbound(StompHeaderAccessor accessor, boolean accepted) {
+		StompCommand command = accessor.getCommand();
+		if (command == null) {
+			return;
+		}
+		counter("chat.stomp.inbound", "command", command.name(), "result", accepted ? "accepted" : "rejected")
+			.increment();
+
+		String sessionId = accessor.getSessionId();
+		if (sessionId == null) {
+			return;
+		}
+
+		switch (command) {
+			case CONNECT, STOMP -> {
+				if (accepted) {
+					subscriptions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+				}
+			}
+			case SUBSCRIBE -> {
+				if (accepted) {
+					addSubscription(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+				}
+			}
+			case UNSUBSCRIBE -> removeSubscription(sessionId, accessor.getSubscriptionId());
+			case DISCONNECT -> removeSession(sessionId);
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * 메시지 핸들러 처리 시간 기록
+	 */
+	public <T> T recordHandler(String action, Supplier<T> handler) {
+		long start = System.nanoTime();
+		String outcome = "error";
+		try {
+			T result = handler.get();
+			outcome = "success";
+			return result;
+		} finally {
+			handlerTimer(action, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public void recordHandler(String action, Runnable handler) {
+		recordHandler(action, () -> {
+			handler.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 채팅방 메시지 전송 기록
+	 */
+	public void recordRoomMessage(Long chatRoomId) {
+		currentWindow.computeIfAbsent(chatRoomId, id -> new LongAdder()).increment();
+
+		Counter counter = taggedRoomCounters.get(chatRoomId);
+		(counter != null ? counter : otherRoomCounter).increment();
+	}
+
+	/**
+	 * 브로커 채널 인터셉터 (발행 수, fan-out 크기)
+	 */
+	public ChannelInterceptor brokerChannelInterceptor() {
+		return new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+					return message;
+				}
+
+				String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+				counter("chat.broker.published", "type", destinationType(destination)).increment();
+
+				AtomicInteger subscribers = destination != null ? subscribersByDestination.get(destination) : null;
+				fanoutSummary.record(subscribers != null ? subscribers.get() : 0);
+				return message;
+			}
+		};
+	}
+
+	/**
+	 * 클라이언트 아웃바운드 채널 인터셉터 (프레임 수, 본문 크기)
+	 */
+	public ChannelInterceptor outboundChannelInterceptor() {
+		return new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+				counter("chat.stomp.outbound", "type", messageType != null ? messageType.name() : "OTHER").increment();
+
+				if (message.getPayload() instanceof byte[] payload) {
+					outboundBytesSummary.record(payload.length);
+				}
+				return message;
+			}
+		};
+	}
+
+	/**
+	 * 구간 마감: 활발한 채팅방 목록 갱신 및 room 태그 대상 선정
+	 */
+	@Scheduled(fixedRateString = "${chat.metrics.hot-rooms.window-ms:10000}")
+	public void rollWindow() {
+		Map<Long, LongAdder> window = currentWindow;
+		currentWindow = new ConcurrentHashMap<>();
+
+		double seconds = windowMillis / 1000.0;
+		List<HotRoom> ranked = new ArrayList<>(window.size());
+		window.forEach((chatRoomId, count) -> {
+			long messages = count.sum();
+			AtomicInteger subscribers = subscribersByDestination.get(StompDestinationParser.ROOM_TOPIC_PREFIX + chatRoomId);
+			ranked.add(new HotRoom(chatRoomId, messages, messages / seconds, subscribers != null ? subscribers.get() : 0));
+		});
+		ranked.sort(Comparator.comparingLong(HotRoom::messages).reversed());
+		hotRooms = List.copyOf(ranked.subList(0, Math.min(topK, ranked.size())));
+
+		updateTaggedRooms();
+	}
+
+	/**
+	 * room 태그 대상 갱신
+	 * - 상위권 채팅방은 태그 추가, tagged-room-idle-windows 구간 넘게 상위권에 없던 채팅방은 미터를 제거하여 "other" 로 집계
+	 */
+	private void updateTaggedRooms() {
+		long window = ++windowSequence;
+		for (HotRoom room : hotRooms) {
+			taggedRoomLastHotWindow.computeIfPresent(room.chatRoomId(), (id, last) -> window);
+		}
+
+		Iterator<Map.Entry<Long, Long>> iterator = taggedRoomLastHotWindow.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Long, Long> tagged = iterator.next();
+			if (window - tagged.getValue() > taggedRoomIdleWindows) {
+				iterator.remove();
+				Counter counter = taggedRoomCounters.remove(tagged.getKey());
+				if (counter != null) {
+					meterRegistry.remove(counter);
+				}
+			}
+		}
+
+		for (HotRoom room : hotRooms) {
+			if (taggedRoomCounters.size() >= maxTaggedRooms) {
+				break;
+			}
+			taggedRoomCounters.computeIfAbsent(room.chatRoomId(), id -> {
+				taggedRoomLastHotWindow.put(id, window);
+				return Counter.builder("chat.room.messages")
+					.tag("room", String.valueOf(id))
+					.register(meterRegistry);
+			});
+		}
+	}
+
+	public int getSessionCount() {
+		return subscriptions.size();
+	}
+
+	public int getSubscriptionCount() {
+		int count = 0;
+		for (Map<String, String> sessionSubscriptions : subscriptions.values()) {
+			count += sessionSubscriptions.size();
+		}
+		return count;
+	}
+
+	public long getWindowMillis() {
+		return windowMillis;
+	}
+
+	private void addSubscription(String sessionId, String subscriptionId, String destination) {
+		if (subscriptionId == null || destination == null) {
+			return;
+		}
+		String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+			.put(subscriptionId, destination);
+		if (previous != null) {
+			decrementSubscribers(previous);
+		}
+		subscribersByDestination.computeIfAbsent(destination, d -> new AtomicInteger()).incrementAndGet();
+	}
+
+	private void removeSubscription(String sessionId, String subscriptionId) {
+		Map<String, String> sessionSubscriptions = subscriptions.get(sessionId);
+		if (sessionSubscriptions == null || subscriptionId == null) {
+			return;
+		}
+		String destination = sessionSubscriptions.remove(subscriptionId);
+		if (destination != null) {
+			decrementSubscribers(destination);
+		}
+	}
+
+	private void removeSession(String sessionId) {
+		Map<String, String> sessionSubscriptions = subscriptions.remove(sessionId);
+		if (sessionSubscriptions != null) {
+			sessionSubscriptions.values().forEach(this::decrementSubscribers);
+		}
+	}
+
+	private void decrementSubscribers(String destination) {
+		subscribersByDestination.computeIfPresent(destination,
+			(d, count) -> count.decrementAndGet() <= 0 ? null : count);
+	}
+
+	private Timer handlerTimer(String action, String outcome) {
+		return handlerTimers.computeIfAbsent(action + ":" + outcome, key -> Timer.builder("chat.handler")
+			.tag("action", action)
+			.tag("outcome", outcome)
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry));
+	}
+
+	private Counter counter(String name, String... tags) {
+		String key = name + String.join(":", tags);
+		return counters.computeIfAbsent(key, k -> Counter.builder(name).tags(tags).register(meterRegistry));
+	}
+
+	/**
+	 * 목적지 종류 (태그 값 수를 고정하기 위해 목적지 자체 대신 사용)
+	 */
+	private static String destinationType(String destination) {
+		if (destination == null) {
+			return "none";
+		}
+		if (StompDestinationParser.isRoomTopic(destination)) {
+			return destination.endsWith("/status") ? "room-status" : "room";
+		}
+		if (destination.startsWith("/user/") || destination.startsWith("/queue/")) {
+			return "user";
+		}
+		return "other";
+	}
+
+	/**
+	 * 구간 내 채팅방 메시지 통계
+	 */
+	public record HotRoom(Long chatRoomId, long messages, double messagesPerSecond, int subscribers) {
+	}
+}
@@ -0,0 +1,40 @@
+package seoul.seoulfest.chat.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 디버그 엔드포인트 (/actuator/chatrooms)
+ * - 직전 구간에 메시지가 가장 많았던 채팅방 목록과 이 노드의 세션/구독 수
+ * - management.endpoints.web.exposure.include 에 chatrooms 를 추가해야 노출됨
+ */
+@Component
+@Endpoint(id = "chatrooms")
+@RequiredArgsConstructor
+public class ChatRoomsEndpoint {
+
+	private final ChatMetrics chatMetrics;
+
+	@ReadOperation
+	public Map<String, Object> hotRooms(@Nullable Integer limit) {
+		List<ChatMetrics.HotRoom> hotRooms = chatMetrics.getHotRooms();
+		if (limit != null && limit >= 0 && limit < hotRooms.size()) {
+			hotRooms = hotRooms.subList(0, limit);
+		}
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("windowMillis", chatMetrics.getWindowMillis());
+		result.put("sessions", chatMetrics.getSessionCount());
+		result.put("subscriptions", chatMetrics.getSubscriptionCount());
+		result.put("hotRooms", hotRooms);
+		return result;
+	}
+}
@@ -1,5 +1,6 @@
 package seoul.seoulfest.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,9 @@ public interface ChatMediaRepository extends JpaRepository<ChatMedia, Long> {
 	 * 특정 채팅 메시지 ID에 연결된 모든 미디어 조회
 	 */
 	List<ChatMedia> findByChatMessageId(Long messageId);
+
+	/**
+	 * 여러 채팅 메시지에 연결된 미디어를 한 번에 조회 (메시지 목록 조회 시 N+1 방지)
+	 */
+	List<ChatMedia> findByChatMessageIdInOrderByMediaIdAsc(Collection<Long> messageIds);
 }
@@ -0,0 +1,34 @@
+package seoul.seoulfest.chat.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import seoul.seoulfest.chat.entity.ChatMessageArchive;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+	/**
+	 * 보관된 메시지 중 커서(메시지 ID)보다 이전 메시지를 조회 (COUNT 쿼리 없음)
+	 */
+	@Query("SELECT a FROM ChatMessageArchive a WHERE a.chatRoomId = :roomId AND a.id < :cursor ORDER BY a.id DESC")
+	Slice<ChatMessageArchive> findSliceByRoomIdAndIdLessThan(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
+	/**
+	 * 보관된 메시지 중 최신 메시지부터 조회 (COUNT 쿼리 없음)
+	 */
+	@Query("SELECT a FROM ChatMessageArchive a WHERE a.chatRoomId = :roomId ORDER BY a.id DESC")
+	Slice<ChatMessageArchive> findSliceByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * 커서 이전에 보관된 메시지가 있는지 확인
+	 */
+	boolean existsByChatRoomIdAndIdLessThan(Long chatRoomId, Long id);
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,26 +20,57 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
 	/**
 	 * 특정 채팅방의 메시지를 생성 시간 기준 내림차순으로 페이징 조회
+	 * - 발신자를 fetch join 하여 메시지별 추가 조회를 방지
 	 */
-	Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
+	@Query(value = "SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.createdAt DESC",
+		countQuery = "SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId")
+	Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
 
 	/**
 	 * 특정 채팅방의 특정 시간 이후 메시지 수 조회
 	 */
 	int countByChatRoomAndCreatedAtAfter(ChatRoom chatRoom, LocalDateTime dateTime);
 
+	/**
+	 * 특정 채팅방의 특정 시간 이후 메시지 수 조회 (채팅방 ID 기준)
+	 */
+	int countByChatRoomIdAndCreatedAtAfter(Long chatRoomId, LocalDateTime dateTime);
+
+	/**
+	 * 특정 채팅방의 전체 메시지 수 조회
+	 */
+	long countByChatRoomId(Long chatRoomId);
+
 	@Query("SELECT MAX(cm.createdAt) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId")
 	LocalDateTime findLastMessageTimeByRoomId(@Param("chatRoomId") Long chatRoomId);
 
 	/**
 	 * 특정 채팅방에서 특정 메시지 ID보다 이전 메시지 조회 (무한 스크롤)
+	 * - 발신자를 fetch join 하여 메시지별 추가 조회를 방지
 	 */
-	@Query("SELECT cm FROM ChatMessage cm WHERE cm.chatRoom.id = :roomId AND cm.id < :messageId ORDER BY cm.createdAt DESC")
+	@Query(value = "SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId AND cm.id < :messageId ORDER BY cm.createdAt DESC",
+		countQuery = "SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoom.id = :roomId AND cm.id < :messageId")
 	Page<ChatMessage> findByRoomIdAndIdLessThanOrderByCreatedAtDesc(
 		@Param("roomId") Long roomId,
 		@Param("messageId") Long messageId,
 		Pageable pageable);
 
+	/**
+	 * 특정 채팅방의 최신 메시지를 커서 방식으로 조회 (COUNT 쿼리 없음)
+	 * - (chat_room_id, message_id) 인덱스를 타도록 ID 기준 정렬
+	 */
+	@Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId ORDER BY cm.id DESC")
+	Slice<ChatMessage> findSliceByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * 특정 채팅방에서 커서(메시지 ID)보다 이전 메시지를 조회 (COUNT 쿼리 없음)
+	 */
+	@Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId AND cm.id < :cursor ORDER BY cm.id DESC")
+	Slice<ChatMessage> findSliceByRoomIdAndIdLessThan(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
 	/**
 	 * 특정 채팅방의 마지막 메시지 내용 조회 (List로 반환)
 	 */
@@ -50,4 +82,59 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 	 */
 	@Query("SELECT new map(cm.createdAt as createdAt, cm.content as content) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.createdAt DESC")
 	List<Map<String, Object>> findLastMessageInfoByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+	/**
+	 * 채팅방의 최대 메시지 순번 조회 (없으면 0)
+	 */
+	@Query("SELECT COALESCE(MAX(cm.seq), 0) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId")
+	long findMaxSeqByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+	/**
+	 * 특정 순번 이후 메시지를 순번 오름차순으로 조회 (재동기화용, COUNT 쿼리 없음)
+	 */
+	@Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId AND cm.seq > :afterSeq ORDER BY cm.seq ASC")
+	Slice<ChatMessage> findSliceByRoomIdAndSeqGreaterThan(
+		@Param("roomId") Long roomId,
+		@Param("afterSeq") Long afterSeq,
+		Pageable pageable);
+
+	/**
+	 * 특정 채팅방에서 커서(메시지 ID) 이후 메시지를 ID 오름차순으로 조회 (COUNT 쿼리 없음)
+	 */
+	@Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId AND cm.id > :cursor ORDER BY cm.id ASC")
+	Slice<ChatMessage> findSliceByRoomIdAndIdGreaterThan(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
+	/**
+	 * 특정 채팅방의 삭제되지 않은 메시지를 ID 목록으로 조회
+	 */
+	@Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom.id = :roomId AND cm.id IN :ids AND cm.deletedAt IS NULL")
+	List<ChatMessage> findActiveByRoomIdAndIdIn(@Param("roomId") Long roomId, @Param("ids") List<Long> ids);
+
+	/**
+	 * 검색 색인 생성용 최신 메시지 (ID, 본문) 조회
+	 */
+	@Query("SELECT cm.id, cm.content FROM ChatMessage cm WHERE cm.chatRoom.id = :roomId AND cm.deletedAt IS NULL AND cm.content IS NOT NULL ORDER BY cm.id DESC")
+	List<Object[]> findSearchableContentsByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * 검색 색인 갱신용 특정 ID 이후 메시지 (ID, 본문) 조회
+	 */
+	@Query("SELECT cm.id, cm.content FROM ChatMessage cm WHERE cm.chatRoom.id = :roomId AND cm.id > :afterId AND cm.deletedAt IS NULL AND cm.content IS NOT NULL ORDER BY cm.id ASC")
+	List<Object[]> findSearchableContentsByRoomIdAfter(
+		@Param("roomId") Long roomId,
+		@Param("afterId") Long afterId,
+		Pageable pageable);
+
+	/**
+	 * 검색 색인보다 오래된 구간의 본문 부분 일치 메시지 ID 조회 (최신순, pattern 은 '!' 로 이스케이프된 LIKE 패턴)
+	 */
+	@Query("SELECT cm.id FROM ChatMessage cm WHERE cm.chatRoom.id = :roomId AND cm.id < :beforeId AND cm.deletedAt IS NULL AND cm.content LIKE :pattern ESCAPE '!' ORDER BY cm.id DESC")
+	List<Long> findActiveIdsByRoomIdAndContentLike(
+		@Param("roomId") Long roomId,
+		@Param("beforeId") Long beforeId,
+		@Param("pattern") String pattern,
+		Pageable pageable);
 }
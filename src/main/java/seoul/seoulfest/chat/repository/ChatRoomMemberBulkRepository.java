@@ -0,0 +1,58 @@
+package seoul.seoulfest.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import seoul.seoulfest.chat.enums.ChatRole;
+import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
+
+/**
+ * 채팅방 멤버 일괄 등록 (JDBC 배치)
+ * - 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 ChatRoom.chatRoomMembers 컬렉션에는 반영되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomMemberBulkRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO chat_room_member (chat_room_id, member_id, role, joined_at, status, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 회원들을 ACTIVE 상태의 채팅방 멤버로 일괄 등록
+	 *
+	 * @return 등록된 행 수
+	 */
+	public int insertActiveMembers(Long chatRoomId, List<Long> memberIds, ChatRole role, LocalDateTime joinedAt) {
+		if (memberIds.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(joinedAt);
+		int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, memberIds, memberIds.size(), (ps, memberId) -> {
+			ps.setLong(1, chatRoomId);
+			ps.setLong(2, memberId);
+			ps.setString(3, role.name());
+			ps.setTimestamp(4, now);
+			ps.setString(5, ChatRoomMemberStatus.ACTIVE.name());
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+		});
+
+		// 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 요청한 수만큼 등록된 것으로 간주
+		int inserted = 0;
+		for (int[] batch : results) {
+			for (int count : batch) {
+				inserted += count >= 0 ? count : 1;
+			}
+		}
+		return inserted;
+	}
+}
@@ -1,9 +1,12 @@
 package seoul.seoulfest.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import seoul.seoulfest.chat.entity.ChatRoom;
@@ -21,4 +24,12 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
 	boolean existsByChatRoomAndMemberAndKickedAtIsNotNull(ChatRoom chatRoom, Member member);
 	boolean existsByChatRoomAndMemberAndStatusNotAndKickedAtIsNull(
 		ChatRoom chatRoom, Member member, ChatRoomMemberStatus status);
+
+	/**
+	 * 회원 ID 목록 중 채팅방 참여 이력(탈퇴, 강퇴 포함)이 있는 회원 ID 조회
+	 */
+	@Query("SELECT crm.member.id FROM ChatRoomMember crm WHERE crm.chatRoom.id = :chatRoomId AND crm.member.id IN :memberIds")
+	List<Long> findMemberIdsByChatRoomIdAndMemberIdIn(
+		@Param("chatRoomId") Long chatRoomId,
+		@Param("memberIds") Collection<Long> memberIds);
 }
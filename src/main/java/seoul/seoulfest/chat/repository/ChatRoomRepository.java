@@ -1,14 +1,17 @@
 package seoul.seoulfest.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import seoul.seoulfest.chat.dto.query.MyChatRoomSummary;
 import seoul.seoulfest.chat.entity.ChatRoom;
 import seoul.seoulfest.chat.enums.ChatRoomType;
 import seoul.seoulfest.member.entity.Member;
@@ -16,25 +19,29 @@ import seoul.seoulfest.member.entity.Member;
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-	// 페이징을 위한 쿼리 - ID만 가져옴 (EXIT 상태가 아닌 멤버만)
-	@Query("select cr.id from ChatRoom cr " +
-		"join cr.chatRoomMembers crm " +
+	// 내 채팅방 목록 조회 (EXIT 상태가 아닌 멤버만)
+	// - 멤버 컬렉션을 로딩하지 않고 참여 인원 수, 내 읽음 정보, 마지막 메시지 스냅샷을 한 번에 조회
+	@Query(value = "select new seoul.seoulfest.chat.dto.query.MyChatRoomSummary(" +
+		"cr.id, cr.name, cr.type, cr.fromType, cr.fromId, " +
+		"cr.participantCount, " +
+		"crm.lastReadAt, crm.joinedAt, cr.lastMessageAt, cr.lastMessageContent, cr.createdAt) " +
+		"from ChatRoomMember crm " +
+		"join crm.chatRoom cr " +
 		"where crm.member = :member " +
-		"and crm.status != 'EXIT' " +  // EXIT 상태가 아닌 멤버만 포함
+		"and crm.status != 'EXIT' " +
 		"and cr.name like CONCAT('%', :keyword, '%') " +
 		"and cr.deletedAt is null " +
-		"group by cr.id")
-	Page<Long> findChatRoomIdsByMemberAndKeyword(@Param("member") Member member,
+		"order by cr.updatedAt desc, cr.id desc",
+		countQuery = "select count(crm) from ChatRoomMember crm " +
+			"join crm.chatRoom cr " +
+			"where crm.member = :member " +
+			"and crm.status != 'EXIT' " +
+			"and cr.name like CONCAT('%', :keyword, '%') " +
+			"and cr.deletedAt is null")
+	Page<MyChatRoomSummary> findMyChatRoomSummaries(@Param("member") Member member,
 		@Param("keyword") String keyword,
 		Pageable pageable);
 
-	// ID 리스트로 채팅방과 멤버 정보를 한 번에 조회
-	@Query("select distinct cr from ChatRoom cr " +
-		"left join fetch cr.chatRoomMembers crm " +
-		"where cr.id in :ids " +
-		"and cr.deletedAt is null")
-	List<ChatRoom> findChatRoomsByIdInWithMembers(@Param("ids") List<Long> ids);
-
 	Page<ChatRoom> findAllByTypeAndNameContainingIgnoreCaseAndDeletedAtIsNull(ChatRoomType type, String keyword, Pageable pageable);
 
 	// 이름 또는 카테고리로 검색하는 메서드
@@ -48,6 +55,12 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 		@Param("keyword") String keyword,
 		Pageable pageable);
 
+	// 검색 색인 구성용 (ID, 이름, 카테고리)
+	@Query("select cr.id, cr.name, cr.category from ChatRoom cr " +
+		"where cr.type = :type " +
+		"and cr.deletedAt is null")
+	List<Object[]> findSearchableRooms(@Param("type") ChatRoomType type);
+
 	@Query("select cr from ChatRoom cr " +
 		"where cr.type = :type " +
 		"and cr.category = :category " +
@@ -56,4 +69,49 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 		@Param("type") ChatRoomType type,
 		@Param("category") String category,
 		Pageable pageable);
+
+	// 마지막 메시지 스냅샷 갱신 (더 최신 메시지로만 갱신되도록 ID 비교)
+	@Modifying
+	@Query("update ChatRoom cr " +
+		"set cr.lastMessageId = :messageId, " +
+		"    cr.lastMessageContent = :content, " +
+		"    cr.lastMessageAt = :createdAt, " +
+		"    cr.lastMessageSenderId = :senderId " +
+		"where cr.id = :chatRoomId " +
+		"and (cr.lastMessageId is null or cr.lastMessageId < :messageId)")
+	int updateLastMessage(
+		@Param("chatRoomId") Long chatRoomId,
+		@Param("messageId") Long messageId,
+		@Param("content") String content,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("senderId") Long senderId);
+
+	// 마지막 메시지가 변경(삭제)된 경우 스냅샷 내용만 갱신
+	@Modifying
+	@Query("update ChatRoom cr " +
+		"set cr.lastMessageContent = :content " +
+		"where cr.id = :chatRoomId " +
+		"and cr.lastMessageId = :messageId")
+	int updateLastMessageContent(
+		@Param("chatRoomId") Long chatRoomId,
+		@Param("messageId") Long messageId,
+		@Param("content") String content);
+
+	// 참여 인원 수 증감 (동시 참여/탈퇴에도 유실되지 않도록 DB 에서 원자적으로 계산, 0 미만으로 내려가지 않음)
+	@Modifying
+	@Query("update ChatRoom cr " +
+		"set cr.participantCount = case when cr.participantCount + :delta < 0 then 0 " +
+		"    else cr.participantCount + :delta end " +
+		"where cr.id = :chatRoomId")
+	int addParticipantCount(
+		@Param("chatRoomId") Long chatRoomId,
+		@Param("delta") int delta);
+
+	// 참여 인원 수를 멤버 테이블 기준으로 재계산
+	@Modifying
+	@Query("update ChatRoom cr " +
+		"set cr.participantCount = (" +
+		"    select count(crm) from ChatRoomMember crm " +
+		"    where crm.chatRoom = cr and crm.status = 'ACTIVE')")
+	int recalculateParticipantCounts();
 }
@@ -0,0 +1,209 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.dto.response.ChatRoomRes;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
+
+/**
+ * 공개 채팅방 목록(디렉터리) 페이지 캐시
+ * - (카테고리, 검색어, 정렬, 페이지, 크기) 별로 조회 결과를 보관하여 LIKE 검색 쿼리를 생략
+ * - 1차: 노드 로컬 LRU (짧은 TTL), 2차: 노드 간 공유하는 Redis (버전 키 포함)
+ * - 채팅방 생성/이름 변경/삭제 이벤트가 커밋되면 로컬 캐시를 비우고 Redis 버전을 올려 기존 키를 모두 무효화
+ * - 다른 노드의 로컬 캐시는 local-ttl-ms 이내에 반영되고, 참여 인원 수는 redis-ttl-seconds 만큼 지연될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomDirectoryCache {
+
+	private static final String VERSION_KEY = "chat:directory:version";
+	private static final String PAGE_KEY_PREFIX = "chat:directory:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${chat.directory-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${chat.directory-cache.local-max-entries:500}")
+	private int localMaxEntries;
+
+	@Value("${chat.directory-cache.local-ttl-ms:5000}")
+	private long localTtlMs;
+
+	@Value("${chat.directory-cache.redis-ttl-seconds:60}")
+	private long redisTtlSeconds;
+
+	// 캐시 키 -> 페이지 (접근 순서 LRU, local 로 동기화)
+	private Map<String, LocalEntry> local;
+
+	// 로컬 무효화 세대 (조회 도중 무효화되면 조회 결과를 저장하지 않음)
+	private final AtomicLong localGeneration = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+		local = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+				return size() > localMaxEntries;
+			}
+		};
+	}
+
+	/**
+	 * 디렉터리 페이지 조회
+	 * - 로컬 -> Redis -> loader(DB) 순으로 조회하고, 하위 계층에서 찾은 결과는 상위 계층에 저장
+	 *
+	 * @param category 카테고리 (전체 목록이면 null)
+	 * @param keyword  검색어 (카테고리 목록이면 null)
+	 */
+	public Page<ChatRoomRes> get(String category, String keyword, ChatRoomSortType sortType, Pageable pageable,
+		Supplier<Page<ChatRoomRes>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		String key = cacheKey(category, keyword, sortType, pageable);
+		long generation = localGeneration.get();
+
+		DirectoryPage cached = getLocal(key);
+		if (cached == null) {
+			String version = readVersion();
+			cached = getRemote(version, key);
+
+			if (cached == null) {
+				Page<ChatRoomRes> loaded = loader.get();
+				cached = new DirectoryPage(loaded.getContent(), loaded.getTotalElements());
+				putRemote(version, key, cached);
+			}
+			putLocal(generation, key, cached);
+		}
+
+		return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+	}
+
+	/**
+	 * 채팅방 생성/이름 변경/삭제가 커밋되면 디렉터리 캐시 전체 무효화
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDirectoryChanged(ChatRoomDirectoryChangedEvent event) {
+		invalidateAll();
+		log.debug("채팅방 디렉터리 캐시 무효화: 채팅방 {}", event.getChatRoomId());
+	}
+
+	/**
+	 * 로컬 캐시를 비우고 Redis 버전을 올려 모든 노드의 Redis 캐시 키를 무효화
+	 */
+	public void invalidateAll() {
+		localGeneration.incrementAndGet();
+		synchronized (local) {
+			local.clear();
+		}
+
+		try {
+			redisTemplate.opsForValue().increment(VERSION_KEY);
+		} catch (Exception e) {
+			log.warn("채팅방 디렉터리 캐시 버전 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	private DirectoryPage getLocal(String key) {
+		synchronized (local) {
+			LocalEntry entry = local.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() < System.currentTimeMillis()) {
+				local.remove(key);
+				return null;
+			}
+			return entry.page();
+		}
+	}
+
+	private void putLocal(long generation, String key, DirectoryPage page) {
+		synchronized (local) {
+			// 조회하는 동안 무효화되었다면 오래된 결과일 수 있으므로 저장하지 않음
+			if (localGeneration.get() != generation) {
+				return;
+			}
+			local.put(key, new LocalEntry(page, System.currentTimeMillis() + localTtlMs));
+		}
+	}
+
+	/**
+	 * 현재 Redis 캐시 버전 조회 (Redis 장애 시 null)
+	 */
+	private String readVersion() {
+		try {
+			String version = redisTemplate.opsForValue().get(VERSION_KEY);
+			return version != null ? version : "0";
+		} catch (Exception e) {
+			log.warn("채팅방 디렉터리 캐시 버전 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private DirectoryPage getRemote(String version, String key) {
+		if (version == null) {
+			return null;
+		}
+
+		try {
+			String json = redisTemplate.opsForValue().get(PAGE_KEY_PREFIX + version + ":" + key);
+			return json != null ? objectMapper.readValue(json, DirectoryPage.class) : null;
+		} catch (Exception e) {
+			log.warn("채팅방 디렉터리 캐시 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void putRemote(String version, String key, DirectoryPage page) {
+		if (version == null) {
+			return;
+		}
+
+		try {
+			// 조회 도중 버전이 올라갔다면 이전 버전 키로 저장되어 아무도 읽지 않고 TTL 후 만료됨
+			redisTemplate.opsForValue().set(PAGE_KEY_PREFIX + version + ":" + key,
+				objectMapper.writeValueAsString(page), Duration.ofSeconds(redisTtlSeconds));
+		} catch (Exception e) {
+			log.warn("채팅방 디렉터리 캐시 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	private String cacheKey(String category, String keyword, ChatRoomSortType sortType, Pageable pageable) {
+		return (category != null ? "c=" + category : "k=" + (keyword != null ? keyword : ""))
+			+ ":" + sortType.name()
+			+ ":" + pageable.getPageNumber()
+			+ ":" + pageable.getPageSize();
+	}
+
+	private record LocalEntry(DirectoryPage page, long expiresAt) {
+	}
+
+	/**
+	 * 캐시에 저장하는 페이지 내용
+	 */
+	public record DirectoryPage(List<ChatRoomRes> content, long totalElements) {
+	}
+}
@@ -0,0 +1,15 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 목록(디렉터리)에 보이는 정보가 바뀌었음을 알리는 이벤트
+ * - 채팅방 생성, 이름 변경, 삭제 시 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomDirectoryChangedEvent {
+
+	private final Long chatRoomId;
+}
@@ -13,12 +13,11 @@ import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import seoul.seoulfest.chat.dto.query.MyChatRoomSummary;
 import seoul.seoulfest.chat.dto.response.ChatRoomRes;
 import seoul.seoulfest.chat.dto.response.MyChatRoomRes;
 import seoul.seoulfest.chat.entity.ChatRoom;
-import seoul.seoulfest.chat.entity.ChatRoomMember;
 import seoul.seoulfest.chat.repository.ChatMessageRepository;
-import seoul.seoulfest.member.entity.Member;
 
 /**
  * 채팅방 관련 DTO 변환 담당 클래스
@@ -32,22 +31,22 @@ public class ChatRoomDtoMapper {
 
 	/**
 	 * 내 채팅방 정보 DTO 변환
+	 *
+	 * @param unreadCount 읽지 않은 메시지 수 (목록 단위로 일괄 조회한 값)
 	 */
-	public MyChatRoomRes toMyChatRoomRes(ChatRoom chatRoom, Member currentMember) {
-		int unreadCount = calculateUnreadCount(chatRoom, currentMember);
-
-		Pair<LocalDateTime, String> lastMessageInfo = getLastMessageInfo(chatRoom);
+	public MyChatRoomRes toMyChatRoomRes(MyChatRoomSummary summary, int unreadCount) {
+		Pair<LocalDateTime, String> lastMessageInfo = getLastMessageInfo(summary);
 		LocalDateTime lastMsgTime = lastMessageInfo.getFirst();
 		String lastMessageText = lastMessageInfo.getSecond();
 		String formattedLastMsgTime = formatLastMessageTime(lastMsgTime);
 
 		return MyChatRoomRes.builder()
-			.chatRoomId(chatRoom.getId())
-			.name(chatRoom.getName())
-			.participation(chatRoom.getChatRoomMembers().size())
-			.type(chatRoom.getType())
-			.createdFrom(chatRoom.getFromType())
-			.createdFromId(chatRoom.getFromId())
+			.chatRoomId(summary.getChatRoomId())
+			.name(summary.getName())
+			.participation(summary.getParticipation())
+			.type(summary.getType())
+			.createdFrom(summary.getFromType())
+			.createdFromId(summary.getFromId())
 			.notReadMessageCount(unreadCount)
 			.lastMessageTime(formattedLastMsgTime)
 			.lastMessageText(lastMessageText)
@@ -61,36 +60,28 @@ public class ChatRoomDtoMapper {
 		return ChatRoomRes.builder()
 			.chatRoomId(chatRoom.getId())
 			.name(chatRoom.getName())
-			.participation(chatRoom.getChatRoomMembers().size())
+			.participation(chatRoom.getParticipantCount())
 			.information(chatRoom.getInformation())
 			.category(chatRoom.getCategory())
 			.build();
 	}
 
 	/**
-	 * 읽지 않은 메시지 수 계산
+	 * 마지막 메시지 정보 조회
+	 * - 채팅방에 저장된 스냅샷을 우선 사용하고, 스냅샷이 없는 경우(기존 데이터)에만 메시지 테이블 조회
 	 */
-	private int calculateUnreadCount(ChatRoom chatRoom, Member currentMember) {
-		ChatRoomMember memberData = chatRoom.getChatRoomMembers().stream()
-			.filter(crm -> crm.getMember().getId().equals(currentMember.getId()))
-			.findFirst()
-			.orElse(null);
-
-		int unreadCount = 0;
-		if (memberData != null) {
-			LocalDateTime lastReadAt =
-				memberData.getLastReadAt() != null ? memberData.getLastReadAt() : memberData.getJoinedAt();
-			unreadCount = chatMessageRepository.countByChatRoomAndCreatedAtAfter(chatRoom, lastReadAt);
+	private Pair<LocalDateTime, String> getLastMessageInfo(MyChatRoomSummary summary) {
+		if (summary.getLastMessageAt() != null) {
+			String content = summary.getLastMessageContent();
+			return Pair.of(summary.getLastMessageAt(), content != null ? content : "");
 		}
-		return unreadCount;
-	}
 
-	private Pair<LocalDateTime, String> getLastMessageInfo(ChatRoom chatRoom) {
 		Pageable topOne = PageRequest.of(0, 1);
-		List<Map<String, Object>> result = chatMessageRepository.findLastMessageInfoByChatRoomId(chatRoom.getId(), topOne);
+		List<Map<String, Object>> result =
+			chatMessageRepository.findLastMessageInfoByChatRoomId(summary.getChatRoomId(), topOne);
 
 		if (result.isEmpty()) {
-			return Pair.of(chatRoom.getCreatedAt(), "");
+			return Pair.of(summary.getCreatedAt(), "");
 		}
 
 		Map<String, Object> lastMessage = result.get(0);
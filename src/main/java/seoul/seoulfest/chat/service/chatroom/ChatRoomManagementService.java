@@ -4,8 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +20,9 @@ import seoul.seoulfest.chat.entity.ChatRoomMember;
 import seoul.seoulfest.chat.enums.ChatRole;
 import seoul.seoulfest.chat.enums.ChatRoomType;
 import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.chat.service.chatting.ChatEventPublisher;
+import seoul.seoulfest.chat.service.chatting.ChatPresenceService;
+import seoul.seoulfest.chat.service.chatting.ChatSubscriptionAuthCache;
 import seoul.seoulfest.exception.BusinessException;
 import seoul.seoulfest.member.entity.Member;
 import seoul.seoulfest.member.repository.MemberRepository;
@@ -40,12 +42,11 @@ public class ChatRoomManagementService {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomValidator validator;
 	private final ChatRoomMembershipService membershipService;
+	private final ChatSubscriptionAuthCache subscriptionAuthCache;
+	private final ApplicationEventPublisher eventPublisher;
 
-	private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
-
-	private SimpMessagingTemplate getMessagingTemplate() {
-		return messagingTemplateProvider.getObject();
-	}
+	private final ChatEventPublisher chatEventPublisher;
+	private final ChatPresenceService chatPresenceService;
 
 	/**
 	 * 채팅방 생성
@@ -86,6 +87,8 @@ public class ChatRoomManagementService {
 		// 방장을 채팅방 멤버로 등록
 		ChatRoomMember crm = membershipService.createChatRoomMember(chatRoom, currentMember, ChatRole.OWNER);
 		chatRoom.addChatRoomMember(crm);
+
+		eventPublisher.publishEvent(new ChatRoomDirectoryChangedEvent(chatRoom.getId()));
 	}
 
 	/**
@@ -119,6 +122,8 @@ public class ChatRoomManagementService {
 		ChatRoom chatRoom = validator.validateAndGetChatRoom(chatRoomId);
 		validator.validateOwner(chatRoom, verifyId);
 		chatRoom.setDeletedAt(LocalDateTime.now());
+		subscriptionAuthCache.invalidateRoom(chatRoomId);
+		eventPublisher.publishEvent(new ChatRoomDirectoryChangedEvent(chatRoomId));
 	}
 
 	/**
@@ -130,6 +135,7 @@ public class ChatRoomManagementService {
 		validator.validateOwner(chatRoom, verifyId);
 		validator.validateChatRoomName(request.getName());
 		chatRoom.setName(request.getName());
+		eventPublisher.publishEvent(new ChatRoomDirectoryChangedEvent(chatRoom.getId()));
 	}
 
 	/**
@@ -147,6 +153,7 @@ public class ChatRoomManagementService {
 		validator.validateOwner(chatRoom, verifyId);
 		Member kickMember = securityUtil.getCurrentMember(request.getVerifyId());
 		membershipService.kickChatRoomMember(chatRoom, kickMember);
+		chatPresenceService.leave(chatRoom.getId(), kickMember, "KICK");
 
 		sendKickEvent(chatRoom.getId(), kickMember);
 
@@ -164,7 +171,7 @@ public class ChatRoomManagementService {
 			.timestamp(LocalDateTime.now())
 			.build();
 
-		getMessagingTemplate().convertAndSendToUser(
+		chatEventPublisher.publishToUser(
 			kickedMember.getVerifyId(),  // 강퇴된 사용자의 verifyId
 			"/queue/events",             // 개인 이벤트 큐
 			kickEvent
@@ -188,7 +195,7 @@ public class ChatRoomManagementService {
 			.isDeleted(false)
 			.build();
 
-		getMessagingTemplate().convertAndSend(
+		chatEventPublisher.publish(
 			"/topic/chat/room/" + chatRoomId,
 			systemMessage
 		);
@@ -1,25 +1,38 @@
 package seoul.seoulfest.chat.service.chatroom;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import seoul.seoulfest.auth.exception.AuthErrorCode;
+import seoul.seoulfest.chat.dto.request.chatroom.BulkInviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.InviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
-import seoul.seoulfest.chat.dto.request.chatting.response.ChatUserStatusEvent;
+import seoul.seoulfest.chat.dto.response.BulkInviteChatRoomRes;
 import seoul.seoulfest.chat.entity.ChatMessage;
 import seoul.seoulfest.chat.entity.ChatRoom;
 import seoul.seoulfest.chat.entity.ChatRoomMember;
 import seoul.seoulfest.chat.enums.ChatRole;
 import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
 import seoul.seoulfest.chat.exception.ChatErrorCode;
+import seoul.seoulfest.chat.repository.ChatRoomMemberBulkRepository;
 import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
 import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.chat.service.chatting.ChatEventPublisher;
+import seoul.seoulfest.chat.service.chatting.ChatPresenceService;
+import seoul.seoulfest.chat.service.chatting.ChatSubscriptionAuthCache;
+import seoul.seoulfest.chat.service.chatting.ChatUnreadCountService;
 import seoul.seoulfest.exception.BusinessException;
 import seoul.seoulfest.member.entity.Member;
 import seoul.seoulfest.member.repository.MemberRepository;
@@ -33,17 +46,20 @@ import seoul.seoulfest.util.security.SecurityUtil;
 @RequiredArgsConstructor
 public class ChatRoomMembershipService {
 
+	// 초대 시스템 메시지에 이름을 표시할 최대 회원 수
+	private static final int INVITE_MESSAGE_MAX_NAMES = 3;
+
 	private final SecurityUtil securityUtil;
 	private final ChatRoomMemberRepository chatRoomMemberRepository;
+	private final ChatRoomMemberBulkRepository chatRoomMemberBulkRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final MemberRepository memberRepository;
 	private final ChatRoomValidator validator;
+	private final ChatUnreadCountService unreadCountService;
+	private final ChatSubscriptionAuthCache subscriptionAuthCache;
 
-	private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
-
-	private SimpMessagingTemplate getMessagingTemplate() {
-		return messagingTemplateProvider.getObject();
-	}
+	private final ChatEventPublisher chatEventPublisher;
+	private final ChatPresenceService chatPresenceService;
 
 	/**
 	 * 채팅방 탈퇴
@@ -60,8 +76,13 @@ public class ChatRoomMembershipService {
 			throw new BusinessException(ChatErrorCode.OWNER_CANNOT_EXIT);
 		}
 
+		if (chatRoomMember.getStatus() == ChatRoomMemberStatus.ACTIVE) {
+			chatRoomRepository.addParticipantCount(chatRoom.getId(), -1);
+		}
 		chatRoomMember.setLastReadAt(LocalDateTime.now());
 		chatRoomMember.setStatus(ChatRoomMemberStatus.EXIT);
+		unreadCountService.markAllRead(chatRoom.getId(), currentMember.getId());
+		subscriptionAuthCache.invalidate(currentMember.getVerifyId(), chatRoom.getId());
 		sendExitEvent(chatRoom.getId(), currentMember);
 	}
 
@@ -70,20 +91,8 @@ public class ChatRoomMembershipService {
 	 * 채팅방 나가기 이벤트 발송
 	 */
 	private void sendExitEvent(Long chatRoomId, Member member) {
-		// 상태 이벤트 생성
-		ChatUserStatusEvent event = ChatUserStatusEvent.builder()
-			.chatRoomId(chatRoomId)
-			.memberId(member.getId())
-			.memberName(member.getUsername())
-			.eventType("EXIT") // 'LEAVE'와 구분하기 위해 'EXIT' 사용
-			.timestamp(LocalDateTime.now())
-			.build();
-
-		// WebSocket을 통해 이벤트 발송
-		getMessagingTemplate().convertAndSend(
-			"/topic/chat/room/" + chatRoomId + "/status",
-			event
-		);
+		// 접속 상태 반영 (퇴장 이벤트는 주기적으로 묶어서 발송)
+		chatPresenceService.leave(chatRoomId, member, "EXIT");
 
 		ChatMessage systemMessage = ChatMessage.builder()
 			.chatRoom(chatRoomRepository.getReferenceById(chatRoomId))
@@ -102,7 +111,7 @@ public class ChatRoomMembershipService {
 			.isDeleted(false)
 			.build();
 
-		getMessagingTemplate().convertAndSend(
+		chatEventPublisher.publish(
 			"/topic/chat/room/" + chatRoomId,
 			messageResponse
 		);
@@ -123,6 +132,7 @@ public class ChatRoomMembershipService {
 		// 채팅방 멤버로 등록
 		ChatRoomMember chatRoomMember = createChatRoomMember(chatRoom, currentMember, ChatRole.USER);
 		chatRoom.addChatRoomMember(chatRoomMember);
+		subscriptionAuthCache.invalidate(currentMember.getVerifyId(), chatRoom.getId());
 	}
 
 	/**
@@ -141,6 +151,113 @@ public class ChatRoomMembershipService {
 		// 채팅방 멤버로 등록
 		ChatRoomMember chatRoomMember = createChatRoomMember(chatRoom, member, ChatRole.USER);
 		chatRoom.addChatRoomMember(chatRoomMember);
+		subscriptionAuthCache.invalidate(member.getVerifyId(), chatRoom.getId());
+	}
+
+	/**
+	 * 채팅방 일괄 초대 (이메일, verifyId 목록)
+	 * - 요청자는 강퇴/탈퇴하지 않은 채팅방 멤버여야 함
+	 * - 회원 조회, 참여 이력 확인을 각각 IN 쿼리 한 번으로 처리하고 멤버는 JDBC 배치로 등록
+	 * - 존재하지 않거나 이미 참여 이력(탈퇴, 강퇴 포함)이 있는 회원은 제외하고 결과에 표시
+	 * - 초대된 회원이 있으면 시스템 메시지를 한 번만 발송
+	 */
+	@Transactional
+	public BulkInviteChatRoomRes inviteChatRoomBulk(BulkInviteChatRoomReq request) {
+		ChatRoom chatRoom = validator.validateAndGetChatRoom(request.getChatRoomId());
+		validator.validateAndGetActiveChatRoomMember(chatRoom, securityUtil.getCurrentMember());
+
+		Set<String> verifyIds = toIdentifierSet(request.getVerifyIds());
+		Set<String> emails = toIdentifierSet(request.getEmails());
+
+		// 초대할 회원 일괄 조회
+		Map<Long, Member> members = new LinkedHashMap<>();
+		Set<String> found = new HashSet<>();
+		for (Member member : memberRepository.findAllByVerifyIdInOrEmailIn(verifyIds, emails)) {
+			boolean requested = false;
+			if (verifyIds.contains(member.getVerifyId())) {
+				found.add(member.getVerifyId());
+				requested = true;
+			}
+			if (emails.contains(member.getEmail())) {
+				found.add(member.getEmail());
+				requested = true;
+			}
+			if (requested) {
+				members.put(member.getId(), member);
+			}
+		}
+
+		// 참여 이력이 있는 회원 일괄 확인
+		Set<Long> existingMemberIds = members.isEmpty() ? Set.of() : new HashSet<>(
+			chatRoomMemberRepository.findMemberIdsByChatRoomIdAndMemberIdIn(chatRoom.getId(), members.keySet()));
+
+		List<String> alreadyMembers = new ArrayList<>();
+		List<Member> invitees = new ArrayList<>();
+		for (Member member : members.values()) {
+			if (existingMemberIds.contains(member.getId())) {
+				alreadyMembers.add(verifyIds.contains(member.getVerifyId()) ? member.getVerifyId() : member.getEmail());
+			} else {
+				invitees.add(member);
+			}
+		}
+
+		// 채팅방 멤버 일괄 등록
+		int invitedCount = chatRoomMemberBulkRepository.insertActiveMembers(chatRoom.getId(),
+			invitees.stream().map(Member::getId).toList(), ChatRole.USER, LocalDateTime.now());
+		if (invitedCount > 0) {
+			chatRoomRepository.addParticipantCount(chatRoom.getId(), invitedCount);
+			invitees.forEach(member -> subscriptionAuthCache.invalidate(member.getVerifyId(), chatRoom.getId()));
+			sendInviteSystemMessage(chatRoom.getId(), invitees);
+		}
+
+		List<String> notFound = new ArrayList<>();
+		verifyIds.stream().filter(id -> !found.contains(id)).forEach(notFound::add);
+		emails.stream().filter(email -> !found.contains(email)).forEach(notFound::add);
+
+		return BulkInviteChatRoomRes.builder()
+			.chatRoomId(chatRoom.getId())
+			.invitedCount(invitedCount)
+			.alreadyMembers(alreadyMembers)
+			.notFound(notFound)
+			.build();
+	}
+
+	/**
+	 * 초대 시스템 메시지 발송 (초대된 회원 전체를 한 메시지로 안내)
+	 */
+	private void sendInviteSystemMessage(Long chatRoomId, List<Member> invitees) {
+		String names = invitees.stream()
+			.limit(INVITE_MESSAGE_MAX_NAMES)
+			.map(Member::getUsername)
+			.collect(Collectors.joining(", "));
+		String content = invitees.size() > INVITE_MESSAGE_MAX_NAMES
+			? names + "님 외 " + (invitees.size() - INVITE_MESSAGE_MAX_NAMES) + "명이 초대되었습니다."
+			: names + "님이 초대되었습니다.";
+
+		ChatMessageResponse messageResponse = ChatMessageResponse.builder()
+			.messageId(null)  // 시스템 메시지는 ID 없음
+			.chatRoomId(chatRoomId)
+			.senderId(null)
+			.senderName("SYSTEM")
+			.content(content)
+			.type("SYSTEM")
+			.createdAt(LocalDateTime.now())
+			.isDeleted(false)
+			.build();
+
+		chatEventPublisher.publish("/topic/chat/room/" + chatRoomId, messageResponse);
+	}
+
+	private Set<String> toIdentifierSet(List<String> identifiers) {
+		Set<String> result = new LinkedHashSet<>();
+		if (identifiers != null) {
+			identifiers.stream()
+				.filter(Objects::nonNull)
+				.map(String::trim)
+				.filter(identifier -> !identifier.isEmpty())
+				.forEach(result::add);
+		}
+		return result;
 	}
 
 	private Member validateInviteChatRoomReq(InviteChatRoomReq request) {
@@ -150,6 +267,7 @@ public class ChatRoomMembershipService {
 
 	/**
 	 * 채팅방 멤버 생성 및 저장
+	 * - 참여 인원 수도 함께 증가
 	 */
 	@Transactional
 	public ChatRoomMember createChatRoomMember(ChatRoom chatRoom, Member member, ChatRole role) {
@@ -161,7 +279,9 @@ public class ChatRoomMembershipService {
 			.status(ChatRoomMemberStatus.ACTIVE)
 			.build();
 
-		return chatRoomMemberRepository.save(crm);
+		ChatRoomMember saved = chatRoomMemberRepository.save(crm);
+		chatRoomRepository.addParticipantCount(chatRoom.getId(), 1);
+		return saved;
 	}
 
 	@Transactional
@@ -169,7 +289,11 @@ public class ChatRoomMembershipService {
 		ChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member)
 			.orElseThrow(() -> new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM_MEMBER));
 
+		if (chatRoomMember.getStatus() == ChatRoomMemberStatus.ACTIVE) {
+			chatRoomRepository.addParticipantCount(chatRoom.getId(), -1);
+		}
 		chatRoomMember.setStatus(ChatRoomMemberStatus.KICKED);
 		chatRoomMember.setKickedAt(LocalDateTime.now());
+		subscriptionAuthCache.invalidate(member.getVerifyId(), chatRoom.getId());
 	}
 }
\ No newline at end of file
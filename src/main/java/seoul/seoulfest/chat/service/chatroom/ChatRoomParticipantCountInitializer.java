@@ -0,0 +1,59 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+
+/**
+ * 채팅방 참여 인원 수 초기화
+ * - 참여 인원 수 컬럼 추가 이전에 생성된 채팅방(기본값 0)을 멤버 테이블 기준으로 맞추는 일회성 마이그레이션
+ * - Redis 완료 표시(MIGRATION_KEY)를 먼저 선점한 노드 한 곳에서만 실행하고, 이후 기동에서는 건너뜀
+ * - 실패하면 표시를 지워 다음 기동에서 다시 시도
+ * - recalculate-on-startup=true 이면 완료 표시와 관계없이 기동 시마다 재계산 (수동으로 변경된 데이터 보정용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantCountInitializer {
+
+	static final String MIGRATION_KEY = "chat:migration:participant-count:v1";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${chat.participant-count.recalculate-on-startup:false}")
+	private boolean recalculateOnStartup;
+
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void recalculate() {
+		boolean claimed;
+		try {
+			claimed = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MIGRATION_KEY, "running"));
+		} catch (Exception e) {
+			log.warn("채팅방 참여 인원 수 마이그레이션 표시 확인 실패: {}", e.getMessage());
+			return;
+		}
+		if (!claimed && !recalculateOnStartup) {
+			return;
+		}
+
+		try {
+			int updated = chatRoomRepository.recalculateParticipantCounts();
+			redisTemplate.opsForValue().set(MIGRATION_KEY, "done");
+			log.info("채팅방 참여 인원 수 재계산 완료: {}개 채팅방", updated);
+		} catch (Exception e) {
+			log.warn("채팅방 참여 인원 수 재계산 실패: {}", e.getMessage());
+			if (claimed) {
+				redisTemplate.delete(MIGRATION_KEY);
+			}
+		}
+	}
+}
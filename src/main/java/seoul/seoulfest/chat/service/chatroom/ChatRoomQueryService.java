@@ -1,5 +1,7 @@
 package seoul.seoulfest.chat.service.chatroom;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -9,16 +11,19 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import seoul.seoulfest.chat.dto.query.MyChatRoomSummary;
 import seoul.seoulfest.chat.dto.response.ChatRoomRes;
 import seoul.seoulfest.chat.dto.response.MyChatRoomRes;
 import seoul.seoulfest.chat.entity.ChatRoom;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
 import seoul.seoulfest.chat.enums.ChatRoomType;
 import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.chat.service.chatting.ChatUnreadCountService;
+import seoul.seoulfest.chat.service.chatting.ReadMarkerAggregator;
 import seoul.seoulfest.member.entity.Member;
 import seoul.seoulfest.util.security.SecurityUtil;
 
@@ -34,6 +39,10 @@ public class ChatRoomQueryService {
 	private final SecurityUtil securityUtil;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomDtoMapper chatRoomDtoMapper;
+	private final ChatRoomDirectoryCache directoryCache;
+	private final ChatRoomSearchIndex searchIndex;
+	private final ChatUnreadCountService unreadCountService;
+	private final ReadMarkerAggregator readMarkerAggregator;
 
 	/**
 	 * 내 채팅방 목록 조회
@@ -41,7 +50,7 @@ public class ChatRoomQueryService {
 	public Page<MyChatRoomRes> listMyChatRooms(String verifyId, int page, int size, String keyword) {
 		// 요청 파라미터 준비
 		Member currentMember = securityUtil.getCurrentMember(verifyId);
-		PageRequest pageable = createPageRequest(page, size);
+		PageRequest pageable = createPageRequest(page, size, ChatRoomSortType.LATEST);
 		String searchKeyword = normalizeKeyword(keyword);
 
 		// 채팅방 조회 및 변환
@@ -51,37 +60,39 @@ public class ChatRoomQueryService {
 	/**
 	 * 전체 채팅방 목록 조회
 	 * - 채팅방 이름, 카테고리로 검색 가능
+	 * - 최근 활동순, 참여 인원순 또는 검색어 관련도순 정렬
 	 */
-	public Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword) {
+	public Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword, ChatRoomSortType sortType) {
 		// 요청 파라미터 준비
-		PageRequest pageable = createPageRequest(page, size);
+		PageRequest pageable = createPageRequest(page, size, sortType);
 		String searchKeyword = normalizeKeyword(keyword);
 
-		// 채팅방 조회
-		Page<ChatRoom> chatRoomPage = chatRoomRepository.findAllByTypeAndKeywordInNameOrCategory(
-			ChatRoomType.GROUP, searchKeyword, pageable);
-
-		// DTO 변환
-		return chatRoomPage.map(chatRoomDtoMapper::toChatRoomRes);
+		// 캐시에 없으면 채팅방 조회 후 DTO 변환 (관련도순 검색은 검색 색인 사용)
+		return directoryCache.get(null, searchKeyword, sortType, pageable, () -> {
+			if (sortType == ChatRoomSortType.RELEVANCE && !searchKeyword.isBlank() && searchIndex.isReady()) {
+				return searchByIndex(searchKeyword, pageable);
+			}
+			return chatRoomRepository.findAllByTypeAndKeywordInNameOrCategory(ChatRoomType.GROUP, searchKeyword, pageable)
+				.map(chatRoomDtoMapper::toChatRoomRes);
+		});
 	}
 
 	/**
 	 * 특정 카테고리의 채팅방 목록 조회
 	 */
-	public Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category) {
-		PageRequest pageable = createPageRequest(page, size);
-
-		Page<ChatRoom> chatRoomPage = chatRoomRepository.findAllByTypeAndCategory(
-			ChatRoomType.GROUP, category, pageable);
+	public Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category, ChatRoomSortType sortType) {
+		PageRequest pageable = createPageRequest(page, size, sortType);
 
-		return chatRoomPage.map(chatRoomDtoMapper::toChatRoomRes);
+		return directoryCache.get(category, null, sortType, pageable, () ->
+			chatRoomRepository.findAllByTypeAndCategory(ChatRoomType.GROUP, category, pageable)
+				.map(chatRoomDtoMapper::toChatRoomRes));
 	}
 
 	/**
 	 * 페이지 요청 객체 생성
 	 */
-	private PageRequest createPageRequest(int page, int size) {
-		return PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "updatedAt"));
+	private PageRequest createPageRequest(int page, int size, ChatRoomSortType sortType) {
+		return PageRequest.of(page - 1, size, sortType.getSort());
 	}
 
 	/**
@@ -91,50 +102,71 @@ public class ChatRoomQueryService {
 		return (keyword == null) ? "" : keyword;
 	}
 
+	/**
+	 * 검색 색인으로 관련도순 조회
+	 * - 색인에서 현재 페이지의 채팅방 ID만 잘라낸 뒤 해당 채팅방만 DB 에서 조회
+	 */
+	private Page<ChatRoomRes> searchByIndex(String keyword, PageRequest pageable) {
+		List<Long> matchedIds = searchIndex.search(keyword);
+		int from = (int)Math.min(pageable.getOffset(), matchedIds.size());
+		int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+		List<Long> pageIds = matchedIds.subList(from, to);
+
+		if (pageIds.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, matchedIds.size());
+		}
+
+		// 색인 순서 유지 (색인 반영 전에 삭제된 채팅방은 제외)
+		Map<Long, ChatRoom> chatRoomMap = chatRoomRepository.findAllById(pageIds).stream()
+			.filter(chatRoom -> chatRoom.getDeletedAt() == null)
+			.collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+
+		List<ChatRoomRes> content = pageIds.stream()
+			.map(chatRoomMap::get)
+			.filter(Objects::nonNull)
+			.map(chatRoomDtoMapper::toChatRoomRes)
+			.collect(Collectors.toList());
+
+		return new PageImpl<>(content, pageable, matchedIds.size());
+	}
+
 	/**
 	 * 내 채팅방 목록을 페이징하여 조회
+	 * - 채팅방 정보는 프로젝션 쿼리 한 번으로, 읽지 않은 메시지 수는 Redis 파이프라인 한 번으로 조회
 	 */
 	private Page<MyChatRoomRes> fetchMyChatRoomsPage(Member member, String keyword, PageRequest pageable) {
-		// 1. ID만 페이징하여 조회
-		Page<Long> chatRoomIdPage = chatRoomRepository.findChatRoomIdsByMemberAndKeyword(
-			member, keyword, pageable);
+		// 1. 채팅방 요약 정보 조회 (정렬은 쿼리에서 지정)
+		Page<MyChatRoomSummary> summaryPage = chatRoomRepository.findMyChatRoomSummaries(
+			member, keyword, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-		if (chatRoomIdPage.isEmpty()) {
+		if (summaryPage.isEmpty()) {
 			return Page.empty(pageable);
 		}
 
-		// 2. 채팅방 상세 정보 조회
-		List<ChatRoom> chatRooms = fetchChatRoomsWithMembers(chatRoomIdPage.getContent());
+		// 2. 읽지 않은 메시지 수 일괄 조회
+		Map<Long, Integer> unreadCounts = fetchUnreadCounts(member.getId(), summaryPage.getContent());
 
-		// 3. 응답 DTO 변환
-		List<MyChatRoomRes> content = convertToMyChatRoomResList(
-			chatRooms, chatRoomIdPage.getContent(), member);
+		// 3. 응답 DTO 변환 (쿼리 순서 유지)
+		List<MyChatRoomRes> content = summaryPage.getContent().stream()
+			.map(summary -> chatRoomDtoMapper.toMyChatRoomRes(summary,
+				unreadCounts.getOrDefault(summary.getChatRoomId(), 0)))
+			.collect(Collectors.toList());
 
 		// 4. 페이지 객체 생성
-		return new PageImpl<>(content, pageable, chatRoomIdPage.getTotalElements());
-	}
-
-	/**
-	 * 채팅방 ID 목록으로 채팅방과 멤버 정보를 한번에 조회
-	 */
-	private List<ChatRoom> fetchChatRoomsWithMembers(List<Long> chatRoomIds) {
-		return chatRoomRepository.findChatRoomsByIdInWithMembers(chatRoomIds);
+		return new PageImpl<>(content, pageable, summaryPage.getTotalElements());
 	}
 
 	/**
-	 * 채팅방 목록을 응답 DTO 목록으로 변환 (원래 순서 유지)
+	 * 채팅방별 읽지 않은 메시지 수 조회
+	 * - 아직 DB에 반영되지 않은 읽음 처리를 우선 사용하고, 읽은 기록이 없으면 참여 시간 기준
 	 */
-	private List<MyChatRoomRes> convertToMyChatRoomResList(
-		List<ChatRoom> chatRooms, List<Long> orderedIds, Member member) {
-		// ID로 빠른 조회를 위한 맵 생성
-		Map<Long, ChatRoom> chatRoomMap = chatRooms.stream()
-			.collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
-
-		// 원래 순서대로 DTO 변환
-		return orderedIds.stream()
-			.map(chatRoomMap::get)
-			.filter(Objects::nonNull)
-			.map(chatRoom -> chatRoomDtoMapper.toMyChatRoomRes(chatRoom, member))
-			.collect(Collectors.toList());
+	private Map<Long, Integer> fetchUnreadCounts(Long memberId, List<MyChatRoomSummary> summaries) {
+		Map<Long, LocalDateTime> readFromByRoom = new LinkedHashMap<>();
+		for (MyChatRoomSummary summary : summaries) {
+			LocalDateTime readFrom =
+				readMarkerAggregator.resolve(summary.getChatRoomId(), memberId, summary.getLastReadAt());
+			readFromByRoom.put(summary.getChatRoomId(), readFrom != null ? readFrom : summary.getJoinedAt());
+		}
+		return unreadCountService.getUnreadCounts(memberId, readFromByRoom);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,343 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.enums.ChatRoomType;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.util.text.BigramTokenizer;
+
+/**
+ * 공개 채팅방 이름/카테고리 검색용 n-gram 역색인
+ * - LIKE '%검색어%' 전체 스캔 대신 bigram 포스팅 교집합으로 후보를 찾고, 실제 부분 일치를 확인한 뒤 관련도순 정렬
+ * - 시작 시 전체 색인, 이 노드의 채팅방 생성/이름 변경/삭제는 커밋 직후 반영
+ * - 다른 노드의 변경은 디렉터리 캐시 버전(chat:directory:version)이 바뀐 것을 주기적으로 확인하여 전체 재색인
+ * - 이 노드의 변경도 버전을 1씩 올리므로, 버전 증가분이 이미 반영한 로컬 변경 수 이하면 재색인하지 않음
+ * - 재색인 도중 반영된 변경은 기록해 두었다가 새 색인으로 교체한 직후 다시 적용 (DB 조회 시점 이전 상태로 덮어쓰이지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSearchIndex {
+
+	private static final String VERSION_KEY = "chat:directory:version";
+
+	// 관련도 점수 (이름 일치 > 이름 접두사 > 이름 포함 > 카테고리 포함)
+	private static final int SCORE_NAME_EXACT = 100;
+	private static final int SCORE_NAME_PREFIX = 50;
+	private static final int SCORE_NAME_CONTAINS = 30;
+	private static final int SCORE_CATEGORY_CONTAINS = 10;
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${chat.search-index.enabled:true}")
+	private boolean enabled;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 토큰 -> 채팅방 ID 목록
+	private Map<String, Set<Long>> postings = new HashMap<>();
+
+	// 채팅방 ID -> 색인된 문서
+	private Map<Long, Document> documents = new HashMap<>();
+
+	private volatile boolean ready;
+
+	private volatile String indexedVersion;
+
+	// 재색인 중 반영된 변경 (채팅방 ID -> 마지막 변경, 재색인 중이 아니면 null, lock 으로 보호)
+	private Map<Long, Change> changesDuringRebuild;
+
+	// 마지막 버전 확인 이후 이 노드에서 반영한 변경 수 (각 변경은 디렉터리 캐시 버전을 1 올림)
+	private final AtomicLong localChanges = new AtomicLong();
+
+	/**
+	 * 검색에 사용할 수 있는 상태인지 확인 (초기 색인 전이거나 비활성화면 DB 검색 사용)
+	 */
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	/**
+	 * 검색어와 일치하는 채팅방 ID를 관련도순으로 조회
+	 */
+	public List<Long> search(String keyword) {
+		String query = BigramTokenizer.normalize(keyword);
+		Set<String> tokens = BigramTokenizer.queryTokens(keyword);
+		if (tokens.isEmpty()) {
+			return List.of();
+		}
+
+		List<ScoredRoom> matches = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (Long chatRoomId : candidates(tokens)) {
+				Document document = documents.get(chatRoomId);
+				int score = score(document, query);
+				if (score > 0) {
+					matches.add(new ScoredRoom(chatRoomId, score, document.name().length()));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		// 관련도 높은순, 같으면 이름이 짧은순, 최근 생성순
+		matches.sort(Comparator.comparingInt(ScoredRoom::score).reversed()
+			.thenComparingInt(ScoredRoom::nameLength)
+			.thenComparing(ScoredRoom::chatRoomId, Comparator.reverseOrder()));
+
+		return matches.stream().map(ScoredRoom::chatRoomId).toList();
+	}
+
+	/**
+	 * 채팅방 색인 추가/갱신 (공개 채팅방이 아니거나 삭제된 경우 제거)
+	 */
+	public void index(Long chatRoomId, String name, String category, ChatRoomType type, boolean deleted) {
+		Change change = new Change(name, category, type, deleted);
+		lock.writeLock().lock();
+		try {
+			apply(chatRoomId, change);
+			if (changesDuringRebuild != null) {
+				changesDuringRebuild.put(chatRoomId, change);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 이 노드에서 발생한 채팅방 변경을 커밋 이후 반영
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDirectoryChanged(ChatRoomDirectoryChangedEvent event) {
+		// 초기 색인 전이라도 반영해 두면 진행 중인 재색인이 끝난 뒤 다시 적용됨
+		if (!enabled) {
+			return;
+		}
+
+		chatRoomRepository.findById(event.getChatRoomId()).ifPresentOrElse(
+			chatRoom -> index(chatRoom.getId(), chatRoom.getName(), chatRoom.getCategory(), chatRoom.getType(),
+				chatRoom.getDeletedAt() != null),
+			() -> index(event.getChatRoomId(), null, null, null, true));
+		localChanges.incrementAndGet();
+	}
+
+	/**
+	 * 다른 노드에서 채팅방이 변경되었으면 전체 재색인
+	 * - 버전 증가분이 모두 이 노드에서 이미 반영한 변경이면 버전만 갱신
+	 */
+	@Scheduled(fixedDelayString = "${chat.search-index.refresh-interval-ms:30000}")
+	public void refreshIfChanged() {
+		if (!enabled) {
+			return;
+		}
+
+		String version = readVersion();
+		if (version == null || version.equals(indexedVersion)) {
+			return;
+		}
+
+		long applied = localChanges.getAndSet(0);
+		if (isCoveredByLocalChanges(version, applied)) {
+			indexedVersion = version;
+			return;
+		}
+		rebuild();
+	}
+
+	/**
+	 * 공개 채팅방 전체 재색인
+	 * - 버전을 읽은 뒤의 로컬 변경만 다시 세고, 그동안 반영된 변경은 새 색인에 다시 적용
+	 */
+	public synchronized void rebuild() {
+		String version = readVersion();
+		localChanges.set(0);
+		lock.writeLock().lock();
+		try {
+			changesDuringRebuild = new HashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		try {
+			Map<String, Set<Long>> newPostings = new HashMap<>();
+			Map<Long, Document> newDocuments = new HashMap<>();
+
+			for (Object[] row : chatRoomRepository.findSearchableRooms(ChatRoomType.GROUP)) {
+				Document document = Document.of((String) row[1], (String) row[2]);
+				newDocuments.put((Long) row[0], document);
+				for (String token : document.tokens()) {
+					newPostings.computeIfAbsent(token, t -> new HashSet<>()).add((Long) row[0]);
+				}
+			}
+
+			int replayed;
+			lock.writeLock().lock();
+			try {
+				postings = newPostings;
+				documents = newDocuments;
+				replayed = changesDuringRebuild.size();
+				changesDuringRebuild.forEach(this::apply);
+			} finally {
+				changesDuringRebuild = null;
+				lock.writeLock().unlock();
+			}
+
+			indexedVersion = version;
+			ready = true;
+			log.info("채팅방 검색 색인 완료: {}개 채팅방, {}개 토큰, 재적용 {}건", newDocuments.size(), newPostings.size(),
+				replayed);
+		} catch (Exception e) {
+			lock.writeLock().lock();
+			try {
+				changesDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			log.warn("채팅방 검색 색인 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 마지막 색인 버전 이후 증가분이 이 노드에서 반영한 변경 수 이하인지 확인
+	 * - 버전이 숫자가 아니거나 줄어든 경우(Redis 초기화 등)는 재색인
+	 */
+	private boolean isCoveredByLocalChanges(String version, long applied) {
+		if (indexedVersion == null) {
+			return false;
+		}
+		try {
+			long delta = Long.parseLong(version) - Long.parseLong(indexedVersion);
+			return delta >= 0 && delta <= applied;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 모든 토큰을 포함하는 후보 채팅방 (포스팅이 가장 작은 토큰부터 교집합)
+	 */
+	private Set<Long> candidates(Set<String> tokens) {
+		List<Set<Long>> lists = new ArrayList<>(tokens.size());
+		for (String token : tokens) {
+			Set<Long> list = postings.get(token);
+			if (list == null) {
+				return Set.of();
+			}
+			lists.add(list);
+		}
+		lists.sort(Comparator.comparingInt(Set::size));
+
+		Set<Long> result = new HashSet<>(lists.get(0));
+		for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+			result.retainAll(lists.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * bigram 이 모두 포함되어도 실제 부분 문자열이 아닐 수 있으므로 정규화된 원문으로 확인 후 점수 계산
+	 */
+	private int score(Document document, String query) {
+		int score = 0;
+		if (document.name().equals(query)) {
+			score += SCORE_NAME_EXACT;
+		} else if (document.name().startsWith(query)) {
+			score += SCORE_NAME_PREFIX;
+		} else if (document.name().contains(query)) {
+			score += SCORE_NAME_CONTAINS;
+		}
+		if (document.category().contains(query)) {
+			score += SCORE_CATEGORY_CONTAINS;
+		}
+		return score;
+	}
+
+	private void apply(Long chatRoomId, Change change) {
+		removeDocument(chatRoomId);
+		if (change.type() == ChatRoomType.GROUP && !change.deleted()) {
+			addDocument(chatRoomId, change.name(), change.category());
+		}
+	}
+
+	private void addDocument(Long chatRoomId, String name, String category) {
+		Document document = Document.of(name, category);
+		documents.put(chatRoomId, document);
+		for (String token : document.tokens()) {
+			postings.computeIfAbsent(token, t -> new HashSet<>()).add(chatRoomId);
+		}
+	}
+
+	private void removeDocument(Long chatRoomId) {
+		Document document = documents.remove(chatRoomId);
+		if (document == null) {
+			return;
+		}
+		for (String token : document.tokens()) {
+			Set<Long> list = postings.get(token);
+			if (list != null) {
+				list.remove(chatRoomId);
+				if (list.isEmpty()) {
+					postings.remove(token);
+				}
+			}
+		}
+	}
+
+	private String readVersion() {
+		try {
+			String version = redisTemplate.opsForValue().get(VERSION_KEY);
+			return version != null ? version : "0";
+		} catch (Exception e) {
+			log.warn("채팅방 디렉터리 버전 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 정규화된 이름/카테고리와 색인 토큰
+	 */
+	private record Document(String name, String category, Set<String> tokens) {
+
+		static Document of(String name, String category) {
+			Set<String> tokens = new HashSet<>(BigramTokenizer.indexTokens(name));
+			tokens.addAll(BigramTokenizer.indexTokens(category));
+			return new Document(BigramTokenizer.normalize(name), BigramTokenizer.normalize(category), tokens);
+		}
+	}
+
+	/**
+	 * 채팅방 한 곳의 변경 내용 (재색인 후 재적용용)
+	 */
+	private record Change(String name, String category, ChatRoomType type, boolean deleted) {
+	}
+
+	private record ScoredRoom(Long chatRoomId, int score, int nameLength) {
+	}
+}
@@ -2,12 +2,15 @@ package seoul.seoulfest.chat.service.chatroom;
 
 import org.springframework.data.domain.Page;
 
+import seoul.seoulfest.chat.dto.request.chatroom.BulkInviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.CreateChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.InviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.KickChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.UpdateChatRoomReq;
+import seoul.seoulfest.chat.dto.response.BulkInviteChatRoomRes;
 import seoul.seoulfest.chat.dto.response.ChatRoomRes;
 import seoul.seoulfest.chat.dto.response.MyChatRoomRes;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
 
 /**
  * 채팅방 서비스 인터페이스
@@ -23,9 +26,9 @@ public interface ChatRoomService {
 	/**
 	 * 전체 채팅방 목록 조회
 	 */
-	Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword);
+	Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword, ChatRoomSortType sortType);
 
-	Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category);
+	Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category, ChatRoomSortType sortType);
 
 	/**
 	 * 채팅방 생성
@@ -59,4 +62,9 @@ public interface ChatRoomService {
 	 * 채팅방 초대 (이메일)
 	 */
 	void inviteChatRoom(InviteChatRoomReq request);
+
+	/**
+	 * 채팅방 일괄 초대 (이메일, verifyId 목록)
+	 */
+	BulkInviteChatRoomRes inviteChatRoomBulk(BulkInviteChatRoomReq request);
 }
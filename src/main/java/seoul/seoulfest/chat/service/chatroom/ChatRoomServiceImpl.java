@@ -4,12 +4,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import seoul.seoulfest.chat.dto.request.chatroom.BulkInviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.CreateChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.InviteChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.KickChatRoomReq;
 import seoul.seoulfest.chat.dto.request.chatroom.UpdateChatRoomReq;
+import seoul.seoulfest.chat.dto.response.BulkInviteChatRoomRes;
 import seoul.seoulfest.chat.dto.response.ChatRoomRes;
 import seoul.seoulfest.chat.dto.response.MyChatRoomRes;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
 
 /**
  * 채팅방 서비스 파사드 클래스
@@ -54,14 +57,19 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 		membershipService.inviteChatRoom(request);
 	}
 
+	@Override
+	public BulkInviteChatRoomRes inviteChatRoomBulk(BulkInviteChatRoomReq request) {
+		return membershipService.inviteChatRoomBulk(request);
+	}
+
 	@Override
 	public Page<MyChatRoomRes> listMyChatRooms(String verifyId, int page, int size, String keyword) {
 		return queryService.listMyChatRooms(verifyId, page, size, keyword);
 	}
 
 	@Override
-	public Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword) {
-		return queryService.listAllChatRooms(page, size, keyword);
+	public Page<ChatRoomRes> listAllChatRooms(int page, int size, String keyword, ChatRoomSortType sortType) {
+		return queryService.listAllChatRooms(page, size, keyword, sortType);
 	}
 
 	@Override
@@ -70,7 +78,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 	}
 
 	@Override
-	public Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category) {
-		return queryService.listChatRoomsByCategory(page, size, category);
+	public Page<ChatRoomRes> listChatRoomsByCategory(int page, int size, String category, ChatRoomSortType sortType) {
+		return queryService.listChatRoomsByCategory(page, size, category, sortType);
 	}
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import seoul.seoulfest.chat.entity.ChatRoom;
 import seoul.seoulfest.chat.entity.ChatRoomMember;
+import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
 import seoul.seoulfest.chat.exception.ChatErrorCode;
 import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
 import seoul.seoulfest.chat.repository.ChatRoomRepository;
@@ -83,4 +84,20 @@ public class ChatRoomValidator {
 		return chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member)
 			.orElseThrow(() -> new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM_MEMBER));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 참여 중인 채팅방 멤버 조회
+	 * - 채팅방 멤버가 존재하고, 강퇴되거나 탈퇴하지 않은 ACTIVE 상태인지 확인
+	 */
+	public ChatRoomMember validateAndGetActiveChatRoomMember(ChatRoom chatRoom, Member member) {
+		ChatRoomMember chatRoomMember = validateAndGetChatRoomMember(chatRoom, member);
+
+		if (chatRoomMember.getKickedAt() != null || chatRoomMember.getStatus() == ChatRoomMemberStatus.KICKED) {
+			throw new BusinessException(ChatErrorCode.KICKED_CHATROOM_MEMBER);
+		}
+		if (chatRoomMember.getStatus() != ChatRoomMemberStatus.ACTIVE) {
+			throw new BusinessException(ChatErrorCode.EXITED_CHATROOM_MEMBER);
+		}
+		return chatRoomMember;
+	}
+}
@@ -0,0 +1,230 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 WebSocket 이벤트 발행기
+ * - 트랜잭션 안에서 발행한 이벤트는 커밋된 이후에만 발송 (롤백되면 발송하지 않음)
+ * - 커밋 이후에는 대기열에만 넣고 전용 스레드가 배치로 발송하여 요청 스레드가 DB 커넥션을 오래 잡지 않도록 함
+ * - 같은 채팅방 이벤트는 같은 레인에서 발행 순서대로 발송
+ * - 대기열이 가득 차면 offer-timeout-ms 동안 기다림 (호출 스레드에서 직접 발송하면 대기 중인 이벤트를 앞지르므로 하지 않음)
+ * - 그래도 자리가 나지 않으면 이벤트를 버리고 chat.outbound.dropped 로 집계 (클라이언트는 순번 재동기화로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatEventPublisher {
+
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.outbound.async:true}")
+	private boolean async;
+
+	@Value("${chat.outbound.lanes:4}")
+	private int laneCount;
+
+	@Value("${chat.outbound.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${chat.outbound.batch-size:100}")
+	private int batchSize;
+
+	@Value("${chat.outbound.offer-timeout-ms:1000}")
+	private long offerTimeoutMs;
+
+	private Lane[] lanes;
+	private volatile boolean running;
+
+	private Counter sentCounter;
+	private Counter failedCounter;
+	private Counter droppedCounter;
+	private Timer batchTimer;
+
+	@PostConstruct
+	public void init() {
+		sentCounter = Counter.builder("chat.outbound.sent").register(meterRegistry);
+		failedCounter = Counter.builder("chat.outbound.failed").register(meterRegistry);
+		droppedCounter = Counter.builder("chat.outbound.dropped").register(meterRegistry);
+		batchTimer = Timer.builder("chat.outbound.batch").register(meterRegistry);
+
+		if (!async) {
+			return;
+		}
+
+		running = true;
+		lanes = new Lane[Math.max(1, laneCount)];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = new Lane(new ArrayBlockingQueue<>(queueCapacity), "chat-outbound-" + i);
+			lanes[i].thread.start();
+		}
+
+		Gauge.builder("chat.outbound.queue.depth", this, ChatEventPublisher::getQueuedCount)
+			.description("발송 대기 중인 WebSocket 이벤트 수")
+			.register(meterRegistry);
+
+		log.info("채팅 WebSocket 비동기 발송 활성화 - 레인: {}, 레인별 대기열: {}, 배치: {}",
+			lanes.length, queueCapacity, batchSize);
+	}
+
+	/**
+	 * 목적지 구독자 전체에게 발송 (트랜잭션 중이면 커밋 이후)
+	 */
+	public void publish(String destination, Object payload) {
+		eventPublisher.publishEvent(new ChatOutboundEvent(null, destination, payload));
+	}
+
+	/**
+	 * 특정 사용자의 개인 목적지로 발송 (트랜잭션 중이면 커밋 이후)
+	 */
+	public void publishToUser(String user, String destination, Object payload) {
+		eventPublisher.publishEvent(new ChatOutboundEvent(user, destination, payload));
+	}
+
+	/**
+	 * 커밋된 이벤트를 발송 대기열에 추가 (트랜잭션 밖에서 발행된 이벤트는 바로 추가)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOutboundEvent(ChatOutboundEvent event) {
+		if (!running) {
+			send(event);
+			return;
+		}
+
+		Lane lane = lanes[laneOf(event)];
+		try {
+			if (lane.queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+			log.error("WebSocket 발송 대기열 포화 - {}ms 대기 후 이벤트 폐기: {}", offerTimeoutMs, event.getDestination());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("WebSocket 발송 대기 중 인터럽트 - 이벤트 폐기: {}", event.getDestination());
+		}
+		droppedCounter.increment();
+	}
+
+	public int getQueuedCount() {
+		int queued = 0;
+		for (Lane lane : lanes) {
+			queued += lane.queue.size();
+		}
+		return queued;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (!running) {
+			return;
+		}
+
+		running = false;
+		for (Lane lane : lanes) {
+			lane.thread.interrupt();
+		}
+		for (Lane lane : lanes) {
+			try {
+				lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+
+		// 종료 직전까지 들어온 이벤트 발송
+		for (Lane lane : lanes) {
+			drain(lane);
+		}
+	}
+
+	private void runLane(Lane lane) {
+		List<ChatOutboundEvent> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				batch.add(lane.queue.take());
+			} catch (InterruptedException e) {
+				break;
+			}
+			lane.queue.drainTo(batch, batchSize - 1);
+			sendBatch(batch);
+			batch.clear();
+		}
+	}
+
+	private void drain(Lane lane) {
+		List<ChatOutboundEvent> batch = new ArrayList<>(batchSize);
+		while (lane.queue.drainTo(batch, batchSize) > 0) {
+			sendBatch(batch);
+			batch.clear();
+		}
+	}
+
+	private void sendBatch(List<ChatOutboundEvent> batch) {
+		batchTimer.record(() -> {
+			for (ChatOutboundEvent event : batch) {
+				send(event);
+			}
+		});
+	}
+
+	private void send(ChatOutboundEvent event) {
+		try {
+			SimpMessagingTemplate messagingTemplate = messagingTemplateProvider.getObject();
+			if (event.getUser() != null) {
+				messagingTemplate.convertAndSendToUser(event.getUser(), event.getDestination(), event.getPayload());
+			} else {
+				messagingTemplate.convertAndSend(event.getDestination(), event.getPayload());
+			}
+			sentCounter.increment();
+		} catch (RuntimeException e) {
+			failedCounter.increment();
+			log.error("WebSocket 이벤트 발송 실패: {}", event.getDestination(), e);
+		}
+	}
+
+	/**
+	 * 채팅방 토픽은 채팅방 ID, 그 외에는 목적지(+사용자) 기준으로 레인 선택
+	 */
+	private int laneOf(ChatOutboundEvent event) {
+		long chatRoomId = StompDestinationParser.parseRoomTopic(event.getDestination());
+		int hash = chatRoomId != StompDestinationParser.INVALID_ROOM_ID
+			? Long.hashCode(chatRoomId)
+			: (event.getUser() + event.getDestination()).hashCode();
+		hash ^= (hash >>> 16);
+		return Math.floorMod(hash, lanes.length);
+	}
+
+	private class Lane {
+
+		private final BlockingQueue<ChatOutboundEvent> queue;
+		private final Thread thread;
+
+		private Lane(BlockingQueue<ChatOutboundEvent> queue, String threadName) {
+			this.queue = queue;
+			this.thread = new Thread(() -> runLane(this), threadName);
+			this.thread.setDaemon(true);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 채팅 메시지 보관(아카이브) 처리
+ * - retention-days 보다 오래된 메시지를 chat_message_archive 로, 첨부 미디어를 모두 chat_media_archive 로 옮기고
+ *   chat_message/chat_media 에서 삭제
+ * - 한 번에 batch-size 개씩 한 트랜잭션으로 처리하여 잠금 시간을 짧게 유지
+ * - chat_message 를 작게 유지하여 채팅방별 조회 인덱스가 메모리에 머물도록 하는 것이 목적
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiver {
+
+	// 보관 대상 메시지 ID (ID 순으로 앞에서부터 찾으므로 오래된 메시지부터 처리)
+	private static final String SELECT_ARCHIVE_TARGET_SQL =
+		"SELECT message_id FROM chat_message WHERE created_at < ? ORDER BY message_id LIMIT ?";
+
+	private static final String INSERT_ARCHIVE_SQL =
+		"INSERT INTO chat_message_archive "
+			+ "(message_id, chat_room_id, seq, sender_id, content, type, created_at, deleted_at, media_s3_key, archived_at) "
+			+ "SELECT m.message_id, m.chat_room_id, m.seq, m.sender_id, m.content, m.type, m.created_at, m.deleted_at, "
+			+ "(SELECT md.s3_key FROM chat_media md WHERE md.message_id = m.message_id ORDER BY md.media_id LIMIT 1), ? "
+			+ "FROM chat_message m WHERE m.message_id IN (%s)";
+
+	// 메시지의 모든 첨부 미디어 보관 (chat_message_archive.media_s3_key 는 응답용 첫 번째 키만 가짐)
+	private static final String INSERT_MEDIA_ARCHIVE_SQL =
+		"INSERT INTO chat_media_archive (media_id, message_id, s3_key, archived_at) "
+			+ "SELECT md.media_id, md.message_id, md.s3_key, ? "
+			+ "FROM chat_media md WHERE md.message_id IN (%s)";
+
+	private static final String DELETE_MEDIA_SQL = "DELETE FROM chat_media WHERE message_id IN (%s)";
+
+	private static final String DELETE_MESSAGE_SQL = "DELETE FROM chat_message WHERE message_id IN (%s)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.archive.retention-days:180}")
+	private int retentionDays;
+
+	@Value("${chat.archive.batch-size:1000}")
+	private int batchSize;
+
+	private Counter movedCounter;
+	private Timer batchTimer;
+
+	@PostConstruct
+	public void init() {
+		movedCounter = Counter.builder("chat.message.archive.moved")
+			.description("아카이브로 옮긴 채팅 메시지 수")
+			.register(meterRegistry);
+		batchTimer = Timer.builder("chat.message.archive.batch")
+			.description("아카이브 배치 한 번의 처리 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 보관 기준 시각 (이 시각 이전에 생성된 메시지가 보관 대상)
+	 */
+	public LocalDateTime cutoff() {
+		return LocalDateTime.now().minusDays(retentionDays);
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 기준 시각 이전 메시지를 최대 batch-size 개 아카이브로 이동
+	 *
+	 * @return 이동한 메시지 수 (batch-size 보다 작으면 남은 대상 없음)
+	 */
+	@Transactional
+	public int archiveBatch(LocalDateTime cutoff) {
+		return batchTimer.record(() -> {
+			List<Long> messageIds = jdbcTemplate.queryForList(SELECT_ARCHIVE_TARGET_SQL, Long.class,
+				Timestamp.valueOf(cutoff), batchSize);
+			if (messageIds.isEmpty()) {
+				return 0;
+			}
+
+			String placeholders = String.join(",", Collections.nCopies(messageIds.size(), "?"));
+			Object[] ids = messageIds.toArray();
+
+			Object[] insertArgs = new Object[ids.length + 1];
+			insertArgs[0] = Timestamp.valueOf(LocalDateTime.now());
+			System.arraycopy(ids, 0, insertArgs, 1, ids.length);
+
+			jdbcTemplate.update(INSERT_ARCHIVE_SQL.formatted(placeholders), insertArgs);
+			jdbcTemplate.update(INSERT_MEDIA_ARCHIVE_SQL.formatted(placeholders), insertArgs);
+			jdbcTemplate.update(DELETE_MEDIA_SQL.formatted(placeholders), ids);
+			int moved = jdbcTemplate.update(DELETE_MESSAGE_SQL.formatted(placeholders), ids);
+
+			movedCounter.increment(moved);
+			log.debug("채팅 메시지 {}건 아카이브 이동", moved);
+			return moved;
+		});
+	}
+}
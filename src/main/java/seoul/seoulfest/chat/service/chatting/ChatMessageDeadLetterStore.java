@@ -0,0 +1,42 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 기록에 최종 실패한 write-behind 메시지 보관소 (Redis 리스트)
+ * - 재시도와 단건 기록까지 실패한 메시지를 JSON 으로 보관하여 원인 확인 후 재처리할 수 있도록 함
+ * - Redis 에도 저장하지 못하면 메시지 내용을 에러 로그로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageDeadLetterStore {
+
+	private static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 기록 실패 메시지 보관
+	 */
+	public void save(PendingChatMessage message, Exception cause) {
+		try {
+			redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(message));
+			log.error("채팅 메시지 기록 최종 실패 - dead-letter 보관: 메시지 {} - {}",
+				message.getMessageId(), cause.getMessage());
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.error("채팅 메시지 dead-letter 보관 실패 - 유실 메시지: id={}, room={}, seq={}, sender={}, content={}",
+				message.getMessageId(), message.getChatRoomId(), message.getSeq(), message.getSenderId(),
+				message.getContent(), e);
+		}
+	}
+}
@@ -0,0 +1,391 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+import seoul.seoulfest.util.id.SnowflakeIdGenerator;
+import seoul.seoulfest.util.text.BigramTokenizer;
+
+/**
+ * 채팅방 메시지 검색용 n-gram 역색인
+ * - 채팅방마다 최근 messages-per-room 개 메시지의 bigram 포스팅을 보관하고, 처음 검색할 때 chat_message 에서 생성
+ * - 이 노드의 전송/삭제는 커밋 이후 바로 반영하고, 다른 노드에서 저장된 메시지는 검색 시 마지막으로 읽은 ID 이후와 최근 구간을 다시 읽어 반영
+ * - 다른 노드의 삭제는 색인에 남아 있을 수 있으므로 검색 결과는 DB 에서 삭제 여부를 다시 확인해야 함
+ * - max-rooms 를 넘으면 가장 오래 검색하지 않은 채팅방 색인부터 제거
+ * - 색인이 채팅방의 일부 메시지만 담고 있으면 검색 결과에 색인 시작 ID(indexedFromId)를 함께 반환 (그 이전은 DB 에서 조회)
+ * - 메모리: 메시지마다 본문 + 본문 길이만큼의 포스팅 항목(8바이트)을 보관하므로,
+ *   평균 50자 메시지 기준 채팅방당 약 1~2MB, 기본값(2,000건 x 50개 채팅방)으로 최대 100MB 이하
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSearchIndex {
+
+	// DB 에서 한 번에 읽어 색인할 메시지 수
+	private static final int LOAD_BATCH_SIZE = 1000;
+
+	private final ChatMessageRepository chatMessageRepository;
+
+	@Value("${chat.message-search.messages-per-room:2000}")
+	private int messagesPerRoom;
+
+	@Value("${chat.message-search.max-rooms:50}")
+	private int maxRooms;
+
+	// 늦게 커밋되는 메시지(write-behind, 진행 중인 트랜잭션, 노드 간 시계 차이)를 위해 다시 읽는 최근 구간
+	@Value("${chat.message-search.catch-up-window-ms:30000}")
+	private long catchUpWindowMillis;
+
+	// 채팅방 ID -> 색인 (접근 순서 LRU, rooms 로 동기화)
+	private Map<Long, RoomIndex> rooms;
+
+	@PostConstruct
+	public void init() {
+		rooms = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, RoomIndex> eldest) {
+				return size() > maxRooms;
+			}
+		};
+	}
+
+	/**
+	 * 검색어를 포함하는 메시지 ID를 최신순으로 조회
+	 *
+	 * @param beforeId 이 ID 보다 이전 메시지만 조회 (null 이면 최신 메시지부터)
+	 * @param limit    최대 조회 수
+	 * @return 일치하는 메시지 ID와 색인 시작 ID (색인이 채팅방 전체를 담고 있으면 null)
+	 */
+	public SearchResult search(Long chatRoomId, String keyword, Long beforeId, int limit) {
+		RoomIndex index = getOrLoad(chatRoomId);
+		catchUp(chatRoomId, index);
+		synchronized (index) {
+			return new SearchResult(index.search(keyword, beforeId, limit), index.indexedFromId());
+		}
+	}
+
+	/**
+	 * 전송된 메시지 색인 (트랜잭션 중이면 커밋 이후 반영, 색인이 없는 채팅방은 무시)
+	 */
+	public void add(ChatMessageResponse message) {
+		if (message.getMessageId() == null || message.isDeleted()) {
+			return;
+		}
+		afterCommit(() -> {
+			RoomIndex index = get(message.getChatRoomId());
+			if (index != null) {
+				synchronized (index) {
+					index.add(message.getMessageId(), message.getContent());
+				}
+			}
+		});
+	}
+
+	/**
+	 * 삭제된 메시지 색인 제거 (트랜잭션 중이면 커밋 이후 반영)
+	 */
+	public void remove(Long chatRoomId, Long messageId) {
+		afterCommit(() -> {
+			RoomIndex index = get(chatRoomId);
+			if (index != null) {
+				synchronized (index) {
+					index.remove(messageId);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 채팅방 색인을 버리고 chat_message 에서 다시 생성
+	 */
+	public void rebuild(Long chatRoomId) {
+		synchronized (rooms) {
+			rooms.remove(chatRoomId);
+		}
+		getOrLoad(chatRoomId);
+	}
+
+	private RoomIndex get(Long chatRoomId) {
+		synchronized (rooms) {
+			return rooms.get(chatRoomId);
+		}
+	}
+
+	private RoomIndex getOrLoad(Long chatRoomId) {
+		RoomIndex index;
+		synchronized (rooms) {
+			index = rooms.computeIfAbsent(chatRoomId, id -> new RoomIndex(messagesPerRoom));
+		}
+
+		synchronized (index) {
+			if (!index.loaded) {
+				load(chatRoomId, index);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * 최근 messages-per-room 개 메시지로 색인 생성
+	 */
+	private void load(Long chatRoomId, RoomIndex index) {
+		List<Object[]> rows = chatMessageRepository.findSearchableContentsByRoomId(chatRoomId,
+			PageRequest.of(0, messagesPerRoom));
+
+		for (Object[] row : rows) {
+			index.add((Long) row[0], (String) row[1]);
+			index.lastLoadedId = Math.max(index.lastLoadedId, (Long) row[0]);
+		}
+		// 최근 messages-per-room 개를 모두 채웠으면 더 오래된 메시지가 있을 수 있음
+		if (rows.size() == messagesPerRoom) {
+			index.truncateBelow((Long) rows.get(rows.size() - 1)[0]);
+		}
+		index.loaded = true;
+		log.debug("채팅방({}) 메시지 검색 색인 생성: {}건", chatRoomId, rows.size());
+	}
+
+	/**
+	 * 마지막으로 읽은 ID 이후 저장된 메시지 반영 (다른 노드에서 전송된 메시지 포함)
+	 * - ID 는 발급 순서일 뿐 커밋 순서가 아니므로, 마지막으로 읽은 ID 보다 작은 메시지가 나중에 커밋될 수 있음
+	 *   -> 최근 catch-up-window-ms 구간은 매번 다시 읽고, 이미 색인된 메시지는 무시
+	 * - DB 조회는 색인 잠금 밖에서 수행하여 같은 채팅방 검색/전송 반영이 조회를 기다리지 않도록 함
+	 */
+	void catchUp(Long chatRoomId, RoomIndex index) {
+		long afterId;
+		synchronized (index) {
+			afterId = Math.min(index.lastLoadedId,
+				SnowflakeIdGenerator.minIdAt(System.currentTimeMillis() - catchUpWindowMillis));
+		}
+
+		List<Object[]> rows;
+		do {
+			rows = chatMessageRepository.findSearchableContentsByRoomIdAfter(chatRoomId, afterId,
+				PageRequest.of(0, LOAD_BATCH_SIZE));
+			synchronized (index) {
+				for (Object[] row : rows) {
+					index.add((Long) row[0], (String) row[1]);
+					index.lastLoadedId = Math.max(index.lastLoadedId, (Long) row[0]);
+				}
+			}
+			if (!rows.isEmpty()) {
+				afterId = (Long) rows.get(rows.size() - 1)[0];
+			}
+		} while (rows.size() == LOAD_BATCH_SIZE);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	/**
+	 * 검색 결과
+	 *
+	 * @param messageIds    일치하는 메시지 ID (최신순)
+	 * @param indexedFromId 색인에 포함된 가장 오래된 메시지 ID (이보다 작은 메시지는 색인에 없음, 전체를 담고 있으면 null)
+	 */
+	public record SearchResult(List<Long> messageIds, Long indexedFromId) {
+	}
+
+	/**
+	 * 한 채팅방의 메시지 역색인
+	 * - 메시지 ID 순으로 정렬된 포스팅을 사용하여 최신 메시지부터 필요한 개수만큼만 찾음
+	 */
+	static class RoomIndex {
+
+		private final int capacity;
+
+		// 토큰 -> 메시지 ID 목록
+		private final Map<String, LongPostings> postings = new HashMap<>();
+
+		// 메시지 ID -> 정규화된 본문 (bigram 교집합 후 실제 부분 문자열인지 확인용)
+		private final TreeMap<Long, String> documents = new TreeMap<>();
+
+		private boolean loaded;
+
+		// DB 에서 마지막으로 읽은 메시지 ID
+		private long lastLoadedId;
+
+		// 이 ID 보다 작은 메시지는 색인에 없음 (0 이면 채팅방 전체를 색인)
+		private long indexedFromId;
+
+		RoomIndex(int capacity) {
+			this.capacity = capacity;
+		}
+
+		void add(Long messageId, String content) {
+			if (content == null || documents.containsKey(messageId)) {
+				return;
+			}
+
+			documents.put(messageId, BigramTokenizer.normalize(content));
+			for (String token : BigramTokenizer.indexTokens(content)) {
+				postings.computeIfAbsent(token, t -> new LongPostings()).add(messageId);
+			}
+
+			// 용량을 넘으면 가장 오래된 메시지부터 제거
+			while (documents.size() > capacity) {
+				Long oldest = documents.firstKey();
+				remove(oldest);
+				truncateBelow(oldest + 1);
+			}
+		}
+
+		/**
+		 * fromId 보다 작은 메시지는 색인에 없는 것으로 표시
+		 */
+		void truncateBelow(long fromId) {
+			indexedFromId = Math.max(indexedFromId, fromId);
+		}
+
+		Long indexedFromId() {
+			return indexedFromId > 0 ? indexedFromId : null;
+		}
+
+		void remove(Long messageId) {
+			String normalized = documents.remove(messageId);
+			if (normalized == null) {
+				return;
+			}
+			for (String token : BigramTokenizer.indexTokens(normalized)) {
+				LongPostings ids = postings.get(token);
+				if (ids != null) {
+					ids.remove(messageId);
+					if (ids.isEmpty()) {
+						postings.remove(token);
+					}
+				}
+			}
+		}
+
+		List<Long> search(String keyword, Long beforeId, int limit) {
+			String query = BigramTokenizer.normalize(keyword);
+			Set<String> tokens = BigramTokenizer.queryTokens(keyword);
+			if (tokens.isEmpty()) {
+				return List.of();
+			}
+
+			// 가장 작은 포스팅을 기준으로 나머지 포스팅 포함 여부 확인
+			List<LongPostings> lists = new ArrayList<>(tokens.size());
+			for (String token : tokens) {
+				LongPostings ids = postings.get(token);
+				if (ids == null) {
+					return List.of();
+				}
+				lists.add(ids);
+			}
+			lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+			LongPostings smallest = lists.get(0);
+			int from = beforeId == null ? smallest.size() - 1 : smallest.lowerIndex(beforeId);
+
+			List<Long> result = new ArrayList<>(limit);
+			for (int i = from; i >= 0; i--) {
+				long messageId = smallest.get(i);
+				if (containsAll(lists, messageId) && documents.get(messageId).contains(query)) {
+					result.add(messageId);
+					if (result.size() == limit) {
+						break;
+					}
+				}
+			}
+			return result;
+		}
+
+		private boolean containsAll(List<LongPostings> lists, long messageId) {
+			for (int i = 1; i < lists.size(); i++) {
+				if (!lists.get(i).contains(messageId)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 정렬된 long 배열 포스팅
+	 * - TreeSet<Long> 은 항목마다 노드와 Long 객체로 수십 바이트를 쓰므로, 항목당 8바이트인 배열로 보관
+	 * - 메시지는 대부분 ID 순으로 추가되므로 삽입은 보통 배열 끝에 붙음
+	 */
+	static class LongPostings {
+
+		private long[] ids = new long[4];
+		private int size;
+
+		void add(long id) {
+			int index = Arrays.binarySearch(ids, 0, size, id);
+			if (index >= 0) {
+				return;
+			}
+			int insertAt = -index - 1;
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+			}
+			System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+			ids[insertAt] = id;
+			size++;
+		}
+
+		void remove(long id) {
+			int index = Arrays.binarySearch(ids, 0, size, id);
+			if (index < 0) {
+				return;
+			}
+			System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+			size--;
+			// 많이 줄어들면 배열도 줄임
+			if (ids.length > 16 && size < ids.length / 4) {
+				ids = Arrays.copyOf(ids, ids.length / 2);
+			}
+		}
+
+		boolean contains(long id) {
+			return Arrays.binarySearch(ids, 0, size, id) >= 0;
+		}
+
+		/**
+		 * id 보다 작은 마지막 항목의 위치 (없으면 -1)
+		 */
+		int lowerIndex(long id) {
+			int index = Arrays.binarySearch(ids, 0, size, id);
+			return (index >= 0 ? index : -index - 1) - 1;
+		}
+
+		long get(int index) {
+			return ids[index];
+		}
+
+		int size() {
+			return size;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.exception.ChatErrorCode;
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+import seoul.seoulfest.exception.BusinessException;
+
+/**
+ * 채팅방별 메시지 순번(seq) 발급
+ * - Redis INCR 로 채팅방마다 1씩 증가하는 순번을 발급하여 여러 노드에서도 중복 없이 단조 증가
+ * - Redis 키가 없으면 (최초 사용, Redis 데이터 유실) DB 의 최대 순번 + reseed-margin 으로 초기화한 뒤 발급
+ *   (이미 발급되었지만 아직 커밋/기록되지 않은 순번(write-behind 큐, 진행 중인 트랜잭션)을 다시 발급하지 않도록 건너뜀)
+ * - 발급 후 트랜잭션이 롤백되면 해당 순번은 비어 있을 수 있음 (클라이언트는 빈 순번을 건너뜀)
+ * - Redis 장애로 발급할 수 없으면 전송 자체를 실패시킴 (순번 없는 메시지는 재동기화에서 누락되므로 저장하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSequencer {
+
+	private static final String SEQ_KEY = "chat:room:%d:seq";
+
+	// 키가 있을 때만 증가, 없으면 nil 반환 (초기화 필요)
+	private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end return nil",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatMessageRepository chatMessageRepository;
+
+	// 재초기화 시 DB 최대 순번 이후 건너뛸 순번 수 (노드별 write-behind 큐 용량 이상 권장)
+	@Value("${chat.message.seq.reseed-margin:10000}")
+	private long reseedMargin;
+
+	/**
+	 * 다음 메시지 순번 발급
+	 *
+	 * @return 순번
+	 * @throws BusinessException Redis 장애로 순번을 발급할 수 없는 경우 (MESSAGE_SEQ_UNAVAILABLE)
+	 */
+	public Long next(Long chatRoomId) {
+		String key = SEQ_KEY.formatted(chatRoomId);
+		try {
+			Long seq = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key));
+			if (seq != null) {
+				return seq;
+			}
+
+			// 다른 노드가 먼저 초기화했다면 그 값을 유지
+			long maxSeq = chatMessageRepository.findMaxSeqByChatRoomId(chatRoomId);
+			long seed = maxSeq > 0 ? maxSeq + reseedMargin : 0;
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed)))) {
+				log.info("메시지 순번 재초기화: 채팅방 {} - DB 최대 순번 {}, 시작 순번 {}", chatRoomId, maxSeq, seed + 1);
+			}
+			seq = redisTemplate.opsForValue().increment(key);
+			if (seq != null) {
+				return seq;
+			}
+			log.error("메시지 순번 발급 실패: 채팅방 {} - 증가 결과 없음", chatRoomId);
+		} catch (Exception e) {
+			log.error("메시지 순번 발급 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+		}
+		throw new BusinessException(ChatErrorCode.MESSAGE_SEQ_UNAVAILABLE);
+	}
+}
@@ -6,7 +6,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import seoul.seoulfest.chat.dto.request.chatting.request.ChatMessageRequest;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageContextResponse;
 import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSliceResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSyncResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatPresenceResponse;
 
 public interface ChatMessageService {
 
@@ -42,8 +46,9 @@ public interface ChatMessageService {
 	 *
 	 * @param roomId 채팅방 ID
 	 * @param verifyId 사용자 인증ID
+	 * @param sessionId 웹소켓 세션 ID (연결 종료 시 퇴장 처리용)
 	 */
-	void enterChatRoom(Long roomId, String verifyId);
+	void enterChatRoom(Long roomId, String verifyId, String sessionId);
 
 	void leaveChatRoom(Long roomId, String verifyId);
 
@@ -73,4 +78,58 @@ public interface ChatMessageService {
 	 * @return 채팅 메시지 페이지
 	 */
 	Page<ChatMessageResponse> getMessagesBefore(Long chatRoomId, Long lastMessageId, String verifyId, Pageable pageable);
+
+	/**
+	 * 커서 기반 메시지 목록 조회 (COUNT 쿼리 없는 무한 스크롤용)
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param cursor 마지막으로 로드된 메시지 ID (null이면 최신 메시지부터)
+	 * @param verifyId 요청자 인증ID
+	 * @param size 조회할 메시지 수
+	 * @return 메시지 목록과 다음 커서
+	 */
+	ChatMessageSliceResponse getMessagesByCursor(Long chatRoomId, Long cursor, String verifyId, int size);
+
+	/**
+	 * 순번 기반 재동기화 (재연결 시 놓친 메시지만 조회)
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param afterSeq 마지막으로 받은 메시지 순번
+	 * @param verifyId 요청자 인증ID
+	 * @param limit 조회할 최대 메시지 수
+	 * @return afterSeq 이후 메시지 목록과 다음 요청 순번
+	 */
+	ChatMessageSyncResponse syncMessages(Long chatRoomId, Long afterSeq, String verifyId, int limit);
+
+	/**
+	 * 채팅방 메시지 검색 (최신순, 커서 기반)
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param keyword 검색어
+	 * @param cursor 마지막으로 받은 검색 결과 메시지 ID (null이면 최신 메시지부터)
+	 * @param verifyId 요청자 인증ID
+	 * @param size 조회할 검색 결과 수
+	 * @return 검색어를 포함하는 메시지 목록과 다음 커서
+	 */
+	ChatMessageSliceResponse searchMessages(Long chatRoomId, String keyword, Long cursor, String verifyId, int size);
+
+	/**
+	 * 특정 메시지 전후 메시지 조회 (검색 결과 위치로 이동)
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param messageId 기준 메시지 ID
+	 * @param verifyId 요청자 인증ID
+	 * @param window 기준 메시지 앞뒤로 조회할 메시지 수
+	 * @return 기준 메시지를 포함한 전후 메시지 목록
+	 */
+	ChatMessageContextResponse getMessageContext(Long chatRoomId, Long messageId, String verifyId, int window);
+
+	/**
+	 * 채팅방 접속자 수 조회
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param verifyId 요청자 인증ID
+	 * @return 현재 접속 중인 회원 수
+	 */
+	ChatPresenceResponse getPresence(Long chatRoomId, String verifyId);
 }
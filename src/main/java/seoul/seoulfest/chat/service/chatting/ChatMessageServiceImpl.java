@@ -1,32 +1,49 @@
 package seoul.seoulfest.chat.service.chatting;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import seoul.seoulfest.chat.dto.request.chatting.request.ChatMessageRequest;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageContextResponse;
 import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
-import seoul.seoulfest.chat.dto.request.chatting.response.ChatUserStatusEvent;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSliceResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSyncResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatPresenceResponse;
 import seoul.seoulfest.chat.entity.ChatMedia;
 import seoul.seoulfest.chat.entity.ChatMessage;
+import seoul.seoulfest.chat.entity.ChatMessageArchive;
 import seoul.seoulfest.chat.entity.ChatRoom;
 import seoul.seoulfest.chat.entity.ChatRoomMember;
+import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
 import seoul.seoulfest.chat.exception.ChatErrorCode;
 import seoul.seoulfest.chat.repository.ChatMediaRepository;
+import seoul.seoulfest.chat.repository.ChatMessageArchiveRepository;
 import seoul.seoulfest.chat.repository.ChatMessageRepository;
 import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
 import seoul.seoulfest.chat.repository.ChatRoomRepository;
 import seoul.seoulfest.exception.BusinessException;
 import seoul.seoulfest.member.entity.Member;
+import seoul.seoulfest.member.repository.MemberRepository;
+import seoul.seoulfest.util.response.error_code.GeneralErrorCode;
 import seoul.seoulfest.util.security.SecurityUtil;
+import seoul.seoulfest.util.text.BigramTokenizer;
 
 @Slf4j
 @Service
@@ -37,13 +54,37 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomMemberRepository chatRoomMemberRepository;
 	private final ChatMediaRepository chatMediaRepository;
+	private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+	private final MemberRepository memberRepository;
+	private final ChatUnreadCountService unreadCountService;
+	private final ChatMessageWriteBehindQueue writeBehindQueue;
+	private final RecentMessageCache recentMessageCache;
+	private final ChatSubscriptionAuthCache subscriptionAuthCache;
+	private final ReadMarkerAggregator readMarkerAggregator;
+	private final ChatMessageSequencer sequencer;
+	private final ChatMessageSearchIndex messageSearchIndex;
 	private final SecurityUtil securityUtil;
 
-	// WebSocket 메시지 발송을 위한 템플릿
-	private final SimpMessagingTemplate messagingTemplate;
+	// WebSocket 메시지 발송 (트랜잭션 커밋 이후 비동기 발송)
+	private final ChatEventPublisher chatEventPublisher;
+	private final ChatPresenceService chatPresenceService;
 
 	private final String MEDIA_URL = "https://seoulfest.s3.amazonaws.com/";
 
+	// 커서 기반 조회 시 한 번에 조회할 수 있는 최대 메시지 수
+	private static final int MAX_HISTORY_SIZE = 100;
+
+	// 채팅방 목록에 표시할 마지막 메시지 미리보기 최대 길이
+	private static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
+	private static final String DELETED_MESSAGE_CONTENT = "삭제된 메시지입니다.";
+
+	// 검색 결과 전후로 조회할 수 있는 최대 메시지 수
+	private static final int MAX_CONTEXT_WINDOW = 50;
+
+	// 재동기화 시 비어 있는 순번을 커밋 대기 중인 메시지로 보고 기다리는 시간
+	private static final long SYNC_GAP_GRACE_SECONDS = 5;
+
 	@Override
 	@Transactional
 	public ChatMessageResponse sendMessage(ChatMessageRequest messageRequest, String verifyId) {
@@ -52,7 +93,13 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
 		validateChatRoomMember(chatRoom, sender);
 
-		ChatMessage chatMessage = saveChatMessage(chatRoom, sender, messageRequest);
+		if (writeBehindQueue.isEnabled()) {
+			return sendMessageWriteBehind(chatRoom, sender, messageRequest);
+		}
+
+		ChatMessage chatMessage = saveChatMessage(chatRoom, sender, sequencer.next(chatRoom.getId()), messageRequest);
+		unreadCountService.increaseMessageCount(chatRoom.getId(), sender.getId());
+		updateLastMessageSnapshot(chatMessage);
 
 		String mediaUrl = null;
 		if (messageRequest.getTempS3Key() != null && !messageRequest.getTempS3Key().isEmpty()) {
@@ -63,9 +110,62 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		}
 
 		ChatMessageResponse response = createChatMessageResponse(chatMessage, sender, mediaUrl);
+		recentMessageCache.put(response);
+		messageSearchIndex.add(response);
 
 		// WebSocket을 통해 채팅방 구독자에게 메시지 발송
-		messagingTemplate.convertAndSend(
+		chatEventPublisher.publish(
+			"/topic/chat/room/" + chatRoom.getId(),
+			response
+		);
+
+		return response;
+	}
+
+	/**
+	 * write-behind 모드 메시지 전송
+	 * - 메시지 ID를 미리 발급하여 DB 기록을 기다리지 않고 바로 브로드캐스트
+	 * - 메시지/미디어 INSERT 및 마지막 메시지 스냅샷 갱신은 write-behind 큐에서 배치로 처리
+	 */
+	private ChatMessageResponse sendMessageWriteBehind(ChatRoom chatRoom, Member sender,
+		ChatMessageRequest messageRequest) {
+
+		String s3Key = (messageRequest.getTempS3Key() != null && !messageRequest.getTempS3Key().isEmpty())
+			? messageRequest.getTempS3Key()
+			: null;
+
+		PendingChatMessage pending = PendingChatMessage.builder()
+			.messageId(writeBehindQueue.nextMessageId())
+			.chatRoomId(chatRoom.getId())
+			.seq(sequencer.next(chatRoom.getId()))
+			.senderId(sender.getId())
+			.content(messageRequest.getContent())
+			.type(messageRequest.getType())
+			.createdAt(LocalDateTime.now())
+			.s3Key(s3Key)
+			.preview(toPreview(messageRequest.getContent()))
+			.enqueuedAtNanos(System.nanoTime())
+			.build();
+
+		writeBehindQueue.enqueue(pending);
+		unreadCountService.increaseMessageCount(chatRoom.getId(), sender.getId());
+
+		ChatMessageResponse response = ChatMessageResponse.builder()
+			.messageId(pending.getMessageId())
+			.chatRoomId(chatRoom.getId())
+			.seq(pending.getSeq())
+			.senderId(sender.getId())
+			.senderName(sender.getUsername())
+			.content(pending.getContent())
+			.type(pending.getType())
+			.createdAt(pending.getCreatedAt())
+			.isDeleted(false)
+			.mediaUrl(s3Key != null ? MEDIA_URL + s3Key : null)
+			.build();
+		recentMessageCache.put(response);
+		messageSearchIndex.add(response);
+
+		chatEventPublisher.publish(
 			"/topic/chat/room/" + chatRoom.getId(),
 			response
 		);
@@ -75,26 +175,21 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
 	/**
 	 * 채팅방 메시지 목록 조회
+	 * - 첫 페이지는 최근 메시지 캐시에서 조회
+	 * - 전체 개수는 모든 페이지에서 같은 DB COUNT 를 사용 (페이지마다 totalPages 가 달라지지 않도록)
 	 */
 	@Override
 	public Page<ChatMessageResponse> getMessages(Long chatRoomId, String verifyId, Pageable pageable) {
-		ChatRoom chatRoom = validateAndGetChatRoom(chatRoomId);
-		Member member = securityUtil.getCurrentMember(verifyId);
+		validateRoomAccess(chatRoomId, verifyId);
 
-		validateChatRoomMember(chatRoom, member);
+		if (pageable.getPageNumber() == 0 && recentMessageCache.canServe(pageable.getPageSize())) {
+			List<ChatMessageResponse> recent = getRecentMessages(chatRoomId, pageable.getPageSize());
+			return new PageImpl<>(recent, pageable, chatMessageRepository.countByChatRoomId(chatRoomId));
+		}
 
 		Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageable);
 
-		return messages.map(message -> {
-			// 미디어 URL 조회
-			String mediaUrl = null;
-			List<ChatMedia> mediaList = chatMediaRepository.findByChatMessage(message);
-			if (!mediaList.isEmpty()) {
-				mediaUrl = MEDIA_URL + mediaList.get(0).getS3Key();
-			}
-
-			return createChatMessageResponse(message, message.getSender(), mediaUrl);
-		});
+		return toChatMessageResponsePage(messages);
 	}
 
 	/**
@@ -104,8 +199,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 	@Transactional
 	public void deleteMessage(Long messageId, String verifyId) {
 
+		// 아직 write-behind 큐에서 기록되지 않은 메시지면 잠시 후 다시 요청하도록 응답
 		ChatMessage message = chatMessageRepository.findById(messageId)
-			.orElseThrow(() -> new BusinessException(ChatErrorCode.NOT_EXIST_MESSAGE));
+			.orElseThrow(() -> new BusinessException(writeBehindQueue.isPending(messageId)
+				? ChatErrorCode.MESSAGE_PENDING
+				: ChatErrorCode.NOT_EXIST_MESSAGE));
 
 		Member member = securityUtil.getCurrentMember(verifyId);
 
@@ -118,11 +216,18 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		ChatMessageResponse response = createChatMessageResponse(message, member, null);
 
 		if (message.getDeletedAt() != null) {
-			response.setContent("삭제된 메시지입니다.");
+			response.setContent(DELETED_MESSAGE_CONTENT);
 			response.setMediaUrl(null); // 첨부 미디어도 표시하지 않음
 		}
 
-		messagingTemplate.convertAndSend(
+		// 마지막 메시지였다면 채팅방 목록 미리보기도 갱신
+		chatRoomRepository.updateLastMessageContent(
+			message.getChatRoom().getId(), message.getId(), DELETED_MESSAGE_CONTENT);
+
+		recentMessageCache.put(response);
+		messageSearchIndex.remove(message.getChatRoom().getId(), message.getId());
+
+		chatEventPublisher.publish(
 			"/topic/chat/room/" + message.getChatRoom().getId(),
 			response
 		);
@@ -133,28 +238,15 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 	 */
 	@Override
 	@Transactional
-	public void enterChatRoom(Long roomId, String verifyId) {
-		ChatRoom chatRoom = validateAndGetChatRoom(roomId);
-		Member member = securityUtil.getCurrentMember(verifyId);
-
-		ChatRoomMember chatRoomMember = validateAndGetChatRoomMember(chatRoom, member);
-
-		// 마지막 읽은 시간 업데이트
-		chatRoomMember.setLastReadAt(LocalDateTime.now());
-
-		ChatUserStatusEvent event = ChatUserStatusEvent.builder()
-			.chatRoomId(roomId)
-			.memberId(member.getId())
-			.memberName(member.getUsername())
-			.eventType("JOIN")
-			.timestamp(LocalDateTime.now())
-			.build();
+	public void enterChatRoom(Long roomId, String verifyId, String sessionId) {
+		Member member = validateAndGetRoomReader(roomId, verifyId);
 
-		messagingTemplate.convertAndSend(
-			"/topic/chat/room/" + roomId + "/status",
-			event
-		);
+		// 마지막 읽은 시간 업데이트 (주기적으로 일괄 반영)
+		readMarkerAggregator.mark(roomId, member.getId(), LocalDateTime.now());
+		unreadCountService.markAllRead(roomId, member.getId());
 
+		// 접속 상태 반영 (입장/퇴장 이벤트는 주기적으로 묶어서 발송)
+		chatPresenceService.join(roomId, member, sessionId);
 	}
 
 	/**
@@ -163,27 +255,14 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 	@Override
 	@Transactional
 	public void leaveChatRoom(Long roomId, String verifyId) {
-		ChatRoom chatRoom = validateAndGetChatRoom(roomId);
-		Member member = securityUtil.getCurrentMember(verifyId);
-
-		ChatRoomMember chatRoomMember = validateAndGetChatRoomMember(chatRoom, member);
+		Member member = validateAndGetRoomReader(roomId, verifyId);
 
-		// 마지막 읽은 시간 업데이트
-		chatRoomMember.setLastReadAt(LocalDateTime.now());
+		// 마지막 읽은 시간 업데이트 (주기적으로 일괄 반영)
+		readMarkerAggregator.mark(roomId, member.getId(), LocalDateTime.now());
+		unreadCountService.markAllRead(roomId, member.getId());
 
-		// 퇴장 이벤트 발송
-		ChatUserStatusEvent event = ChatUserStatusEvent.builder()
-			.chatRoomId(roomId)
-			.memberId(member.getId())
-			.memberName(member.getUsername())
-			.eventType("LEAVE")
-			.timestamp(LocalDateTime.now())
-			.build();
-
-		messagingTemplate.convertAndSend(
-			"/topic/chat/room/" + roomId + "/status",
-			event
-		);
+		// 접속 상태 반영 (입장/퇴장 이벤트는 주기적으로 묶어서 발송)
+		chatPresenceService.leave(roomId, member, "LEAVE");
 	}
 
 	/**
@@ -192,14 +271,12 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 	@Override
 	@Transactional
 	public void markAsRead(Long roomId, String verifyId) {
+		Member member = validateAndGetRoomReader(roomId, verifyId);
 
-		ChatRoom chatRoom = validateAndGetChatRoom(roomId);
-		Member member = securityUtil.getCurrentMember(verifyId);
-
-		ChatRoomMember chatRoomMember = validateAndGetChatRoomMember(chatRoom, member);
-
-		// 마지막 읽은 시간 업데이트
-		chatRoomMember.setLastReadAt(LocalDateTime.now());
+		// 마지막 읽은 시간 업데이트 (주기적으로 일괄 반영)
+		readMarkerAggregator.mark(roomId, member.getId(), LocalDateTime.now());
+		unreadCountService.markAllRead(roomId, member.getId());
+		chatPresenceService.touch(roomId, member.getId());
 	}
 
 	/**
@@ -212,19 +289,19 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		// 사용자가 참여한 채팅방 조회
 		List<ChatRoomMember> chatRoomMembers = chatRoomMemberRepository.findAllByMember(member);
 
-		// 각 채팅방별 새 메시지 여부 확인
-		return chatRoomMembers.stream()
-			.filter(crm -> {
-				// 마지막 읽은 시간 이후 메시지가 있는지 확인
-				LocalDateTime lastReadAt = crm.getLastReadAt() != null ?
-					crm.getLastReadAt() : crm.getJoinedAt();
+		// 채팅방별 마지막 읽은 시간 (Redis 카운터가 없을 때 재계산 기준)
+		Map<Long, LocalDateTime> readFromByRoom = new LinkedHashMap<>();
+		for (ChatRoomMember crm : chatRoomMembers) {
+			Long chatRoomId = crm.getChatRoom().getId();
+			LocalDateTime lastReadAt = readMarkerAggregator.resolve(chatRoomId, member.getId(), crm.getLastReadAt());
+			readFromByRoom.put(chatRoomId, lastReadAt != null ? lastReadAt : crm.getJoinedAt());
+		}
 
-				long count = chatMessageRepository.countByChatRoomAndCreatedAtAfter(
-					crm.getChatRoom(), lastReadAt);
+		// 각 채팅방별 새 메시지 여부 확인 (Redis 카운터 일괄 조회)
+		Map<Long, Integer> unreadCounts = unreadCountService.getUnreadCounts(member.getId(), readFromByRoom);
 
-				return count > 0;
-			})
-			.map(crm -> crm.getChatRoom().getId())
+		return readFromByRoom.keySet().stream()
+			.filter(chatRoomId -> unreadCounts.getOrDefault(chatRoomId, 0) > 0)
 			.collect(Collectors.toList());
 	}
 
@@ -244,16 +321,176 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 			chatRoomId, lastMessageId, pageable);
 
 		// 응답 DTO 변환
-		return messages.map(message -> {
-			// 미디어 URL 조회
-			String mediaUrl = null;
-			List<ChatMedia> mediaList = chatMediaRepository.findByChatMessage(message);
-			if (!mediaList.isEmpty()) {
-				mediaUrl = MEDIA_URL + mediaList.get(0).getS3Key();
+		return toChatMessageResponsePage(messages);
+	}
+
+	/**
+	 * 커서 기반 메시지 목록 조회
+	 * - id < cursor ORDER BY id DESC LIMIT size + 1 로 다음 페이지 존재 여부만 확인 (COUNT 쿼리 없음)
+	 */
+	@Override
+	public ChatMessageSliceResponse getMessagesByCursor(Long chatRoomId, Long cursor, String verifyId, int size) {
+		ChatRoom chatRoom = validateAndGetChatRoom(chatRoomId);
+		Member member = securityUtil.getCurrentMember(verifyId);
+
+		validateChatRoomMember(chatRoom, member);
+
+		PageRequest limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_HISTORY_SIZE)));
+		Slice<ChatMessage> messages = (cursor == null)
+			? chatMessageRepository.findSliceByRoomId(chatRoomId, limit)
+			: chatMessageRepository.findSliceByRoomIdAndIdLessThan(chatRoomId, cursor, limit);
+
+		List<ChatMessageResponse> responses = new ArrayList<>(toChatMessageResponses(messages.getContent()));
+		boolean hasNext = messages.hasNext();
+
+		// 최근 메시지 테이블을 모두 읽었으면 아카이브에서 이어서 조회
+		if (!hasNext) {
+			Long archiveCursor = responses.isEmpty() ? cursor : responses.get(responses.size() - 1).getMessageId();
+			hasNext = appendArchivedMessages(chatRoomId, archiveCursor, limit.getPageSize() - responses.size(),
+				responses);
+		}
+
+		Long nextCursor = (hasNext && !responses.isEmpty())
+			? responses.get(responses.size() - 1).getMessageId()
+			: null;
+
+		return ChatMessageSliceResponse.builder()
+			.messages(responses)
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 순번 기반 재동기화
+	 * - afterSeq 이후 메시지를 순번 오름차순으로 최대 limit 개 조회
+	 * - 최근 메시지 캐시가 범위를 보관하고 있으면 DB 조회 없이 응답
+	 */
+	@Override
+	public ChatMessageSyncResponse syncMessages(Long chatRoomId, Long afterSeq, String verifyId, int limit) {
+		validateRoomAccess(chatRoomId, verifyId);
+
+		int size = Math.max(1, Math.min(limit, MAX_HISTORY_SIZE));
+		long from = (afterSeq == null) ? 0 : Math.max(0, afterSeq);
+
+		List<ChatMessageResponse> messages = recentMessageCache.getAfterSeq(chatRoomId, from);
+		boolean hasMore;
+		Long pendingSeq = null;
+		if (messages != null) {
+			hasMore = messages.size() > size;
+			if (hasMore) {
+				messages = messages.subList(0, size);
 			}
+		} else {
+			// write-behind 큐에서 아직 기록되지 않은 순번부터는 다음 요청에서 전달
+			pendingSeq = writeBehindQueue.oldestPendingSeq(chatRoomId);
+
+			Slice<ChatMessage> slice = chatMessageRepository.findSliceByRoomIdAndSeqGreaterThan(
+				chatRoomId, from, PageRequest.of(0, size));
+			messages = toChatMessageResponses(slice.getContent());
+			hasMore = slice.hasNext();
+		}
+
+		List<ChatMessageResponse> ready = trimAtPendingGap(messages, from, pendingSeq);
+		hasMore = hasMore || ready.size() < messages.size();
+
+		return ChatMessageSyncResponse.builder()
+			.messages(ready)
+			.lastSeq(ready.isEmpty() ? from : ready.get(ready.size() - 1).getSeq())
+			.hasMore(hasMore)
+			.build();
+	}
+
+	/**
+	 * 채팅방 메시지 검색
+	 * - 검색 색인에서 최신순으로 찾은 뒤 DB 에서 삭제 여부를 다시 확인 (다른 노드에서 삭제된 메시지 제외)
+	 * - 색인이 최근 메시지만 담고 있어 결과가 부족하면 색인 시작 ID 이전 구간을 DB 부분 일치(LIKE)로 이어서 조회
+	 *   (DB 조회는 검색어를 공백/대소문자 정규화 없이 그대로 비교)
+	 */
+	@Override
+	public ChatMessageSliceResponse searchMessages(Long chatRoomId, String keyword, Long cursor, String verifyId,
+		int size) {
+		validateRoomAccess(chatRoomId, verifyId);
+
+		if (BigramTokenizer.normalize(keyword).isEmpty()) {
+			throw new BusinessException(GeneralErrorCode.INVALID_INPUT_VALUE);
+		}
 
-			return createChatMessageResponse(message, message.getSender(), mediaUrl);
-		});
+		int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+		ChatMessageSearchIndex.SearchResult searchResult = messageSearchIndex.search(chatRoomId, keyword, cursor,
+			limit + 1);
+		List<Long> matchedIds = new ArrayList<>(searchResult.messageIds());
+		Long indexedFromId = searchResult.indexedFromId();
+		if (matchedIds.size() <= limit && indexedFromId != null) {
+			long beforeId = cursor == null ? indexedFromId : Math.min(cursor, indexedFromId);
+			matchedIds.addAll(chatMessageRepository.findActiveIdsByRoomIdAndContentLike(chatRoomId, beforeId,
+				toLikePattern(keyword.trim()), PageRequest.of(0, limit + 1 - matchedIds.size())));
+		}
+		boolean hasNext = matchedIds.size() > limit;
+		List<Long> pageIds = hasNext ? matchedIds.subList(0, limit) : matchedIds;
+
+		List<ChatMessageResponse> responses = List.of();
+		if (!pageIds.isEmpty()) {
+			Map<Long, ChatMessage> activeMessages = chatMessageRepository.findActiveByRoomIdAndIdIn(chatRoomId, pageIds)
+				.stream()
+				.collect(Collectors.toMap(ChatMessage::getId, message -> message));
+
+			// 색인 순서(최신순) 유지
+			responses = toChatMessageResponses(pageIds.stream()
+				.map(activeMessages::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList()));
+		}
+
+		return ChatMessageSliceResponse.builder()
+			.messages(responses)
+			.nextCursor(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 특정 메시지 전후 메시지 조회
+	 * - 기준 메시지 포함 이전 window 개, 이후 window 개를 각각 커서 조회
+	 */
+	@Override
+	public ChatMessageContextResponse getMessageContext(Long chatRoomId, Long messageId, String verifyId,
+		int window) {
+		validateRoomAccess(chatRoomId, verifyId);
+
+		int half = Math.max(1, Math.min(window, MAX_CONTEXT_WINDOW));
+		Slice<ChatMessage> older = chatMessageRepository.findSliceByRoomIdAndIdLessThan(
+			chatRoomId, messageId + 1, PageRequest.of(0, half + 1));
+		if (!older.hasContent() || !older.getContent().get(0).getId().equals(messageId)) {
+			throw new BusinessException(ChatErrorCode.NOT_EXIST_MESSAGE);
+		}
+		Slice<ChatMessage> newer = chatMessageRepository.findSliceByRoomIdAndIdGreaterThan(
+			chatRoomId, messageId, PageRequest.of(0, half));
+
+		// 최신순으로 합침
+		List<ChatMessage> messages = new ArrayList<>(newer.getContent());
+		Collections.reverse(messages);
+		messages.addAll(older.getContent());
+
+		return ChatMessageContextResponse.builder()
+			.messages(toChatMessageResponses(messages))
+			.anchorMessageId(messageId)
+			.hasOlder(older.hasNext())
+			.hasNewer(newer.hasNext())
+			.build();
+	}
+
+	/**
+	 * 채팅방 접속자 수 조회
+	 */
+	@Override
+	public ChatPresenceResponse getPresence(Long chatRoomId, String verifyId) {
+		validateRoomAccess(chatRoomId, verifyId);
+
+		return ChatPresenceResponse.builder()
+			.chatRoomId(chatRoomId)
+			.online(chatPresenceService.getOnlineCount(chatRoomId))
+			.build();
 	}
 
 	//------------------// 유효성 검사 및 헬퍼 메서드 //------------------//
@@ -272,31 +509,147 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		return chatRoom;
 	}
 
+	/**
+	 * 채팅방 조회 권한 검증
+	 * - 구독 권한 캐시에 확인된 기록이 있으면 DB 조회 생략
+	 * - 캐시는 STOMP 구독 권한과 공유하므로 탈퇴/강퇴가 아닌 참여 중인 멤버로 확인된 경우에만 저장
+	 */
+	private void validateRoomAccess(Long chatRoomId, String verifyId) {
+		if (subscriptionAuthCache.isAuthorized(verifyId, chatRoomId)) {
+			return;
+		}
+
+		ChatRoom chatRoom = validateAndGetChatRoom(chatRoomId);
+		Member member = securityUtil.getCurrentMember(verifyId);
+		validateChatRoomMember(chatRoom, member);
+
+		subscriptionAuthCache.markAuthorized(verifyId, chatRoomId);
+	}
+
+	/**
+	 * 채팅방 조회 권한 검증 후 회원 조회
+	 */
+	private Member validateAndGetRoomReader(Long chatRoomId, String verifyId) {
+		Member member = securityUtil.getCurrentMember(verifyId);
+		if (subscriptionAuthCache.isAuthorized(verifyId, chatRoomId)) {
+			return member;
+		}
+
+		ChatRoom chatRoom = validateAndGetChatRoom(chatRoomId);
+		validateChatRoomMember(chatRoom, member);
+
+		subscriptionAuthCache.markAuthorized(verifyId, chatRoomId);
+		return member;
+	}
+
+	/**
+	 * 최근 메시지 조회 (최신순)
+	 * - 캐시에 없으면 DB 에서 채팅방 버퍼 크기만큼 읽어 캐시를 채움
+	 */
+	private List<ChatMessageResponse> getRecentMessages(Long chatRoomId, int size) {
+		List<ChatMessageResponse> cached = recentMessageCache.getRecent(chatRoomId, size);
+		if (cached != null) {
+			return cached;
+		}
+
+		// write-behind 큐에 기록 대기 중인 메시지가 있으면 DB 결과가 불완전하므로 캐시를 채우지 않음
+		// (대기 중인 메시지는 이미 브로드캐스트로 전달됨)
+		boolean cacheable = !writeBehindQueue.hasPending(chatRoomId);
+
+		long token = cacheable ? recentMessageCache.beginLoad(chatRoomId) : 0;
+		Slice<ChatMessage> messages = chatMessageRepository.findSliceByRoomId(chatRoomId,
+			PageRequest.of(0, recentMessageCache.getMessagesPerRoom()));
+		List<ChatMessageResponse> loaded = toChatMessageResponses(messages.getContent());
+		if (cacheable) {
+			recentMessageCache.completeLoad(chatRoomId, token, loaded, !messages.hasNext());
+		}
+
+		return loaded.size() > size ? loaded.subList(0, size) : loaded;
+	}
+
+	/**
+	 * 비어 있는 순번 앞에서 응답을 자름
+	 * - 최근 메시지 앞의 빈 순번은 아직 커밋되지 않은 메시지일 수 있으므로 그 이후는 다음 요청에서 전달
+	 * - write-behind 큐에 기록 대기 중인 순번(pendingSeq) 이후도 다음 요청에서 전달
+	 * - 오래된 빈 순번은 롤백된 전송으로 보고 건너뜀
+	 */
+	private List<ChatMessageResponse> trimAtPendingGap(List<ChatMessageResponse> messages, long afterSeq,
+		Long pendingSeq) {
+		LocalDateTime graceLimit = LocalDateTime.now().minusSeconds(SYNC_GAP_GRACE_SECONDS);
+		long expected = afterSeq + 1;
+
+		for (int i = 0; i < messages.size(); i++) {
+			ChatMessageResponse message = messages.get(i);
+			if (pendingSeq != null && message.getSeq() > pendingSeq) {
+				return messages.subList(0, i);
+			}
+			if (message.getSeq() > expected && message.getCreatedAt() != null
+				&& message.getCreatedAt().isAfter(graceLimit)) {
+				return messages.subList(0, i);
+			}
+			expected = message.getSeq() + 1;
+		}
+		return messages;
+	}
+
 	/**
 	 * 채팅방 멤버 검증
+	 * - 참여 중인 멤버만 허용 (탈퇴/강퇴 이력만 있는 회원은 제외)
 	 */
 	private void validateChatRoomMember(ChatRoom chatRoom, Member member) {
-		boolean isMember = chatRoomMemberRepository.existsByChatRoomAndMember(chatRoom, member);
+		boolean isMember = chatRoomMemberRepository.existsByChatRoomAndMemberAndStatusNotAndKickedAtIsNull(
+			chatRoom, member, ChatRoomMemberStatus.EXIT);
 		if (!isMember) {
 			throw new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM_MEMBER);
 		}
 	}
 
 	/**
-	 * 채팅방 멤버 검증 및 조회
+	 * 아카이브된 메시지를 커서 이전부터 최대 count 개 이어 붙임
+	 *
+	 * @return 아카이브에 더 이전 메시지가 남아 있는지 여부
+	 */
+	private boolean appendArchivedMessages(Long chatRoomId, Long cursor, int count,
+		List<ChatMessageResponse> responses) {
+		if (count <= 0) {
+			return cursor != null && chatMessageArchiveRepository.existsByChatRoomIdAndIdLessThan(chatRoomId, cursor);
+		}
+
+		PageRequest limit = PageRequest.of(0, count);
+		Slice<ChatMessageArchive> archived = (cursor == null)
+			? chatMessageArchiveRepository.findSliceByRoomId(chatRoomId, limit)
+			: chatMessageArchiveRepository.findSliceByRoomIdAndIdLessThan(chatRoomId, cursor, limit);
+
+		if (archived.hasContent()) {
+			Map<Long, String> senderNames = memberRepository.findAllById(archived.getContent().stream()
+					.map(ChatMessageArchive::getSenderId)
+					.collect(Collectors.toSet()))
+				.stream()
+				.collect(Collectors.toMap(Member::getId, Member::getUsername));
+
+			for (ChatMessageArchive message : archived.getContent()) {
+				responses.add(createArchivedMessageResponse(message, senderNames.get(message.getSenderId())));
+			}
+		}
+		return archived.hasNext();
+	}
+
+	/**
+	 * 부분 일치 LIKE 패턴 ('!' 로 와일드카드 이스케이프)
 	 */
-	private ChatRoomMember validateAndGetChatRoomMember(ChatRoom chatRoom, Member member) {
-		return chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member)
-			.orElseThrow(() -> new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM_MEMBER));
+	private String toLikePattern(String keyword) {
+		return "%" + keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
 	}
 
 	/**
 	 * 채팅 메시지 저장
 	 */
-	private ChatMessage saveChatMessage(ChatRoom chatRoom, Member sender, ChatMessageRequest messageRequest) {
+	private ChatMessage saveChatMessage(ChatRoom chatRoom, Member sender, Long seq,
+		ChatMessageRequest messageRequest) {
 		ChatMessage chatMessage = ChatMessage.builder()
 			.chatRoom(chatRoom)
 			.sender(sender)
+			.seq(seq)
 			.content(messageRequest.getContent())
 			.type(messageRequest.getType())
 			.build();
@@ -304,6 +657,28 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		return chatMessageRepository.save(chatMessage);
 	}
 
+	/**
+	 * 채팅방의 마지막 메시지 스냅샷 갱신
+	 */
+	private void updateLastMessageSnapshot(ChatMessage chatMessage) {
+		chatRoomRepository.updateLastMessage(
+			chatMessage.getChatRoom().getId(),
+			chatMessage.getId(),
+			toPreview(chatMessage.getContent()),
+			chatMessage.getCreatedAt(),
+			chatMessage.getSender().getId());
+	}
+
+	/**
+	 * 채팅방 목록에 표시할 미리보기 문자열 생성
+	 */
+	private String toPreview(String content) {
+		if (content == null || content.length() <= LAST_MESSAGE_PREVIEW_LENGTH) {
+			return content;
+		}
+		return content.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+	}
+
 	/**
 	 * 채팅 미디어 저장
 	 */
@@ -317,6 +692,67 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		return chatMediaRepository.save(chatMedia);
 	}
 
+	/**
+	 * 메시지 페이지를 응답 DTO 페이지로 변환
+	 * - 페이지 내 메시지들의 미디어를 한 번의 IN 쿼리로 조회
+	 */
+	private Page<ChatMessageResponse> toChatMessageResponsePage(Page<ChatMessage> messages) {
+		Map<Long, String> mediaUrls = findMediaUrls(messages.getContent());
+
+		return messages.map(message ->
+			createChatMessageResponse(message, message.getSender(), mediaUrls.get(message.getId())));
+	}
+
+	/**
+	 * 메시지 목록을 응답 DTO 목록으로 변환
+	 */
+	private List<ChatMessageResponse> toChatMessageResponses(List<ChatMessage> messages) {
+		Map<Long, String> mediaUrls = findMediaUrls(messages);
+
+		return messages.stream()
+			.map(message -> createChatMessageResponse(message, message.getSender(), mediaUrls.get(message.getId())))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 메시지 ID별 첫 번째 첨부 미디어 URL 조회
+	 */
+	private Map<Long, String> findMediaUrls(List<ChatMessage> messages) {
+		if (messages.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<Long> messageIds = messages.stream()
+			.map(ChatMessage::getId)
+			.collect(Collectors.toList());
+
+		Map<Long, String> mediaUrls = new HashMap<>();
+		for (ChatMedia media : chatMediaRepository.findByChatMessageIdInOrderByMediaIdAsc(messageIds)) {
+			mediaUrls.putIfAbsent(media.getChatMessage().getId(), MEDIA_URL + media.getS3Key());
+		}
+		return mediaUrls;
+	}
+
+	/**
+	 * 아카이브된 메시지 응답 DTO 생성
+	 */
+	private ChatMessageResponse createArchivedMessageResponse(ChatMessageArchive message, String senderName) {
+		boolean isDeleted = message.getDeletedAt() != null;
+
+		return ChatMessageResponse.builder()
+			.messageId(message.getId())
+			.chatRoomId(message.getChatRoomId())
+			.seq(message.getSeq())
+			.senderId(message.getSenderId())
+			.senderName(senderName)
+			.content(isDeleted ? DELETED_MESSAGE_CONTENT : message.getContent())
+			.type(message.getType())
+			.createdAt(message.getCreatedAt())
+			.isDeleted(isDeleted)
+			.mediaUrl(isDeleted || message.getMediaS3Key() == null ? null : MEDIA_URL + message.getMediaS3Key())
+			.build();
+	}
+
 	/**
 	 * 채팅 메시지 응답 DTO 생성
 	 */
@@ -327,10 +763,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 		return ChatMessageResponse.builder()
 			.messageId(message.getId())
 			.chatRoomId(message.getChatRoom().getId())
+			.seq(message.getSeq())
 			.senderId(sender.getId())
 			.senderName(sender.getUsername())
 			// 삭제된 메시지는 내용을 "삭제된 메시지입니다"로 설정
-			.content(isDeleted ? "삭제된 메시지입니다." : message.getContent())
+			.content(isDeleted ? DELETED_MESSAGE_CONTENT : message.getContent())
 			.type(message.getType())
 			.createdAt(message.getCreatedAt())
 			.isDeleted(isDeleted)
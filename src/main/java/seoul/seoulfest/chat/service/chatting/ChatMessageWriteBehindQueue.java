@@ -0,0 +1,342 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.util.id.SnowflakeIdGenerator;
+
+/**
+ * 채팅 메시지 write-behind 큐
+ * - chat.message.write-behind.enabled=true 일 때만 동작 (기본값: 비활성)
+ * - 메시지 ID를 미리 발급하고, 브로드캐스트 이후 제한된 크기의 큐를 통해 JDBC 배치로 기록
+ * - 기록 지연은 최대 max-lag-ms (큐에 batch-size 이상 쌓이면 즉시 기록)
+ * - 큐가 가득 차면 호출 스레드에서 직접 기록하여 메모리 사용량을 제한 (유실 없음)
+ * - 배치 기록이 계속 실패하면 메시지별로 나누어 기록하고, 그래도 실패한 메시지는 dead-letter 로 보관
+ * - 기록 전 메시지는 요청 스레드에서 기록을 기다리지 않고 isPending / oldestPendingSeq 로 확인
+ * - 애플리케이션 종료 시 남은 메시지를 모두 기록
+ * - 프로세스가 비정상 종료되면 최대 max-lag-ms 동안의 메시지가 유실될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindQueue {
+
+	private static final String INSERT_MESSAGE_SQL =
+		"INSERT INTO chat_message (message_id, chat_room_id, seq, sender_id, content, type, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_MEDIA_SQL =
+		"INSERT INTO chat_media (media_id, message_id, s3_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+	private static final String UPDATE_LAST_MESSAGE_SQL =
+		"UPDATE chat_room SET last_message_id = ?, last_message_content = ?, last_message_at = ?, "
+			+ "last_message_sender_id = ? "
+			+ "WHERE chat_room_id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+
+	// 배치 기록 실패 시 재시도 횟수
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	private final SnowflakeIdGenerator idGenerator;
+	private final MeterRegistry meterRegistry;
+	private final ChatMessageDeadLetterStore deadLetterStore;
+
+	@Value("${chat.message.write-behind.enabled:false}")
+	private boolean enabled;
+
+	@Value("${chat.message.write-behind.capacity:10000}")
+	private int capacity;
+
+	@Value("${chat.message.write-behind.batch-size:500}")
+	private int batchSize;
+
+	@Value("${chat.message.write-behind.max-lag-ms:200}")
+	private long maxLagMillis;
+
+	// 다른 노드에서 발급된 ID 를 기록 대기 중으로 간주하는 시간 (재시도 지연 포함)
+	@Value("${chat.message.write-behind.pending-window-ms:5000}")
+	private long pendingWindowMillis;
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private BlockingQueue<PendingChatMessage> queue;
+
+	// 큐에 있거나 기록 중인 메시지 (메시지 ID -> 메시지), 기록 성공 또는 dead-letter 보관 후 제거
+	private final Map<Long, PendingChatMessage> pending = new ConcurrentHashMap<>();
+	private TransactionTemplate transactionTemplate;
+	private Thread flusher;
+	private volatile boolean running;
+
+	private Counter flushedCounter;
+	private Counter failedCounter;
+	private Timer flushTimer;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		queue = new ArrayBlockingQueue<>(capacity);
+
+		// 요청 트랜잭션과 무관하게 독립적으로 커밋
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		Gauge.builder("chat.message.write-behind.queue.depth", queue, BlockingQueue::size)
+			.description("DB 기록 대기 중인 채팅 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.message.write-behind.lag", this, ChatMessageWriteBehindQueue::currentLagMillis)
+			.description("가장 오래된 대기 메시지의 경과 시간(ms)")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		flushedCounter = Counter.builder("chat.message.write-behind.flushed").register(meterRegistry);
+		failedCounter = Counter.builder("chat.message.write-behind.failed").register(meterRegistry);
+		flushTimer = Timer.builder("chat.message.write-behind.flush").register(meterRegistry);
+
+		running = true;
+		flusher = new Thread(this::runFlusher, "chat-write-behind");
+		flusher.setDaemon(true);
+		flusher.start();
+
+		log.info("채팅 메시지 write-behind 활성화 - capacity: {}, batchSize: {}, maxLag: {}ms",
+			capacity, batchSize, maxLagMillis);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * DB 기록 전에 사용할 메시지 ID 발급
+	 */
+	public long nextMessageId() {
+		return idGenerator.nextId();
+	}
+
+	/**
+	 * 메시지를 기록 대기열에 추가
+	 * - 큐가 가득 찬 경우 호출 스레드에서 대기열을 비운 뒤 다시 추가
+	 */
+	public void enqueue(PendingChatMessage message) {
+		pending.put(message.getMessageId(), message);
+		while (!queue.offer(message)) {
+			log.warn("채팅 메시지 write-behind 큐 포화 - 호출 스레드에서 직접 기록");
+			flush();
+		}
+
+		if (queue.size() >= batchSize) {
+			LockSupport.unpark(flusher);
+		}
+	}
+
+	/**
+	 * 아직 DB에 기록되지 않았을 수 있는 메시지인지 확인
+	 * - 이 노드의 큐에 있거나 기록 중인 메시지
+	 * - 다른 노드에서 pending-window-ms 이내에 발급된 메시지 (해당 노드의 큐에 있을 수 있음)
+	 */
+	public boolean isPending(long messageId) {
+		if (!enabled) {
+			return false;
+		}
+		return pending.containsKey(messageId)
+			|| SnowflakeIdGenerator.timestampOf(messageId) > System.currentTimeMillis() - pendingWindowMillis;
+	}
+
+	/**
+	 * 이 노드에서 기록 대기 중인 채팅방 메시지 중 가장 작은 순번
+	 *
+	 * @return 대기 중인 메시지가 없으면 null
+	 */
+	public Long oldestPendingSeq(Long chatRoomId) {
+		if (!enabled) {
+			return null;
+		}
+		Long oldest = null;
+		for (PendingChatMessage message : pending.values()) {
+			if (chatRoomId.equals(message.getChatRoomId()) && message.getSeq() != null
+				&& (oldest == null || message.getSeq() < oldest)) {
+				oldest = message.getSeq();
+			}
+		}
+		return oldest;
+	}
+
+	/**
+	 * 이 노드에서 기록 대기 중인 채팅방 메시지가 있는지 확인
+	 */
+	public boolean hasPending(Long chatRoomId) {
+		return enabled && pending.values().stream()
+			.anyMatch(message -> chatRoomId.equals(message.getChatRoomId()));
+	}
+
+	/**
+	 * 대기 중인 메시지를 모두 DB에 기록
+	 * - 기록 스레드, 큐 포화 시, 종료 시에만 호출 (요청 처리 중에는 호출하지 않음)
+	 */
+	public void flush() {
+		if (!enabled) {
+			return;
+		}
+
+		flushLock.lock();
+		try {
+			List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+			while (queue.drainTo(batch, batchSize) > 0) {
+				writeWithRetry(batch);
+				batch.clear();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (!enabled) {
+			return;
+		}
+
+		running = false;
+		LockSupport.unpark(flusher);
+		try {
+			flusher.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// 종료 직전까지 들어온 메시지 기록
+		flush();
+		log.info("채팅 메시지 write-behind 종료 - 대기 메시지 기록 완료");
+	}
+
+	private void runFlusher() {
+		while (running) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(maxLagMillis));
+			try {
+				flush();
+			} catch (RuntimeException e) {
+				log.error("채팅 메시지 write-behind 기록 중 오류", e);
+			}
+		}
+	}
+
+	private void writeWithRetry(List<PendingChatMessage> batch) {
+		DataAccessException lastError = null;
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			try {
+				flushTimer.record(() -> writeBatch(batch));
+				flushedCounter.increment(batch.size());
+				batch.forEach(this::markWritten);
+				return;
+			} catch (DataAccessException e) {
+				lastError = e;
+				log.warn("채팅 메시지 배치 기록 실패 ({}/{}) - size: {}", attempt, MAX_ATTEMPTS, batch.size(), e);
+			}
+		}
+
+		if (batch.size() == 1) {
+			deadLetter(batch.get(0), lastError);
+			return;
+		}
+
+		// 한 메시지 때문에 배치 전체가 유실되지 않도록 메시지별로 나누어 기록
+		log.warn("채팅 메시지 배치 기록 최종 실패 - 메시지별 기록으로 전환, size: {}", batch.size());
+		for (PendingChatMessage message : batch) {
+			try {
+				writeBatch(List.of(message));
+				flushedCounter.increment();
+				markWritten(message);
+			} catch (DataAccessException e) {
+				deadLetter(message, e);
+			}
+		}
+	}
+
+	private void deadLetter(PendingChatMessage message, DataAccessException cause) {
+		failedCounter.increment();
+		deadLetterStore.save(message, cause);
+		markWritten(message);
+	}
+
+	private void markWritten(PendingChatMessage message) {
+		pending.remove(message.getMessageId());
+	}
+
+	/**
+	 * 메시지/미디어 INSERT 및 채팅방별 마지막 메시지 스냅샷 갱신을 한 트랜잭션으로 기록
+	 */
+	private void writeBatch(List<PendingChatMessage> batch) {
+		List<Object[]> messageRows = new ArrayList<>(batch.size());
+		List<Object[]> mediaRows = new ArrayList<>();
+		Map<Long, PendingChatMessage> lastByRoom = new LinkedHashMap<>();
+
+		for (PendingChatMessage message : batch) {
+			Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+			messageRows.add(new Object[] {
+				message.getMessageId(), message.getChatRoomId(), message.getSeq(), message.getSenderId(),
+				message.getContent(), message.getType(), createdAt
+			});
+
+			if (message.getS3Key() != null) {
+				mediaRows.add(new Object[] {
+					idGenerator.nextId(), message.getMessageId(), message.getS3Key(), createdAt, createdAt
+				});
+			}
+
+			// 채팅방별로 ID가 가장 큰 메시지만 스냅샷에 반영
+			lastByRoom.merge(message.getChatRoomId(), message,
+				(current, candidate) -> candidate.getMessageId() > current.getMessageId() ? candidate : current);
+		}
+
+		List<Object[]> snapshotRows = new ArrayList<>(lastByRoom.size());
+		for (PendingChatMessage last : lastByRoom.values()) {
+			snapshotRows.add(new Object[] {
+				last.getMessageId(), last.getPreview(), Timestamp.valueOf(last.getCreatedAt()),
+				last.getSenderId(), last.getChatRoomId(), last.getMessageId()
+			});
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messageRows);
+			if (!mediaRows.isEmpty()) {
+				jdbcTemplate.batchUpdate(INSERT_MEDIA_SQL, mediaRows);
+			}
+			jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, snapshotRows);
+		});
+	}
+
+	private double currentLagMillis() {
+		PendingChatMessage oldest = queue.peek();
+		if (oldest == null) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.getEnqueuedAtNanos());
+	}
+}
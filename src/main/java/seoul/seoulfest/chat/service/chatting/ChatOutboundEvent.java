@@ -0,0 +1,17 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트랜잭션 커밋 이후 WebSocket 으로 발송할 메시지
+ * - user 가 있으면 해당 사용자의 개인 목적지(/user/{user}/...)로, 없으면 destination 으로 브로드캐스트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatOutboundEvent {
+
+	private final String user;
+	private final String destination;
+	private final Object payload;
+}
@@ -0,0 +1,399 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatPresenceDigest;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatUserStatusEvent;
+import seoul.seoulfest.member.entity.Member;
+
+/**
+ * 채팅방 접속 상태(presence) 서비스
+ * - 이 노드에서 입장한 회원을 메모리에 보관하고, Redis ZSET(chat:room:{id}:online, 점수 = 마지막 활동 시각)으로 다른 노드와 공유
+ * - 입장/퇴장마다 상태 이벤트를 보내지 않고 digest-interval-ms 마다 채팅방별 요약(ChatPresenceDigest)을 한 번 발송
+ * - 웹소켓 연결이 끊기면 그 세션으로 입장한 채팅방에서 퇴장 처리
+ *   (회원별 세션 수를 Redis 해시 chat:room:{id}:sessions 로 공유하여, 다른 노드/기기의 세션이 남아 있으면 유지)
+ * - 활동이 없는 회원은 ttl-seconds 가 지나면 퇴장 처리: 접속자 수는 점수로 걸러 세고, 주기적으로 모든 노드의 기록을 정리
+ * - Redis 장애 시에는 이 노드의 접속자만으로 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+	private static final String PRESENCE_KEY = "chat:room:%d:online";
+
+	// 회원 ID -> 전체 노드에서 입장 중인 세션 수
+	private static final String SESSIONS_KEY = "chat:room:%d:sessions";
+
+	// 접속 기록이 있는 채팅방 ID 목록 (다른 노드에서 입장한 회원까지 정리하기 위해 사용)
+	private static final String PRESENCE_ROOMS_KEY = "chat:presence:rooms";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatEventPublisher chatEventPublisher;
+
+	@Value("${chat.presence.ttl-seconds:1800}")
+	private long ttlSeconds;
+
+	// 요약 이벤트에 포함할 개별 상태 이벤트 최대 수
+	@Value("${chat.presence.digest-max-events:20}")
+	private int digestMaxEvents;
+
+	// 채팅방 ID -> (회원 ID -> 마지막 활동 시각), 이 노드에서 입장한 회원만 보관
+	private final Map<Long, Map<Long, Long>> localPresence = new ConcurrentHashMap<>();
+
+	// 웹소켓 세션 ID -> (채팅방 ID -> 입장한 회원), 연결 종료 시 퇴장 처리용
+	private final Map<String, Map<Long, Member>> sessionRooms = new ConcurrentHashMap<>();
+
+	// "채팅방 ID:회원 ID" -> 이 노드에서 입장 중인 세션 수
+	private final Map<String, Integer> memberSessionCounts = new ConcurrentHashMap<>();
+
+	// 채팅방 ID -> 다음 요약 발송까지 모인 변경 내역
+	private final Map<Long, PendingDigest> pendingDigests = new ConcurrentHashMap<>();
+
+	/**
+	 * 채팅방 입장 (트랜잭션 중이면 커밋 이후 반영)
+	 *
+	 * @param sessionId 입장한 웹소켓 세션 ID (연결 종료 시 퇴장 처리, null 이면 추적하지 않음)
+	 */
+	public void join(Long chatRoomId, Member member, String sessionId) {
+		afterCommit(() -> {
+			long now = System.currentTimeMillis();
+			boolean added = localPresence.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>())
+				.put(member.getId(), now) == null;
+			boolean newSession = trackSession(sessionId, chatRoomId, member);
+
+			try {
+				if (newSession) {
+					String sessionsKey = sessionsKey(chatRoomId);
+					redisTemplate.opsForHash().increment(sessionsKey, String.valueOf(member.getId()), 1);
+					redisTemplate.expire(sessionsKey, ttlSeconds, TimeUnit.SECONDS);
+				}
+				String key = presenceKey(chatRoomId);
+				// 다른 노드에서 이미 입장한 회원이면 점수(마지막 활동 시각)만 갱신하고 입장 수에 포함하지 않음
+				added = Boolean.TRUE.equals(redisTemplate.opsForZSet().add(key, String.valueOf(member.getId()), now));
+				// 키 만료는 채팅방 전체가 조용해진 경우의 안전장치, 개별 회원은 sweepIdleMembers 가 점수로 정리
+				redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+				redisTemplate.opsForSet().add(PRESENCE_ROOMS_KEY, String.valueOf(chatRoomId));
+			} catch (DataAccessException e) {
+				log.warn("접속 상태 저장 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+			}
+
+			if (added) {
+				record(chatRoomId, member, "JOIN", true);
+			}
+		});
+	}
+
+	/**
+	 * 채팅방 퇴장 (트랜잭션 중이면 커밋 이후 반영)
+	 *
+	 * @param eventType LEAVE, EXIT, KICK
+	 */
+	public void leave(Long chatRoomId, Member member, String eventType) {
+		afterCommit(() -> {
+			if (remove(chatRoomId, member.getId())) {
+				record(chatRoomId, member, eventType, false);
+			}
+		});
+	}
+
+	/**
+	 * 웹소켓 연결 종료 시 그 세션으로 입장한 채팅방에서 퇴장 처리
+	 * - leave 를 보내지 못하고 끊긴 연결이 ttl-seconds 동안 접속자로 남지 않도록 함
+	 * - 이 노드의 마지막 세션이어도 다른 노드에 같은 회원의 세션이 남아 있으면 이 노드 기록만 지우고 접속 상태는 유지
+	 */
+	@EventListener
+	public void onSessionDisconnect(SessionDisconnectEvent event) {
+		Map<Long, Member> rooms = sessionRooms.remove(event.getSessionId());
+		if (rooms == null) {
+			return;
+		}
+
+		rooms.forEach((chatRoomId, member) -> {
+			boolean lastLocalSession = releaseSession(chatRoomId, member.getId());
+			long remainingSessions = releaseRedisSession(chatRoomId, member.getId(), lastLocalSession);
+			if (!lastLocalSession) {
+				return;
+			}
+			if (remainingSessions > 0) {
+				Map<Long, Long> members = localPresence.get(chatRoomId);
+				if (members != null) {
+					members.remove(member.getId());
+				}
+				return;
+			}
+			leave(chatRoomId, member, "LEAVE");
+		});
+	}
+
+	/**
+	 * 활동 시각 갱신 (읽음 처리 등), 입장 상태가 아니면 무시
+	 */
+	public void touch(Long chatRoomId, Long memberId) {
+		Map<Long, Long> members = localPresence.get(chatRoomId);
+		long now = System.currentTimeMillis();
+		if (members != null && members.replace(memberId, now) != null) {
+			try {
+				// 다른 노드의 정리로 빠졌던 회원이면 다시 입장한 것으로 집계
+				if (Boolean.TRUE.equals(redisTemplate.opsForZSet().add(presenceKey(chatRoomId),
+					String.valueOf(memberId), now))) {
+					record(chatRoomId, memberId, null, "JOIN", true);
+				}
+			} catch (DataAccessException e) {
+				log.debug("접속 상태 갱신 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 채팅방 접속자 수 조회 (전체 노드 기준, ttl-seconds 안에 활동한 회원만)
+	 */
+	public long getOnlineCount(Long chatRoomId) {
+		try {
+			Long count = redisTemplate.opsForZSet().count(presenceKey(chatRoomId), expiredBefore(),
+				Double.POSITIVE_INFINITY);
+			return count != null ? count : 0;
+		} catch (DataAccessException e) {
+			log.warn("접속자 수 조회 실패, 이 노드 기준으로 대체: 채팅방 {} - {}", chatRoomId, e.getMessage());
+			Map<Long, Long> members = localPresence.get(chatRoomId);
+			return members != null ? members.size() : 0;
+		}
+	}
+
+	/**
+	 * 모인 변경 내역을 채팅방별 요약 이벤트로 발송
+	 */
+	@Scheduled(fixedDelayString = "${chat.presence.digest-interval-ms:1000}")
+	public void publishDigests() {
+		if (pendingDigests.isEmpty()) {
+			return;
+		}
+
+		for (Long chatRoomId : new ArrayList<>(pendingDigests.keySet())) {
+			// remove 이후에는 record 가 새 PendingDigest 를 만들므로 꺼낸 내역은 더 이상 변경되지 않음
+			PendingDigest pending = pendingDigests.remove(chatRoomId);
+			if (pending == null) {
+				continue;
+			}
+
+			ChatPresenceDigest digest = ChatPresenceDigest.builder()
+				.chatRoomId(chatRoomId)
+				.eventType("PRESENCE")
+				.joined(pending.joined)
+				.left(pending.left)
+				.online(getOnlineCount(chatRoomId))
+				.events(pending.events)
+				.timestamp(LocalDateTime.now())
+				.build();
+
+			chatEventPublisher.publish("/topic/chat/room/" + chatRoomId + "/status", digest);
+		}
+	}
+
+	/**
+	 * ttl-seconds 동안 활동이 없는 회원 퇴장 처리
+	 * - 이 노드의 접속 정보와 함께, 다른 노드에서 입장한 뒤 정리되지 못한 Redis 기록도 점수 기준으로 정리
+	 * - 여러 노드가 동시에 정리해도 Redis 에서 실제로 삭제한 노드만 퇴장 이벤트를 기록
+	 */
+	@Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:60000}")
+	public void sweepIdleMembers() {
+		long expiredBefore = expiredBefore();
+
+		for (Map.Entry<Long, Map<Long, Long>> room : localPresence.entrySet()) {
+			Iterator<Map.Entry<Long, Long>> iterator = room.getValue().entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Long, Long> member = iterator.next();
+				if (member.getValue() < expiredBefore && remove(room.getKey(), member.getKey())) {
+					record(room.getKey(), member.getKey(), null, "LEAVE", false);
+				}
+			}
+		}
+		localPresence.values().removeIf(Map::isEmpty);
+
+		try {
+			sweepRedis(expiredBefore);
+		} catch (DataAccessException e) {
+			log.warn("접속 상태 정리 실패: {}", e.getMessage());
+		}
+	}
+
+	private void sweepRedis(long expiredBefore) {
+		Set<String> roomIds = redisTemplate.opsForSet().members(PRESENCE_ROOMS_KEY);
+		if (roomIds == null) {
+			return;
+		}
+
+		for (String roomId : roomIds) {
+			Long chatRoomId = Long.valueOf(roomId);
+			String key = presenceKey(chatRoomId);
+
+			Set<String> expired = redisTemplate.opsForZSet().rangeByScore(key, 0, expiredBefore);
+			if (expired != null) {
+				for (String memberId : expired) {
+					Long removed = redisTemplate.opsForZSet().remove(key, memberId);
+					// 정리되지 못한 세션 수(노드 장애 등)도 함께 제거
+					redisTemplate.opsForHash().delete(sessionsKey(chatRoomId), memberId);
+					if (removed != null && removed > 0) {
+						record(chatRoomId, Long.valueOf(memberId), null, "LEAVE", false);
+					}
+				}
+			}
+
+			Long remaining = redisTemplate.opsForZSet().zCard(key);
+			if (remaining == null || remaining == 0) {
+				redisTemplate.opsForSet().remove(PRESENCE_ROOMS_KEY, roomId);
+			}
+		}
+	}
+
+	/**
+	 * 접속 상태 제거
+	 *
+	 * @return 이 노드 또는 Redis 에서 접속 중이던 회원이면 true (Redis 장애 시 이 노드 기준)
+	 */
+	private boolean remove(Long chatRoomId, Long memberId) {
+		Map<Long, Long> members = localPresence.get(chatRoomId);
+		boolean removed = members != null && members.remove(memberId) != null;
+
+		try {
+			Long deleted = redisTemplate.opsForZSet().remove(presenceKey(chatRoomId), String.valueOf(memberId));
+			removed |= deleted != null && deleted > 0;
+			redisTemplate.opsForHash().delete(sessionsKey(chatRoomId), String.valueOf(memberId));
+		} catch (DataAccessException e) {
+			log.warn("접속 상태 삭제 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+		}
+		return removed;
+	}
+
+	/**
+	 * 세션이 채팅방에 입장했음을 기록
+	 *
+	 * @return 이 세션으로 처음 입장한 채팅방이면 true
+	 */
+	private boolean trackSession(String sessionId, Long chatRoomId, Member member) {
+		if (sessionId == null) {
+			return false;
+		}
+		Map<Long, Member> rooms = sessionRooms.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+		if (rooms.put(chatRoomId, member) == null) {
+			memberSessionCounts.merge(sessionKey(chatRoomId, member.getId()), 1, Integer::sum);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 세션 하나가 채팅방에서 빠짐
+	 *
+	 * @return 이 노드에 같은 회원의 다른 세션이 남아 있지 않으면 true
+	 */
+	private boolean releaseSession(Long chatRoomId, Long memberId) {
+		Integer remaining = memberSessionCounts.computeIfPresent(sessionKey(chatRoomId, memberId),
+			(key, count) -> count > 1 ? count - 1 : null);
+		return remaining == null;
+	}
+
+	/**
+	 * 전체 노드 기준 세션 수 감소
+	 *
+	 * @return 같은 회원의 남은 세션 수 (Redis 장애 시 이 노드 기준으로 0 또는 1)
+	 */
+	private long releaseRedisSession(Long chatRoomId, Long memberId, boolean lastLocalSession) {
+		String key = sessionsKey(chatRoomId);
+		String field = String.valueOf(memberId);
+		try {
+			Long remaining = redisTemplate.opsForHash().increment(key, field, -1);
+			if (remaining == null || remaining <= 0) {
+				redisTemplate.opsForHash().delete(key, field);
+				return 0;
+			}
+			return remaining;
+		} catch (DataAccessException e) {
+			log.warn("세션 수 감소 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+			return lastLocalSession ? 0 : 1;
+		}
+	}
+
+	private void record(Long chatRoomId, Member member, String eventType, boolean joined) {
+		record(chatRoomId, member.getId(), member.getUsername(), eventType, joined);
+	}
+
+	private void record(Long chatRoomId, Long memberId, String memberName, String eventType, boolean joined) {
+		pendingDigests.compute(chatRoomId, (id, pending) -> {
+			if (pending == null) {
+				pending = new PendingDigest();
+			}
+			if (joined) {
+				pending.joined++;
+			} else {
+				pending.left++;
+			}
+
+			if (pending.events.size() < digestMaxEvents) {
+				pending.events.add(ChatUserStatusEvent.builder()
+					.chatRoomId(chatRoomId)
+					.memberId(memberId)
+					.memberName(memberName)
+					.eventType(eventType)
+					.timestamp(LocalDateTime.now())
+					.build());
+			}
+			return pending;
+		});
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private String presenceKey(Long chatRoomId) {
+		return String.format(PRESENCE_KEY, chatRoomId);
+	}
+
+	private String sessionsKey(Long chatRoomId) {
+		return String.format(SESSIONS_KEY, chatRoomId);
+	}
+
+	private String sessionKey(Long chatRoomId, Long memberId) {
+		return chatRoomId + ":" + memberId;
+	}
+
+	private long expiredBefore() {
+		return System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(ttlSeconds);
+	}
+
+	private static class PendingDigest {
+
+		private int joined;
+		private int left;
+		private final List<ChatUserStatusEvent> events = new ArrayList<>();
+	}
+}
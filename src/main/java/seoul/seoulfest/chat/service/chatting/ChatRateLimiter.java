@@ -0,0 +1,120 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.util.concurrent.TokenBucket;
+
+/**
+ * 채팅 전송 유량 제한기
+ * - STOMP 세션별: 채팅 메시지 전송 (/app/chat/message, 읽음/입장/퇴장은 제외)
+ * - 채팅방별: 채팅 메시지 전송 (/app/chat/message)
+ * - 한도를 넘은 프레임은 DB 작업 전에 StompInterceptor 에서 버림
+ * - 채팅방 버킷은 최대 chat.rate-limit.room.max-tracked 개까지만 유지
+ */
+@Slf4j
+@Component
+public class ChatRateLimiter {
+
+	@Value("${chat.rate-limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${chat.rate-limit.session.capacity:20}")
+	private int sessionCapacity;
+
+	@Value("${chat.rate-limit.session.refill-per-second:5}")
+	private double sessionRefillPerSecond;
+
+	@Value("${chat.rate-limit.room.capacity:200}")
+	private int roomCapacity;
+
+	@Value("${chat.rate-limit.room.refill-per-second:100}")
+	private double roomRefillPerSecond;
+
+	@Value("${chat.rate-limit.room.max-tracked:10000}")
+	private int maxTrackedRooms;
+
+	private final ConcurrentHashMap<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+
+	private final Counter sessionRejectedCounter;
+	private final Counter roomRejectedCounter;
+
+	public ChatRateLimiter(MeterRegistry meterRegistry) {
+		this.sessionRejectedCounter = Counter.builder("chat.rate-limit.rejected")
+			.tag("scope", "session")
+			.register(meterRegistry);
+		this.roomRejectedCounter = Counter.builder("chat.rate-limit.rejected")
+			.tag("scope", "room")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 세션의 채팅 메시지 전송 허용 여부
+	 */
+	public boolean tryAcquireSession(String sessionId) {
+		if (!enabled || sessionId == null) {
+			return true;
+		}
+
+		TokenBucket bucket = sessionBuckets.computeIfAbsent(sessionId,
+			key -> new TokenBucket(sessionCapacity, sessionRefillPerSecond));
+		if (bucket.tryAcquire()) {
+			return true;
+		}
+		sessionRejectedCounter.increment();
+		return false;
+	}
+
+	/**
+	 * 채팅방의 메시지 전송 허용 여부
+	 */
+	public boolean tryAcquireRoom(long chatRoomId) {
+		if (!enabled) {
+			return true;
+		}
+
+		TokenBucket bucket = roomBuckets.get(chatRoomId);
+		if (bucket == null) {
+			// 임의의 채팅방 ID로 버킷이 끝없이 늘어나지 않도록 추적 개수 제한 (가득 차면 쉬는 버킷을 먼저 정리)
+			if (roomBuckets.size() >= maxTrackedRooms) {
+				evictIdleRooms();
+				if (roomBuckets.size() >= maxTrackedRooms) {
+					roomRejectedCounter.increment();
+					return false;
+				}
+			}
+			bucket = roomBuckets.computeIfAbsent(chatRoomId,
+				key -> new TokenBucket(roomCapacity, roomRefillPerSecond));
+		}
+		if (bucket.tryAcquire()) {
+			return true;
+		}
+		roomRejectedCounter.increment();
+		return false;
+	}
+
+	/**
+	 * 세션 종료 시 버킷 제거
+	 */
+	public void removeSession(String sessionId) {
+		if (sessionId != null) {
+			sessionBuckets.remove(sessionId);
+		}
+	}
+
+	/**
+	 * 한동안 사용되지 않은(가득 찬) 채팅방 버킷 정리
+	 * - 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 결과가 달라지지 않음
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void evictIdleRooms() {
+		roomBuckets.values().removeIf(TokenBucket::isIdle);
+	}
+}
@@ -0,0 +1,168 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.enums.ChatBrokerMode;
+
+/**
+ * 채팅방 구독 권한 캐시
+ * - (verifyId, 채팅방 ID) 별로 구독 권한 확인 결과를 보관하여 재연결 및 REST 조회 시 DB 조회를 생략
+ * - 권한이 확인된 경우만 저장하고, 강퇴/탈퇴/참여/채팅방 삭제 시 즉시 무효화
+ * - 다중 노드 브로커 모드(redis, relay)에서는 무효화를 Redis 채널로 모든 노드에 전파
+ *   (pub/sub 메시지가 유실된 경우에만 TTL 이 지나야 반영됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionAuthCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "chat:subscription-cache:invalidate";
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${chat.broker.mode:simple}")
+	private String brokerMode;
+
+	@Value("${chat.subscription-cache.ttl-seconds:60}")
+	private long ttlSeconds;
+
+	@Value("${chat.subscription-cache.max-size:100000}")
+	private int maxSize;
+
+	// 키: (verifyId, 채팅방 ID), 값: 만료 시각 (epoch millis)
+	private final ConcurrentHashMap<Key, Long> authorized = new ConcurrentHashMap<>();
+
+	/**
+	 * 구독 권한이 확인된 상태인지 조회
+	 */
+	public boolean isAuthorized(String verifyId, long chatRoomId) {
+		Key key = new Key(verifyId, chatRoomId);
+		Long expiresAt = authorized.get(key);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt < System.currentTimeMillis()) {
+			authorized.remove(key, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 구독 권한 확인 결과 저장
+	 */
+	public void markAuthorized(String verifyId, long chatRoomId) {
+		if (authorized.size() >= maxSize) {
+			evictExpired();
+		}
+		authorized.put(new Key(verifyId, chatRoomId), System.currentTimeMillis() + ttlSeconds * 1000);
+	}
+
+	/**
+	 * 특정 회원의 채팅방 구독 권한 무효화
+	 * - 트랜잭션 중이면 커밋 이후에도 한 번 더 무효화하여 커밋 전 조회 결과가 다시 저장되는 것을 방지
+	 * - 다른 노드에는 커밋 이후 전파
+	 */
+	public void invalidate(String verifyId, Long chatRoomId) {
+		Key key = new Key(verifyId, chatRoomId);
+		authorized.remove(key);
+
+		afterCommit(() -> {
+			authorized.remove(key);
+			broadcast(chatRoomId + ":" + verifyId);
+		});
+	}
+
+	/**
+	 * 특정 채팅방의 모든 구독 권한 무효화 (채팅방 삭제 시)
+	 * - invalidate 와 같이 커밋 이후 한 번 더 무효화하고 다른 노드에 전파
+	 */
+	public void invalidateRoom(Long chatRoomId) {
+		removeRoom(chatRoomId);
+
+		afterCommit(() -> {
+			removeRoom(chatRoomId);
+			broadcast(chatRoomId + ":");
+		});
+	}
+
+	/**
+	 * 다른 노드에서 전파된 무효화 반영 ("채팅방 ID:verifyId", verifyId 가 비어 있으면 채팅방 전체)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator <= 0) {
+			return;
+		}
+
+		try {
+			long chatRoomId = Long.parseLong(body.substring(0, separator));
+			String verifyId = body.substring(separator + 1);
+			if (verifyId.isEmpty()) {
+				removeRoom(chatRoomId);
+			} else {
+				authorized.remove(new Key(verifyId, chatRoomId));
+			}
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 구독 권한 무효화 메시지: {}", body);
+		}
+	}
+
+	private void removeRoom(long chatRoomId) {
+		authorized.keySet().removeIf(key -> key.chatRoomId() == chatRoomId);
+	}
+
+	private void broadcast(String message) {
+		if (!ChatBrokerMode.from(brokerMode).isMultiNode()) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+		} catch (DataAccessException e) {
+			log.warn("구독 권한 무효화 전파 실패, 다른 노드는 TTL 이후 반영: {} - {}", message, e.getMessage());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	/**
+	 * 만료된 항목 정리, 그래도 최대 크기를 넘으면 전체 비움
+	 */
+	private void evictExpired() {
+		long now = System.currentTimeMillis();
+		authorized.values().removeIf(expiresAt -> expiresAt < now);
+
+		if (authorized.size() >= maxSize) {
+			log.warn("구독 권한 캐시가 최대 크기({})를 초과하여 비웁니다.", maxSize);
+			authorized.clear();
+		}
+	}
+
+	private record Key(String verifyId, long chatRoomId) {
+	}
+}
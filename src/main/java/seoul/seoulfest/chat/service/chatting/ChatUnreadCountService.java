@@ -0,0 +1,219 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+
+/**
+ * 채팅방 읽지 않은 메시지 수 관리 서비스 (Redis)
+ * - 채팅방별 누적 메시지 수와 회원별 읽은 메시지 수(워터마크)를 저장하고, 두 값의 차이로 안 읽은 수를 계산
+ * - 메시지 전송 시 채팅방 카운터만 1 증가시키므로 참여 인원과 무관하게 O(1)
+ * - Redis 키가 없으면(flush, 만료 등) 조회 시점에 DB 기준으로 다시 계산하여 채움
+ * - Redis 장애 시에는 DB 카운트 쿼리로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCountService {
+
+	private static final String MESSAGE_COUNT_KEY = "chat:room:%d:message-count";
+	private static final String READ_COUNT_KEY = "chat:room:%d:read-count";
+
+	// 키가 존재할 때만 증가 (없으면 다음 조회 시 DB 기준으로 재계산)
+	private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) else return nil end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatMessageRepository chatMessageRepository;
+
+	/**
+	 * 메시지 전송 시 채팅방 메시지 수 증가
+	 * - 발신자는 자신의 메시지를 읽은 것으로 처리
+	 * - 트랜잭션 중이면 커밋 이후에 증가 (롤백된 전송이 카운터에 남지 않도록)
+	 */
+	public void increaseMessageCount(Long chatRoomId, Long senderId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					incrementMessageCount(chatRoomId, senderId);
+				}
+			});
+			return;
+		}
+		incrementMessageCount(chatRoomId, senderId);
+	}
+
+	private void incrementMessageCount(Long chatRoomId, Long senderId) {
+		try {
+			Long messageCount = redisTemplate.execute(INCREMENT_IF_EXISTS,
+				Collections.singletonList(messageCountKey(chatRoomId)));
+
+			if (messageCount != null && senderId != null) {
+				redisTemplate.opsForHash().put(readCountKey(chatRoomId), String.valueOf(senderId),
+					String.valueOf(messageCount));
+			}
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 메시지 카운터 증가 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 채팅방의 모든 메시지를 읽음 처리
+	 */
+	public void markAllRead(Long chatRoomId, Long memberId) {
+		try {
+			long messageCount = getMessageCount(chatRoomId);
+			redisTemplate.opsForHash().put(readCountKey(chatRoomId), String.valueOf(memberId),
+				String.valueOf(messageCount));
+		} catch (DataAccessException e) {
+			log.warn("읽음 카운터 갱신 실패: 채팅방 {} - 회원 {} - {}", chatRoomId, memberId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 특정 채팅방의 읽지 않은 메시지 수 조회
+	 *
+	 * @param readFrom 회원의 마지막 읽은 시간 (없으면 참여 시간), Redis 값이 없을 때 재계산 기준
+	 */
+	public int getUnreadCount(Long chatRoomId, Long memberId, LocalDateTime readFrom) {
+		try {
+			long messageCount = getMessageCount(chatRoomId);
+			Object readCount = redisTemplate.opsForHash().get(readCountKey(chatRoomId), String.valueOf(memberId));
+
+			return calculateUnreadCount(chatRoomId, memberId, readFrom, messageCount, (String)readCount);
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 메시지 수 조회 실패, DB로 대체: 채팅방 {} - {}", chatRoomId, e.getMessage());
+			return chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(chatRoomId, readFrom);
+		}
+	}
+
+	/**
+	 * 여러 채팅방의 읽지 않은 메시지 수를 한 번에 조회
+	 * - Redis 파이프라인으로 모든 채팅방의 카운터를 한 번의 왕복으로 조회
+	 *
+	 * @param readFromByRoom 채팅방 ID별 회원의 마지막 읽은 시간 (없으면 참여 시간)
+	 * @return 채팅방 ID별 읽지 않은 메시지 수
+	 */
+	public Map<Long, Integer> getUnreadCounts(Long memberId, Map<Long, LocalDateTime> readFromByRoom) {
+		if (readFromByRoom.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<Long> chatRoomIds = new ArrayList<>(readFromByRoom.keySet());
+		Map<Long, Integer> unreadCounts = new HashMap<>();
+
+		try {
+			String memberField = String.valueOf(memberId);
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				for (Long chatRoomId : chatRoomIds) {
+					stringConnection.get(messageCountKey(chatRoomId));
+					stringConnection.hGet(readCountKey(chatRoomId), memberField);
+				}
+				return null;
+			});
+
+			for (int i = 0; i < chatRoomIds.size(); i++) {
+				Long chatRoomId = chatRoomIds.get(i);
+				String messageCountValue = (String)results.get(i * 2);
+				String readCountValue = (String)results.get(i * 2 + 1);
+
+				long messageCount = messageCountValue != null
+					? Long.parseLong(messageCountValue)
+					: rebuildMessageCount(chatRoomId);
+
+				unreadCounts.put(chatRoomId, calculateUnreadCount(chatRoomId, memberId,
+					readFromByRoom.get(chatRoomId), messageCount, messageCountValue != null ? readCountValue : null));
+			}
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 메시지 수 일괄 조회 실패, DB로 대체: 회원 {} - {}", memberId, e.getMessage());
+			for (Long chatRoomId : chatRoomIds) {
+				unreadCounts.put(chatRoomId,
+					chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(chatRoomId, readFromByRoom.get(chatRoomId)));
+			}
+		}
+
+		return unreadCounts;
+	}
+
+	/**
+	 * 읽지 않은 메시지 수 계산
+	 * - 회원의 읽은 수가 Redis에 없으면 DB 기준으로 재계산하여 저장
+	 */
+	private int calculateUnreadCount(Long chatRoomId, Long memberId, LocalDateTime readFrom, long messageCount,
+		String readCountValue) {
+		long readCount = readCountValue != null
+			? Long.parseLong(readCountValue)
+			: rebuildReadCount(chatRoomId, memberId, readFrom, messageCount);
+
+		return (int)Math.max(0, messageCount - readCount);
+	}
+
+	/**
+	 * 채팅방 누적 메시지 수 조회 (없으면 DB 기준으로 재계산)
+	 */
+	private long getMessageCount(Long chatRoomId) {
+		String value = redisTemplate.opsForValue().get(messageCountKey(chatRoomId));
+		return value != null ? Long.parseLong(value) : rebuildMessageCount(chatRoomId);
+	}
+
+	/**
+	 * DB 기준으로 채팅방 누적 메시지 수 재계산
+	 * - 카운터가 새로 만들어진 경우 기존 읽은 수는 기준이 달라지므로 함께 초기화
+	 */
+	private long rebuildMessageCount(Long chatRoomId) {
+		long messageCount = chatMessageRepository.countByChatRoomId(chatRoomId);
+
+		Boolean created = redisTemplate.opsForValue().setIfAbsent(messageCountKey(chatRoomId),
+			String.valueOf(messageCount));
+		if (Boolean.TRUE.equals(created)) {
+			redisTemplate.delete(readCountKey(chatRoomId));
+			log.info("채팅방 메시지 카운터 재계산: 채팅방 {} - {}건", chatRoomId, messageCount);
+			return messageCount;
+		}
+
+		// 다른 요청이 먼저 재계산한 경우 해당 값을 사용
+		String value = redisTemplate.opsForValue().get(messageCountKey(chatRoomId));
+		return value != null ? Long.parseLong(value) : messageCount;
+	}
+
+	/**
+	 * DB 기준으로 회원의 읽은 메시지 수 재계산
+	 * - 읽은 수 = 누적 메시지 수 - 마지막 읽은 시간 이후 메시지 수
+	 */
+	private long rebuildReadCount(Long chatRoomId, Long memberId, LocalDateTime readFrom, long messageCount) {
+		int unreadCount = chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(chatRoomId, readFrom);
+		long readCount = Math.max(0, messageCount - unreadCount);
+
+		redisTemplate.opsForHash().putIfAbsent(readCountKey(chatRoomId), String.valueOf(memberId),
+			String.valueOf(readCount));
+		return readCount;
+	}
+
+	private String messageCountKey(Long chatRoomId) {
+		return String.format(MESSAGE_COUNT_KEY, chatRoomId);
+	}
+
+	private String readCountKey(Long chatRoomId) {
+		return String.format(READ_COUNT_KEY, chatRoomId);
+	}
+}
@@ -0,0 +1,34 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * DB 기록 대기 중인 채팅 메시지 (write-behind 큐 항목)
+ */
+@Getter
+@Builder
+public class PendingChatMessage {
+
+	private final long messageId;
+	private final Long chatRoomId;
+
+	// 채팅방 내 메시지 순번 (발급 실패 시 null)
+	private final Long seq;
+
+	private final Long senderId;
+	private final String content;
+	private final String type;
+	private final LocalDateTime createdAt;
+
+	// 첨부 미디어 S3 키 (없으면 null)
+	private final String s3Key;
+
+	// 채팅방 마지막 메시지 스냅샷에 기록할 미리보기
+	private final String preview;
+
+	// 큐에 들어간 시각 (지연 시간 측정용)
+	private final long enqueuedAtNanos;
+}
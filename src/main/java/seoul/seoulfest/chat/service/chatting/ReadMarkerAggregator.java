@@ -0,0 +1,102 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 마지막 읽은 시간 집계기
+ * - 읽음/입장/퇴장 이벤트마다 UPDATE 하지 않고 (채팅방, 회원)별 최신 시각만 메모리에 보관
+ * - 주기적으로(chat.read-marker.flush-interval-ms) 한 번의 배치 UPDATE 로 chat_room_member 에 반영
+ * - 안 읽은 메시지 수는 Redis 카운터(markAllRead)로 즉시 반영되므로 반영 지연의 영향을 받지 않음
+ * - DB 값을 기준으로 계산하는 곳은 resolve 로 아직 반영되지 않은 값을 함께 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadMarkerAggregator {
+
+	// 더 최신 값이 이미 저장된 경우는 덮어쓰지 않음 (다중 노드 대비)
+	private static final String UPDATE_LAST_READ_AT_SQL =
+		"UPDATE chat_room_member SET last_read_at = ? "
+			+ "WHERE chat_room_id = ? AND member_id = ? AND (last_read_at IS NULL OR last_read_at < ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ConcurrentHashMap<Key, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 마지막 읽은 시간 기록
+	 */
+	public void mark(Long chatRoomId, Long memberId, LocalDateTime readAt) {
+		pending.merge(new Key(chatRoomId, memberId), readAt,
+			(current, candidate) -> candidate.isAfter(current) ? candidate : current);
+	}
+
+	/**
+	 * DB 에 저장된 마지막 읽은 시간과 아직 반영되지 않은 값 중 최신 값 반환
+	 */
+	public LocalDateTime resolve(Long chatRoomId, Long memberId, LocalDateTime persisted) {
+		LocalDateTime readAt = pending.get(new Key(chatRoomId, memberId));
+		if (readAt == null) {
+			return persisted;
+		}
+		return (persisted == null || readAt.isAfter(persisted)) ? readAt : persisted;
+	}
+
+	/**
+	 * 집계된 마지막 읽은 시간을 배치 UPDATE 로 반영
+	 * - 반영 도중 새로 기록된 값은 다음 주기에 반영
+	 */
+	@Scheduled(fixedDelayString = "${chat.read-marker.flush-interval-ms:1000}")
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		List<Map.Entry<Key, LocalDateTime>> flushed = new ArrayList<>();
+		for (Map.Entry<Key, LocalDateTime> entry : pending.entrySet()) {
+			// 값이 그대로인 경우에만 제거하여 그 사이 갱신된 값을 잃지 않음
+			if (pending.remove(entry.getKey(), entry.getValue())) {
+				flushed.add(Map.entry(entry.getKey(), entry.getValue()));
+			}
+		}
+		if (flushed.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> rows = new ArrayList<>(flushed.size());
+		for (Map.Entry<Key, LocalDateTime> entry : flushed) {
+			Timestamp readAt = Timestamp.valueOf(entry.getValue());
+			rows.add(new Object[] {readAt, entry.getKey().chatRoomId(), entry.getKey().memberId(), readAt});
+		}
+
+		try {
+			jdbcTemplate.batchUpdate(UPDATE_LAST_READ_AT_SQL, rows);
+		} catch (DataAccessException e) {
+			// 실패한 값은 다시 대기열에 넣어 다음 주기에 재시도
+			log.warn("마지막 읽은 시간 반영 실패 - {}건 재시도 예정: {}", flushed.size(), e.getMessage());
+			flushed.forEach(entry -> mark(entry.getKey().chatRoomId(), entry.getKey().memberId(), entry.getValue()));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	private record Key(Long chatRoomId, Long memberId) {
+	}
+}
@@ -0,0 +1,315 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+import seoul.seoulfest.chat.enums.ChatBrokerMode;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시
+ * - 채팅방마다 최근 messages-per-room 개의 메시지 응답을 보관하여 첫 페이지 조회 시 DB 조회를 생략
+ * - sendMessage 에서 추가, deleteMessage 에서 삭제 상태로 교체 (트랜잭션 커밋 이후 반영)
+ * - 캐시에 없는 채팅방은 첫 조회 시 DB 에서 채우고, max-rooms 를 넘으면 가장 오래 사용하지 않은 채팅방부터 제거
+ * - 캐시된 응답 객체는 여러 요청이 공유하므로 수정하지 않아야 함
+ * - 다른 노드의 메시지는 redis 브로커 모드에서만 전달받으므로 relay 모드에서는 사용하지 않음
+ *   (외부 브로커로 전달되는 메시지를 받을 수 없어 다른 노드 메시지가 빠진 버퍼를 완전한 것으로 응답하게 됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMessageCache {
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${chat.recent-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${chat.recent-cache.messages-per-room:50}")
+	private int messagesPerRoom;
+
+	@Value("${chat.recent-cache.max-rooms:1000}")
+	private int maxRooms;
+
+	@Value("${chat.broker.mode:simple}")
+	private String brokerMode;
+
+	// 채팅방 ID -> 최근 메시지 버퍼 (접근 순서 LRU, rooms 로 동기화)
+	private Map<Long, RoomBuffer> rooms;
+
+	// DB 에서 채우는 중인 채팅방 ID -> 로드 토큰 (로드 도중 변경이 생기면 제거되어 결과를 버림)
+	private final Map<Long, Long> loading = new HashMap<>();
+
+	private long loadSequence;
+
+	@PostConstruct
+	public void init() {
+		if (enabled && ChatBrokerMode.from(brokerMode) == ChatBrokerMode.RELAY) {
+			log.info("relay 브로커 모드에서는 다른 노드 메시지를 반영할 수 없어 최근 메시지 캐시를 비활성화합니다.");
+			enabled = false;
+		}
+
+		rooms = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+				return size() > maxRooms;
+			}
+		};
+	}
+
+	/**
+	 * 첫 페이지 요청을 캐시로 처리할 수 있는 크기인지 확인
+	 */
+	public boolean canServe(int size) {
+		return enabled && size <= messagesPerRoom;
+	}
+
+	public int getMessagesPerRoom() {
+		return messagesPerRoom;
+	}
+
+	/**
+	 * 최근 메시지 조회 (최신순)
+	 * - 캐시에 없거나 요청한 개수를 보장할 수 없으면 null
+	 */
+	public List<ChatMessageResponse> getRecent(Long chatRoomId, int size) {
+		synchronized (rooms) {
+			RoomBuffer buffer = rooms.get(chatRoomId);
+			if (buffer == null || (buffer.size() < size && !buffer.isComplete())) {
+				return null;
+			}
+			return buffer.newest(size);
+		}
+	}
+
+	/**
+	 * 특정 순번 이후 메시지 조회 (순번 오름차순, 재동기화용)
+	 * - 버퍼가 afterSeq 이하의 메시지까지 보관하고 있을 때만 누락 없이 응답할 수 있음
+	 *
+	 * @return 메시지 목록, 캐시로 보장할 수 없으면 null
+	 */
+	public List<ChatMessageResponse> getAfterSeq(Long chatRoomId, long afterSeq) {
+		if (!enabled) {
+			return null;
+		}
+		synchronized (rooms) {
+			RoomBuffer buffer = rooms.get(chatRoomId);
+			if (buffer == null || !buffer.covers(afterSeq)) {
+				return null;
+			}
+			return buffer.afterSeq(afterSeq);
+		}
+	}
+
+	/**
+	 * DB 로드 시작 표시
+	 * - 반환한 토큰을 completeLoad 에 전달
+	 */
+	public long beginLoad(Long chatRoomId) {
+		synchronized (rooms) {
+			long token = ++loadSequence;
+			loading.put(chatRoomId, token);
+			return token;
+		}
+	}
+
+	/**
+	 * DB 에서 읽은 최근 메시지(최신순)로 채팅방 버퍼 생성
+	 * - 로드 도중 해당 채팅방에 메시지 추가/삭제가 있었다면 결과를 버림 (다음 조회에서 다시 로드)
+	 *
+	 * @param complete 채팅방의 모든 메시지를 읽었는지 여부
+	 */
+	public void completeLoad(Long chatRoomId, long token, List<ChatMessageResponse> newestFirst, boolean complete) {
+		if (!enabled) {
+			return;
+		}
+		synchronized (rooms) {
+			if (!loading.remove(chatRoomId, token)) {
+				return;
+			}
+			RoomBuffer buffer = new RoomBuffer(messagesPerRoom, complete);
+			for (int i = newestFirst.size() - 1; i >= 0; i--) {
+				buffer.put(newestFirst.get(i));
+			}
+			rooms.put(chatRoomId, buffer);
+		}
+	}
+
+	/**
+	 * 메시지 추가 또는 같은 ID 메시지 교체 (삭제 처리 등)
+	 * - 트랜잭션 중이면 커밋 이후에 반영
+	 */
+	public void put(ChatMessageResponse message) {
+		if (!enabled || message.getMessageId() == null) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply(message);
+				}
+			});
+			return;
+		}
+		apply(message);
+	}
+
+	/**
+	 * 다른 노드에서 전달된 채팅방 토픽 메시지 반영
+	 */
+	public void applyBrokerPayload(Long chatRoomId, byte[] payload) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			ChatMessageResponse message = objectMapper.readValue(payload, ChatMessageResponse.class);
+			if (message.getMessageId() != null && chatRoomId.equals(message.getChatRoomId())) {
+				apply(message);
+				return;
+			}
+		} catch (IOException e) {
+			log.debug("최근 메시지 캐시 반영 실패: 채팅방 {} - {}", chatRoomId, e.getMessage());
+		}
+		evictRoom(chatRoomId);
+	}
+
+	/**
+	 * 채팅방 캐시 제거
+	 */
+	public void evictRoom(Long chatRoomId) {
+		synchronized (rooms) {
+			rooms.remove(chatRoomId);
+			loading.remove(chatRoomId);
+		}
+	}
+
+	private void apply(ChatMessageResponse message) {
+		synchronized (rooms) {
+			loading.remove(message.getChatRoomId());
+
+			RoomBuffer buffer = rooms.get(message.getChatRoomId());
+			if (buffer != null) {
+				buffer.put(message);
+			}
+		}
+	}
+
+	/**
+	 * 메시지 ID 오름차순으로 유지되는 고정 크기 링 버퍼
+	 * - 가득 찬 상태에서 추가하면 가장 오래된 메시지를 덮어씀
+	 */
+	static class RoomBuffer {
+
+		private final ChatMessageResponse[] slots;
+		private int head;   // 가장 오래된 메시지 위치
+		private int size;
+
+		// 채팅방의 전체 메시지를 보관하고 있는지 여부
+		private boolean complete;
+
+		RoomBuffer(int capacity, boolean complete) {
+			this.slots = new ChatMessageResponse[capacity];
+			this.complete = complete;
+		}
+
+		int size() {
+			return size;
+		}
+
+		boolean isComplete() {
+			return complete;
+		}
+
+		void put(ChatMessageResponse message) {
+			long messageId = message.getMessageId();
+
+			// 대부분 가장 최근 메시지로 추가되므로 뒤에서부터 위치 탐색
+			int position = size;
+			while (position > 0 && get(position - 1).getMessageId() >= messageId) {
+				if (get(position - 1).getMessageId() == messageId) {
+					set(position - 1, message);
+					return;
+				}
+				position--;
+			}
+
+			if (size == slots.length) {
+				if (position == 0) {
+					// 보관 범위보다 오래된 메시지
+					return;
+				}
+				head = (head + 1) % slots.length;
+				size--;
+				position--;
+				complete = false;
+			}
+
+			for (int i = size; i > position; i--) {
+				set(i, get(i - 1));
+			}
+			set(position, message);
+			size++;
+		}
+
+		/**
+		 * afterSeq 바로 다음 메시지부터 보관하고 있는지 확인
+		 * - 전체 메시지를 보관 중이거나, 가장 오래된 메시지의 순번이 afterSeq 이하인 경우
+		 */
+		boolean covers(long afterSeq) {
+			if (complete) {
+				return true;
+			}
+			if (size == 0) {
+				return false;
+			}
+			Long oldestSeq = get(0).getSeq();
+			return oldestSeq != null && oldestSeq <= afterSeq;
+		}
+
+		List<ChatMessageResponse> afterSeq(long afterSeq) {
+			List<ChatMessageResponse> result = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				ChatMessageResponse message = get(i);
+				if (message.getSeq() != null && message.getSeq() > afterSeq) {
+					result.add(message);
+				}
+			}
+			result.sort(Comparator.comparing(ChatMessageResponse::getSeq));
+			return result;
+		}
+
+		List<ChatMessageResponse> newest(int count) {
+			int n = Math.min(count, size);
+			List<ChatMessageResponse> result = new ArrayList<>(n);
+			for (int i = size - 1; i >= size - n; i--) {
+				result.add(get(i));
+			}
+			return result;
+		}
+
+		private ChatMessageResponse get(int index) {
+			return slots[(head + index) % slots.length];
+		}
+
+		private void set(int index, ChatMessageResponse message) {
+			slots[(head + index) % slots.length] = message;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import java.io.IOException;
+
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import seoul.seoulfest.chat.broker.CborMessageConverter;
+
+/**
+ * STOMP 목적지 경로 파서
+ * - 정규식이나 split 없이 문자열을 한 번 순회하여 채팅방 ID를 추출 (추가 객체 생성 없음)
+ * - 메시지 전송 목적지는 본문의 최상위 chatRoomId 를 스트리밍 파서로 추출 (JSON, CBOR 공통)
+ */
+public final class StompDestinationParser {
+
+	public static final String ROOM_TOPIC_PREFIX = "/topic/chat/room/";
+
+	// 채팅방 ID가 경로에 포함된 애플리케이션 목적지 (/app/chat/room/{roomId}/...)
+	public static final String APP_ROOM_PREFIX = "/app/chat/room/";
+
+	// 채팅방 ID가 본문(chatRoomId)에 포함된 메시지 전송 목적지
+	public static final String APP_SEND_DESTINATION = "/app/chat/message";
+
+	private static final String ROOM_ID_FIELD_NAME = "chatRoomId";
+
+	// 파서 생성용 (스레드 안전)
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+	// 채팅방 ID를 추출할 수 없는 경우 반환 값
+	public static final long INVALID_ROOM_ID = -1L;
+
+	private StompDestinationParser() {
+	}
+
+	/**
+	 * 채팅방 토픽 목적지인지 확인
+	 */
+	public static boolean isRoomTopic(String destination) {
+		return destination != null && destination.startsWith(ROOM_TOPIC_PREFIX);
+	}
+
+	/**
+	 * "/topic/chat/room/{roomId}" 또는 "/topic/chat/room/{roomId}/..." 형태에서 채팅방 ID 추출
+	 *
+	 * @return 채팅방 ID, 형식에 맞지 않으면 {@link #INVALID_ROOM_ID}
+	 */
+	public static long parseRoomTopic(String destination) {
+		return parseRoomId(destination, ROOM_TOPIC_PREFIX);
+	}
+
+	/**
+	 * prefix 바로 뒤의 숫자 세그먼트를 채팅방 ID로 해석
+	 *
+	 * @return 채팅방 ID, 형식에 맞지 않으면 {@link #INVALID_ROOM_ID}
+	 */
+	public static long parseRoomId(String destination, String prefix) {
+		if (destination == null || !destination.startsWith(prefix)) {
+			return INVALID_ROOM_ID;
+		}
+
+		int start = prefix.length();
+		int length = destination.length();
+		long roomId = 0;
+		int index = start;
+
+		for (; index < length; index++) {
+			char c = destination.charAt(index);
+			if (c == '/') {
+				break;
+			}
+			if (c < '0' || c > '9' || roomId > (Long.MAX_VALUE - 9) / 10) {
+				return INVALID_ROOM_ID;
+			}
+			roomId = roomId * 10 + (c - '0');
+		}
+
+		return index == start ? INVALID_ROOM_ID : roomId;
+	}
+
+	/**
+	 * 클라이언트가 보낸 애플리케이션 메시지의 대상 채팅방 ID 추출 (content-type 헤더로 본문 형식 판단)
+	 */
+	public static long resolveAppRoomId(String destination, MessageHeaders headers, Object payload) {
+		return resolveAppRoomId(destination, contentTypeOf(headers), payload);
+	}
+
+	/**
+	 * 클라이언트가 보낸 JSON 애플리케이션 메시지의 대상 채팅방 ID 추출
+	 */
+	public static long resolveAppRoomId(String destination, Object payload) {
+		return resolveAppRoomId(destination, (MimeType) null, payload);
+	}
+
+	/**
+	 * 클라이언트가 보낸 애플리케이션 메시지의 대상 채팅방 ID 추출
+	 * - /app/chat/room/{roomId}/... : 경로에서 추출
+	 * - /app/chat/message : 본문의 chatRoomId 필드에서 추출 (content-type 이 application/cbor 이면 CBOR, 그 외에는 JSON)
+	 *
+	 * @return 채팅방 ID, 알 수 없으면 {@link #INVALID_ROOM_ID}
+	 */
+	public static long resolveAppRoomId(String destination, MimeType contentType, Object payload) {
+		if (destination == null) {
+			return INVALID_ROOM_ID;
+		}
+		if (destination.startsWith(APP_ROOM_PREFIX)) {
+			return parseRoomId(destination, APP_ROOM_PREFIX);
+		}
+		if (destination.equals(APP_SEND_DESTINATION) && payload instanceof byte[] body) {
+			if (contentType != null && CborMessageConverter.APPLICATION_CBOR.equalsTypeAndSubtype(contentType)) {
+				return parseRoomIdFromCborPayload(body);
+			}
+			return parseRoomIdFromPayload(body);
+		}
+		return INVALID_ROOM_ID;
+	}
+
+	/**
+	 * JSON 본문에서 최상위 "chatRoomId" 필드 값 추출
+	 *
+	 * @return 채팅방 ID, 필드가 없거나 중복되었거나 숫자가 아니면 {@link #INVALID_ROOM_ID}
+	 */
+	public static long parseRoomIdFromPayload(byte[] payload) {
+		try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+			return parseTopLevelRoomId(parser);
+		} catch (IOException e) {
+			// 형식이 잘못된 본문은 채팅방을 알 수 없는 메시지로 처리
+			return INVALID_ROOM_ID;
+		}
+	}
+
+	/**
+	 * CBOR 본문에서 최상위 "chatRoomId" 필드 값 추출
+	 *
+	 * @return 채팅방 ID, 필드가 없거나 중복되었거나 숫자가 아니면 {@link #INVALID_ROOM_ID}
+	 */
+	public static long parseRoomIdFromCborPayload(byte[] payload) {
+		try (JsonParser parser = CBOR_FACTORY.createParser(payload)) {
+			return parseTopLevelRoomId(parser);
+		} catch (IOException e) {
+			// 형식이 잘못된 본문은 채팅방을 알 수 없는 메시지로 처리
+			return INVALID_ROOM_ID;
+		}
+	}
+
+	/**
+	 * 스트리밍 파서로 최상위 객체를 끝까지 읽어 "chatRoomId" 값 추출
+	 * - 중첩된 값은 건너뛰므로 하위 객체의 chatRoomId 는 무시
+	 * - 최상위 chatRoomId 가 두 번 이상 나오면 역직렬화 결과(마지막 값)와 달라질 수 있으므로 거부
+	 */
+	private static long parseTopLevelRoomId(JsonParser parser) throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return INVALID_ROOM_ID;
+		}
+
+		long roomId = INVALID_ROOM_ID;
+		boolean found = false;
+		JsonToken token;
+		while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+			boolean roomIdField = ROOM_ID_FIELD_NAME.equals(parser.currentName());
+			JsonToken value = parser.nextToken();
+			if (!roomIdField) {
+				parser.skipChildren();
+				continue;
+			}
+			if (found) {
+				return INVALID_ROOM_ID;
+			}
+			found = true;
+			roomId = roomIdValue(parser, value);
+			if (roomId == INVALID_ROOM_ID) {
+				return INVALID_ROOM_ID;
+			}
+		}
+		return token == JsonToken.END_OBJECT ? roomId : INVALID_ROOM_ID;
+	}
+
+	private static long roomIdValue(JsonParser parser, JsonToken value) throws IOException {
+		if (value == JsonToken.VALUE_NUMBER_INT) {
+			// long 범위를 넘는 값은 getLongValue 에서 예외 발생
+			long roomId = parser.getLongValue();
+			return roomId >= 0 ? roomId : INVALID_ROOM_ID;
+		}
+		// 문자열로 보낸 숫자("12")도 허용
+		if (value == JsonToken.VALUE_STRING) {
+			return parseRoomId(parser.getText(), "");
+		}
+		return INVALID_ROOM_ID;
+	}
+
+	private static MimeType contentTypeOf(MessageHeaders headers) {
+		if (headers == null) {
+			return null;
+		}
+		Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+		if (contentType instanceof MimeType mimeType) {
+			return mimeType;
+		}
+		if (contentType instanceof String value) {
+			try {
+				return MimeType.valueOf(value);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+}
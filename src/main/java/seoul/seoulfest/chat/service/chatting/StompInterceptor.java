@@ -18,6 +18,7 @@ import seoul.seoulfest.auth.exception.AuthErrorCode;
 import seoul.seoulfest.chat.entity.ChatRoom;
 import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
 import seoul.seoulfest.chat.exception.ChatErrorCode;
+import seoul.seoulfest.chat.metrics.ChatMetrics;
 import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
 import seoul.seoulfest.exception.BusinessException;
 import seoul.seoulfest.member.entity.Member;
@@ -44,7 +45,9 @@ public class StompInterceptor implements ChannelInterceptor {
 	private final MemberRepository memberRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomMemberRepository chatRoomMemberRepository;
-
+	private final ChatSubscriptionAuthCache subscriptionAuthCache;
+	private final ChatRateLimiter rateLimiter;
+	private final ChatMetrics chatMetrics;
 
 	private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
 
@@ -61,6 +64,22 @@ public class StompInterceptor implements ChannelInterceptor {
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
 		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
 
+		Message<?> result = null;
+		try {
+			result = intercept(message, accessor);
+			return result;
+		} finally {
+			// 프레임 수, 세션/구독 수 집계 (거부된 프레임 포함)
+			chatMetrics.recordInbound(accessor, result != null);
+		}
+	}
+
+	/**
+	 * STOMP 명령별 인증/권한/유량 제한 처리
+	 *
+	 * @return 통과한 메시지, 거부한 경우 null
+	 */
+	private Message<?> intercept(Message<?> message, StompHeaderAccessor accessor) {
 		// 웹소켓 연결 수립 시 (CONNECT)
 		if (StompCommand.CONNECT.equals(accessor.getCommand())) {
 			// 1. JWT 토큰 추출 및 검증
@@ -86,16 +105,13 @@ public class StompInterceptor implements ChannelInterceptor {
 		else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
 			// 구독 대상 경로 확인
 			String destination = accessor.getDestination();
-			if (destination != null && (
-				destination.startsWith("/topic/chat/room/") ||
-					destination.matches("/topic/chat/room/\\d+(/.*)?")
-			)) {
+			if (StompDestinationParser.isRoomTopic(destination)) {
 				try {
-					// 채팅방 ID 추출
-					Long chatRoomId = extractRoomIdFromDestination(destination);
-					if (chatRoomId == null) {
-						log.error("채팅방 ID를 추출할 수 없습니다: {}", destination);
-						return null;
+					// 채팅방 ID 추출 ("/topic/chat/room/123" 또는 "/topic/chat/room/123/status")
+					long chatRoomId = StompDestinationParser.parseRoomTopic(destination);
+					if (chatRoomId == StompDestinationParser.INVALID_ROOM_ID) {
+						log.error("잘못된 목적지 형식: {}", destination);
+						throw new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM);
 					}
 
 					// 세션 속성에서 verifyId 가져오기
@@ -109,6 +125,12 @@ public class StompInterceptor implements ChannelInterceptor {
 						return null;
 					}
 
+					// 이미 권한이 확인된 구독 (재연결, 상태 토픽 추가 구독 등)
+					if (subscriptionAuthCache.isAuthorized(verifyId, chatRoomId)) {
+						log.debug("채팅방({}) 구독 권한 캐시 사용: {}", chatRoomId, verifyId);
+						return message;
+					}
+
 					// verifyId로 회원 정보 조회
 					Member member = memberRepository.findByVerifyId(verifyId)
 						.orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
@@ -140,6 +162,7 @@ public class StompInterceptor implements ChannelInterceptor {
 						return null;
 					}
 
+					subscriptionAuthCache.markAuthorized(verifyId, chatRoomId);
 					log.info("채팅방({}) 구독 성공: {}", chatRoomId, verifyId);
 				} catch (BusinessException e) {
 					sendErrorToClient(accessor, e.getErrorCode());
@@ -150,33 +173,37 @@ public class StompInterceptor implements ChannelInterceptor {
 				}
 			}
 		}
-		return message;
-	}
-
-	/**
-	 * 목적지 경로에서 채팅방 ID 추출
-	 */
-	private Long extractRoomIdFromDestination(String destination) {
-		// 패턴 확인
-		if (destination == null) {
-			return null;
-		}
 
-		// "/topic/chat/room/123" 또는 "/topic/chat/room/123/status" 형태 모두 처리
-		String[] parts = destination.split("/");
+		// 채팅 메시지 전송 시 (SEND) - DB 작업 전에 유량 제한
+		// 입장/퇴장/읽음 처리 등 다른 SEND 는 채팅 전송 한도를 소모하지 않음
+		else if (StompCommand.SEND.equals(accessor.getCommand())
+			&& StompDestinationParser.APP_SEND_DESTINATION.equals(accessor.getDestination())) {
+			if (!rateLimiter.tryAcquireSession(accessor.getSessionId())) {
+				log.warn("세션 전송 한도 초과: {} -> {}", accessor.getSessionId(), accessor.getDestination());
+				sendErrorToClient(accessor, ChatErrorCode.TOO_MANY_MESSAGES);
+				return null;
+			}
 
-		// 기본 패턴 "/topic/chat/room/{roomId}"
-		if (parts.length >= 5) {
-			try {
-				return Long.parseLong(parts[4]);
-			} catch (NumberFormatException e) {
-				log.error("채팅방 ID 추출 실패: {}", destination, e);
-				throw new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM);
+			long chatRoomId = StompDestinationParser.resolveAppRoomId(accessor.getDestination(),
+				accessor.getContentType(), message.getPayload());
+			// 채팅방을 알 수 없는 본문(chatRoomId 누락/중복/형식 오류)은 채팅방 한도를 건너뛰지 않고 거부
+			if (chatRoomId == StompDestinationParser.INVALID_ROOM_ID) {
+				log.warn("메시지 본문의 chatRoomId 가 올바르지 않습니다: {}", accessor.getSessionId());
+				sendErrorToClient(accessor, ChatErrorCode.NOT_EXIST_CHATROOM);
+				return null;
+			}
+			if (!rateLimiter.tryAcquireRoom(chatRoomId)) {
+				log.warn("채팅방({}) 전송 한도 초과: {}", chatRoomId, accessor.getSessionId());
+				sendErrorToClient(accessor, ChatErrorCode.TOO_MANY_MESSAGES);
+				return null;
 			}
 		}
 
-		log.error("잘못된 목적지 형식: {}", destination);
-		throw new BusinessException(ChatErrorCode.NOT_EXIST_CHATROOM);
+		// 연결 종료 시 (DISCONNECT)
+		else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+			rateLimiter.removeSession(accessor.getSessionId());
+		}
+		return message;
 	}
 
 	/**
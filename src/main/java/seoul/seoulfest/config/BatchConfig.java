@@ -8,6 +8,7 @@ import org.springframework.batch.core.configuration.annotation.EnableBatchProces
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +33,10 @@ public class BatchConfig {
 	private final Step updateMissingEventsStep;
 	private final Step processAiRecommendationsStep;
 	private final EventSyncStepConfig eventSyncStepConfig;
+	private final Step archiveChatMessagesStep;
+
+	@Value("${chat.archive.enabled:false}")
+	private boolean chatArchiveEnabled;
 
 	@Bean
 	public Job eventSyncJob() {
@@ -61,6 +66,16 @@ public class BatchConfig {
 			.build();
 	}
 
+	/**
+	 * 오래된 채팅 메시지 아카이브 작업 정의
+	 */
+	@Bean
+	public Job chatMessageArchiveJob() {
+		return new JobBuilder("chatMessageArchiveJob", jobRepository)
+			.start(archiveChatMessagesStep)
+			.build();
+	}
+
 	@Scheduled(cron = "0 0 22 * * ?", zone = "Asia/Seoul")
 	public void performEventSyncJob() throws Exception {
 		JobParameters jobParameters = new JobParametersBuilder()
@@ -95,4 +110,21 @@ public class BatchConfig {
 			log.error("이벤트 데이터 동기화 배치 작업 실행 중 오류 발생: {}", e.getMessage(), e);
 		}
 	}
+
+	@Scheduled(cron = "${chat.archive.cron:0 30 4 * * ?}", zone = "Asia/Seoul")
+	public void performChatMessageArchiveJob() {
+		if (!chatArchiveEnabled) {
+			return;
+		}
+
+		try {
+			JobParameters jobParameters = new JobParametersBuilder()
+				.addLong("time", System.currentTimeMillis())
+				.toJobParameters();
+			jobLauncher.run(chatMessageArchiveJob(), jobParameters);
+			log.info("채팅 메시지 아카이브 배치 작업이 성공적으로 실행되었습니다.");
+		} catch (Exception e) {
+			log.error("채팅 메시지 아카이브 배치 작업 실행 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
 }
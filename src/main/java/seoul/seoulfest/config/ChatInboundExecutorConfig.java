@@ -0,0 +1,89 @@
+package seoul.seoulfest.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.service.chatting.StompDestinationParser;
+import seoul.seoulfest.util.concurrent.StripedExecutor;
+
+@Slf4j
+@Configuration
+public class ChatInboundExecutorConfig {
+
+	private static final String THREAD_NAME_PREFIX = "chat-inbound-";
+
+	// 레인 수 (0 이면 플랫폼 스레드: CPU 코어 수 x 2, 가상 스레드: 256)
+	@Value("${chat.inbound.lanes:0}")
+	private int lanes;
+
+	@Value("${chat.inbound.queue-capacity:10000}")
+	private int queueCapacity;
+
+	// 가상 스레드 사용 여부 (JDK 21 이상에서만 적용, 그 외에는 플랫폼 스레드 사용)
+	@Value("${chat.inbound.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	/**
+	 * STOMP 인바운드 채널 실행기
+	 * - 같은 채팅방의 메시지는 한 레인에서 순서대로 처리하고, 서로 다른 채팅방은 병렬 처리
+	 * - 레인별 대기열을 분리하여 느린 채팅방이 다른 채팅방의 처리를 막지 않도록 함
+	 * - MeterBinder 로 대기열 메트릭(executor.striped.*{name=chat-inbound}) 자동 등록
+	 */
+	@Bean
+	public StripedExecutor chatInboundExecutor() {
+		ThreadFactory virtualThreadFactory = virtualThreads ? createVirtualThreadFactory() : null;
+		boolean virtual = virtualThreadFactory != null;
+		ThreadFactory threadFactory = virtual ? virtualThreadFactory : new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+
+		int laneCount = lanes > 0 ? lanes : (virtual ? 256 : Runtime.getRuntime().availableProcessors() * 2);
+		log.info("STOMP 인바운드 실행기 - 레인: {}, 레인별 대기열: {}, 가상 스레드: {}", laneCount, queueCapacity, virtual);
+
+		return new StripedExecutor("chat-inbound", laneCount, queueCapacity, threadFactory,
+			ChatInboundExecutorConfig::orderingKey);
+	}
+
+	/**
+	 * 인바운드 메시지 순서 보장 키
+	 * - 채팅방 메시지(/app/chat/room/{roomId}/..., /app/chat/message): 채팅방 ID
+	 * - 그 외 (CONNECT, SUBSCRIBE, 메시지 삭제 등): 세션 ID
+	 * - 본문의 chatRoomId 는 StompInterceptor 와 같은 최상위 엄격 파싱 결과를 사용하므로,
+	 *   중복/형식 오류로 채팅방을 알 수 없는 본문은 다른 채팅방 레인이 아닌 세션 레인으로 보냄
+	 */
+	static Object orderingKey(Runnable task) {
+		if (!(task instanceof MessageHandlingRunnable runnable)) {
+			return null;
+		}
+
+		Message<?> message = runnable.getMessage();
+		MessageHeaders headers = message.getHeaders();
+
+		long roomId = StompDestinationParser.resolveAppRoomId(
+			SimpMessageHeaderAccessor.getDestination(headers), headers, message.getPayload());
+		if (roomId != StompDestinationParser.INVALID_ROOM_ID) {
+			return roomId;
+		}
+		return SimpMessageHeaderAccessor.getSessionId(headers);
+	}
+
+	/**
+	 * 가상 스레드 생성기 (지원하지 않는 런타임이면 null)
+	 */
+	private ThreadFactory createVirtualThreadFactory() {
+		try {
+			return new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX).getVirtualThreadFactory();
+		} catch (UnsupportedOperationException e) {
+			log.warn("가상 스레드를 지원하지 않는 런타임이므로 플랫폼 스레드를 사용합니다.");
+			return null;
+		}
+	}
+}
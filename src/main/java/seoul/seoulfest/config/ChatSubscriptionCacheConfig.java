@@ -0,0 +1,29 @@
+package seoul.seoulfest.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import seoul.seoulfest.chat.service.chatting.ChatSubscriptionAuthCache;
+
+/**
+ * 구독 권한 캐시 무효화 수신 설정 (chat.broker.mode=redis, relay)
+ * - 다른 노드에서 처리한 강퇴/탈퇴/채팅방 삭제를 이 노드의 캐시에도 반영
+ */
+@Configuration
+@ConditionalOnExpression("!'${chat.broker.mode:simple}'.equalsIgnoreCase('simple')")
+public class ChatSubscriptionCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer chatSubscriptionCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory, ChatSubscriptionAuthCache subscriptionAuthCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(subscriptionAuthCache,
+			new ChannelTopic(ChatSubscriptionAuthCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,38 @@
+package seoul.seoulfest.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.enums.ChatBrokerMode;
+import seoul.seoulfest.util.id.SnowflakeIdGenerator;
+
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+	/**
+	 * 시간 순 ID 생성기
+	 * - 다중 노드 환경에서는 노드마다 서로 다른 id-generator.node-id(0~1023)를 반드시 지정
+	 * - 호스트 이름 등으로 추정하면 노드 간 충돌할 수 있으므로, 여러 노드가 메시지를 주고받는 브로커 모드(redis, relay)에서
+	 *   지정하지 않으면 시작하지 않음
+	 * - 단일 노드(simple)에서 지정하지 않으면 0번 노드로 발급
+	 */
+	@Bean
+	public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id-generator.node-id:-1}") long nodeId,
+		@Value("${chat.broker.mode:simple}") String brokerMode) {
+		if (nodeId >= 0) {
+			SnowflakeIdGenerator.initialize(nodeId);
+		} else if (ChatBrokerMode.from(brokerMode).isMultiNode()) {
+			throw new IllegalStateException(
+				"chat.broker.mode=" + brokerMode + " 에서는 노드마다 서로 다른 id-generator.node-id 를 지정해야 합니다.");
+		} else {
+			log.warn("id-generator.node-id 가 지정되지 않아 0번 노드로 ID를 발급합니다. (단일 노드 전용)");
+		}
+
+		SnowflakeIdGenerator generator = SnowflakeIdGenerator.getInstance();
+		log.info("ID 생성기 노드 ID: {}", generator.getNodeId());
+		return generator;
+	}
+}
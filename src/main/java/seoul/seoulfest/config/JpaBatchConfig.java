@@ -0,0 +1,28 @@
+package seoul.seoulfest.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+	@Value("${jpa.batch-size:50}")
+	private int batchSize;
+
+	/**
+	 * Hibernate JDBC 배치 설정
+	 * - @TimeOrderedId 엔티티의 saveAll / 연쇄 저장이 배치 INSERT 로 실행되도록 설정
+	 * - spring.jpa.properties 에 직접 지정한 값이 있으면 그 값을 우선 사용
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+		return hibernateProperties -> {
+			hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+}
@@ -0,0 +1,27 @@
+package seoul.seoulfest.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import seoul.seoulfest.chat.broker.RedisBrokerBridge;
+
+/**
+ * Redis pub/sub 브로커 브리지 설정 (chat.broker.mode=redis)
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerConfig {
+
+	@Bean
+	public RedisMessageListenerContainer chatBrokerListenerContainer(RedisConnectionFactory redisConnectionFactory,
+		RedisBrokerBridge redisBrokerBridge) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(redisBrokerBridge, new ChannelTopic(RedisBrokerBridge.CHANNEL));
+		return container;
+	}
+}
@@ -39,7 +39,8 @@ public class SecurityConfig {
 		"/api/register",
 		"/api/login",
 		"/api/token/**",
-		"/ws-stomp/**"
+		"/ws-stomp/**",
+		"/ws-stomp-native"
 	);
 
 	private final CustomOAuth2UserService customOAuth2UserService;
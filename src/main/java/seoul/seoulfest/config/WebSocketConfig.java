@@ -1,21 +1,80 @@
 package seoul.seoulfest.config;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoul.seoulfest.chat.broker.CborMessageConverter;
+import seoul.seoulfest.chat.broker.CborPayloadInterceptor;
+import seoul.seoulfest.chat.broker.RedisBrokerBridge;
+import seoul.seoulfest.chat.enums.ChatBrokerMode;
+import seoul.seoulfest.chat.metrics.ChatMetrics;
 import seoul.seoulfest.chat.service.chatting.StompInterceptor;
+import seoul.seoulfest.util.concurrent.StripedExecutor;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final StompInterceptor stompInterceptor;
+	private final CborPayloadInterceptor cborPayloadInterceptor;
+	private final ChatMetrics chatMetrics;
+	private final ObjectProvider<RedisBrokerBridge> redisBrokerBridgeProvider;
+	private final StripedExecutor chatInboundExecutor;
+
+	/**
+	 * 브로커 모드
+	 * - simple: 단일 노드용 인메모리 브로커 (기본값)
+	 * - relay: 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등) 릴레이
+	 * - redis: 인메모리 브로커 + Redis pub/sub 으로 노드 간 메시지 전파
+	 */
+	@Value("${chat.broker.mode:simple}")
+	private String brokerMode;
+
+	@Value("${chat.broker.relay.host:localhost}")
+	private String relayHost;
+
+	@Value("${chat.broker.relay.port:61613}")
+	private int relayPort;
+
+	@Value("${chat.broker.relay.login:guest}")
+	private String relayLogin;
+
+	@Value("${chat.broker.relay.passcode:guest}")
+	private String relayPasscode;
+
+	// 느린 클라이언트로의 전송 제한 (초과 시 세션 종료)
+	@Value("${chat.websocket.send-time-limit-ms:10000}")
+	private int sendTimeLimitMillis;
+
+	@Value("${chat.websocket.send-buffer-size-limit:262144}")
+	private int sendBufferSizeLimit;
+
+	// 클라이언트가 보낼 수 있는 최대 메시지 크기
+	@Value("${chat.websocket.message-size-limit:65536}")
+	private int messageSizeLimit;
+
+	// 채팅방별 순서 보장 실행기 사용 여부 (false 면 기본 스레드 풀 사용)
+	@Value("${chat.inbound.ordered:true}")
+	private boolean orderedInbound;
 
 	/**
 	 * STOMP 엔드포인트 설정
@@ -26,6 +85,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registry.addEndpoint("/ws-stomp")   // 웹소켓 연결 엔드포인트
 			.setAllowedOriginPatterns("*")  // CORS 설정
 			.withSockJS();
+
+		// SockJS 없이 연결하는 네이티브 웹소켓 엔드포인트 (모바일 앱용)
+		// - SockJS 프레이밍이 없고 바이너리 프레임을 지원하므로 CBOR 본문 협상 가능
+		// - permessage-deflate 압축은 클라이언트가 요청하면 서블릿 컨테이너(Tomcat)가 협상
+		registry.addEndpoint("/ws-stomp-native")
+			.setAllowedOriginPatterns("*")
+			.addInterceptors(new BinaryCapableHandshakeInterceptor());
 	}
 
 	/**
@@ -35,7 +101,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
 		// 클라이언트로 메시지를 보낼 때 사용할 prefix
-		registry.enableSimpleBroker("/topic", "/queue");
+		ChatBrokerMode mode = ChatBrokerMode.from(brokerMode);
+		if (mode == ChatBrokerMode.RELAY) {
+			registry.enableStompBrokerRelay("/topic", "/queue")
+				.setRelayHost(relayHost)
+				.setRelayPort(relayPort)
+				.setClientLogin(relayLogin)
+				.setClientPasscode(relayPasscode)
+				.setSystemLogin(relayLogin)
+				.setSystemPasscode(relayPasscode);
+
+			// 다른 노드에 연결된 사용자에게 개인 메시지를 전달하기 위한 설정
+			registry.setUserDestinationBroadcast("/topic/unresolved-user-destination");
+			registry.setUserRegistryBroadcast("/topic/simp-user-registry");
+		} else {
+			registry.enableSimpleBroker("/topic", "/queue");
+
+			if (mode == ChatBrokerMode.REDIS) {
+				registry.configureBrokerChannel().interceptors(redisBrokerBridgeProvider.getObject());
+			}
+		}
+		log.info("STOMP 브로커 모드: {}", mode);
+
+		// 브로커 발행 수, fan-out 크기 메트릭
+		registry.configureBrokerChannel().interceptors(chatMetrics.brokerChannelInterceptor());
 
 		// 메시지를 수신할 때 사용할 prefix (애플리케이션으로 라우팅)
 		registry.setApplicationDestinationPrefixes("/app");
@@ -45,11 +134,65 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	}
 
 	/**
-	 * 웹소켓 메시지 인터셉터 등록
+	 * 웹소켓 전송 설정 (아웃바운드 backpressure)
+	 * - 한 세션에 대한 전송이 send-time-limit 를 넘기거나 대기 버퍼가 send-buffer-size-limit 를 넘으면 세션 종료
+	 * - 느린 클라이언트 하나 때문에 아웃바운드 스레드와 메모리가 묶이지 않도록 제한
+	 */
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendTimeLimit(sendTimeLimitMillis)
+			.setSendBufferSizeLimit(sendBufferSizeLimit)
+			.setMessageSizeLimit(messageSizeLimit);
+	}
+
+	/**
+	 * 웹소켓 메시지 인터셉터 및 실행기 등록
 	 * 사용자 인증/인가 및 추가 처리를 위한 인터셉터 설정
+	 * 같은 채팅방의 메시지가 순서대로 처리되도록 채팅방별 레인 실행기 사용
 	 */
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(stompInterceptor);
+		registration.interceptors(stompInterceptor, cborPayloadInterceptor);
+
+		if (orderedInbound) {
+			registration.executor(chatInboundExecutor);
+		}
+	}
+
+	/**
+	 * 아웃바운드 채널 인터셉터 등록
+	 * CBOR 를 협상한 세션으로 나가는 JSON 본문을 CBOR 로 변환한 뒤 프레임 수/크기 집계
+	 */
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.interceptors(cborPayloadInterceptor, chatMetrics.outboundChannelInterceptor());
+	}
+
+	/**
+	 * 메시지 변환기 설정
+	 * 기본 변환기(JSON 등)는 유지하고 content-type: application/cbor 본문 변환기 추가
+	 */
+	@Override
+	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+		messageConverters.add(new CborMessageConverter());
+		return true;
+	}
+
+	/**
+	 * 네이티브 웹소켓 연결임을 세션 속성에 표시 (바이너리 프레임 사용 가능)
+	 */
+	private static class BinaryCapableHandshakeInterceptor implements HandshakeInterceptor {
+
+		@Override
+		public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+			WebSocketHandler wsHandler, Map<String, Object> attributes) {
+			attributes.put(CborPayloadInterceptor.BINARY_CAPABLE_ATTRIBUTE, Boolean.TRUE);
+			return true;
+		}
+
+		@Override
+		public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+			WebSocketHandler wsHandler, Exception exception) {
+		}
 	}
 }
@@ -3,8 +3,6 @@ package seoul.seoulfest.event.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -15,6 +13,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import seoul.seoulfest.member.entity.Member;
 import seoul.seoulfest.util.BaseEntity;
+import seoul.seoulfest.util.id.TimeOrderedId;
 
 @Entity
 @Getter
@@ -22,7 +21,7 @@ import seoul.seoulfest.util.BaseEntity;
 public class EventSearchHistory extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	@Column(name = "search_history_id")
 	private Long id;
 
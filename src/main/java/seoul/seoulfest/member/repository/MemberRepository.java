@@ -1,8 +1,12 @@
 package seoul.seoulfest.member.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import seoul.seoulfest.member.entity.Member;
@@ -14,6 +18,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
 	Optional<Member> findByEmail(String email);
 
+	/**
+	 * verifyId 또는 이메일 목록에 해당하는 회원 일괄 조회
+	 */
+	@Query("SELECT m FROM Member m WHERE m.verifyId IN :verifyIds OR m.email IN :emails")
+	List<Member> findAllByVerifyIdInOrEmailIn(
+		@Param("verifyIds") Collection<String> verifyIds,
+		@Param("emails") Collection<String> emails);
+
 	boolean existsByEmail(String email);
 
 	boolean existsByUsername(String username);
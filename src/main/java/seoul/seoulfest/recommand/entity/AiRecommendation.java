@@ -3,8 +3,6 @@ package seoul.seoulfest.recommand.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -16,6 +14,7 @@ import lombok.Setter;
 import seoul.seoulfest.event.entity.Event;
 import seoul.seoulfest.member.entity.Member;
 import seoul.seoulfest.util.BaseEntity;
+import seoul.seoulfest.util.id.TimeOrderedId;
 
 @Entity
 @Getter
@@ -23,7 +22,7 @@ import seoul.seoulfest.util.BaseEntity;
 public class AiRecommendation extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	@Column(name = "ai_recommendation_id")
 	private Long id;
 
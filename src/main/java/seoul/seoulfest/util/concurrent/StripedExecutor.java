@@ -0,0 +1,142 @@
+package seoul.seoulfest.util.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 키 기반 순서 보장 실행기
+ * - 작업마다 키를 추출하여 같은 키의 작업은 항상 같은 레인(단일 스레드)에서 제출 순서대로 실행
+ * - 서로 다른 키는 여러 레인에서 병렬로 실행
+ * - 키가 없는 작업은 임의의 레인에서 실행
+ * - 레인 대기열이 가득 차면 RejectedExecutionException 발생 (순서를 깨뜨리지 않기 위해 호출 스레드에서 실행하지 않음)
+ */
+public class StripedExecutor implements Executor, MeterBinder {
+
+	private final String name;
+	private final ThreadPoolExecutor[] lanes;
+	private final Function<Runnable, Object> keyExtractor;
+
+	/**
+	 * @param name          메트릭 태그 및 로그에 사용할 이름
+	 * @param laneCount     레인(단일 스레드) 수
+	 * @param queueCapacity 레인별 최대 대기 작업 수
+	 * @param threadFactory 레인 스레드 생성기 (플랫폼 또는 가상 스레드)
+	 * @param keyExtractor  작업에서 순서 보장 키 추출 (null 이면 임의의 레인)
+	 */
+	public StripedExecutor(String name, int laneCount, int queueCapacity, ThreadFactory threadFactory,
+		Function<Runnable, Object> keyExtractor) {
+		if (laneCount < 1) {
+			throw new IllegalArgumentException("레인 수는 1 이상이어야 합니다: " + laneCount);
+		}
+
+		this.name = name;
+		this.keyExtractor = keyExtractor;
+		this.lanes = new ThreadPoolExecutor[laneCount];
+		for (int i = 0; i < laneCount; i++) {
+			lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		lanes[laneOf(keyExtractor.apply(task))].execute(task);
+	}
+
+	public int getLaneCount() {
+		return lanes.length;
+	}
+
+	/**
+	 * 전체 대기 작업 수
+	 */
+	public int getQueuedTaskCount() {
+		int queued = 0;
+		for (ThreadPoolExecutor lane : lanes) {
+			queued += lane.getQueue().size();
+		}
+		return queued;
+	}
+
+	/**
+	 * 가장 많이 밀린 레인의 대기 작업 수 (특정 키 쏠림 확인용)
+	 */
+	public int getMaxLaneQueueSize() {
+		int max = 0;
+		for (ThreadPoolExecutor lane : lanes) {
+			max = Math.max(max, lane.getQueue().size());
+		}
+		return max;
+	}
+
+	/**
+	 * 작업 중인 레인 수
+	 */
+	public int getActiveLaneCount() {
+		int active = 0;
+		for (ThreadPoolExecutor lane : lanes) {
+			active += lane.getActiveCount();
+		}
+		return active;
+	}
+
+	public long getCompletedTaskCount() {
+		long completed = 0;
+		for (ThreadPoolExecutor lane : lanes) {
+			completed += lane.getCompletedTaskCount();
+		}
+		return completed;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Tags tags = Tags.of("name", name);
+		Gauge.builder("executor.striped.queued", this, StripedExecutor::getQueuedTaskCount)
+			.tags(tags).description("전체 레인의 대기 작업 수").register(registry);
+		Gauge.builder("executor.striped.queued.max", this, StripedExecutor::getMaxLaneQueueSize)
+			.tags(tags).description("가장 많이 밀린 레인의 대기 작업 수").register(registry);
+		Gauge.builder("executor.striped.active", this, StripedExecutor::getActiveLaneCount)
+			.tags(tags).description("작업 중인 레인 수").register(registry);
+		Gauge.builder("executor.striped.completed", this, StripedExecutor::getCompletedTaskCount)
+			.tags(tags).description("완료된 작업 수").register(registry);
+		Gauge.builder("executor.striped.lanes", this, StripedExecutor::getLaneCount)
+			.tags(tags).register(registry);
+	}
+
+	/**
+	 * 새 작업을 받지 않고, 대기 중인 작업이 끝날 때까지 레인별로 최대 10초 대기
+	 */
+	public void shutdown() {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for (ThreadPoolExecutor lane : lanes) {
+			try {
+				lane.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private int laneOf(Object key) {
+		if (key == null) {
+			return ThreadLocalRandom.current().nextInt(lanes.length);
+		}
+		int hash = key.hashCode();
+		// 해시 상위 비트를 섞어 연속된 ID가 고르게 분산되도록 처리
+		hash ^= (hash >>> 16);
+		return Math.floorMod(hash, lanes.length);
+	}
+}
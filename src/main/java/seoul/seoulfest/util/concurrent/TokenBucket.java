@@ -0,0 +1,69 @@
+package seoul.seoulfest.util.concurrent;
+
+/**
+ * 토큰 버킷 유량 제한기
+ * - 최대 capacity 개까지 토큰을 모아둘 수 있고, 초당 refillPerSecond 개씩 다시 채워짐
+ * - 요청마다 토큰 1개를 사용하며 토큰이 없으면 거절 (순간적인 몰림은 capacity 만큼 허용)
+ */
+public class TokenBucket {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final double capacity;
+	private final double refillPerNano;
+
+	private double tokens;
+	private long lastRefillNanos;
+
+	public TokenBucket(int capacity, double refillPerSecond) {
+		this(capacity, refillPerSecond, System.nanoTime());
+	}
+
+	TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+		if (capacity < 1 || refillPerSecond <= 0) {
+			throw new IllegalArgumentException("capacity 는 1 이상, refillPerSecond 는 0 보다 커야 합니다.");
+		}
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+		this.tokens = capacity;
+		this.lastRefillNanos = nowNanos;
+	}
+
+	/**
+	 * 토큰 1개 사용 시도
+	 *
+	 * @return 사용 가능하면 true, 한도를 초과했으면 false
+	 */
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	synchronized boolean tryAcquire(long nowNanos) {
+		refill(nowNanos);
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+
+	/**
+	 * 마지막 사용 이후 버킷이 가득 찰 만큼 시간이 지났는지 확인 (정리 대상 여부)
+	 */
+	public boolean isIdle() {
+		return isIdle(System.nanoTime());
+	}
+
+	synchronized boolean isIdle(long nowNanos) {
+		refill(nowNanos);
+		return tokens >= capacity;
+	}
+
+	private void refill(long nowNanos) {
+		long elapsed = nowNanos - lastRefillNanos;
+		if (elapsed > 0) {
+			tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+			lastRefillNanos = nowNanos;
+		}
+	}
+}
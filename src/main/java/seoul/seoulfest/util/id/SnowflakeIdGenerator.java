@@ -0,0 +1,88 @@
+package seoul.seoulfest.util.id;
+
+/**
+ * 시간 순으로 정렬되는 64bit ID 생성기 (Snowflake 방식)
+ * - [41bit: 기준 시각 이후 경과 ms][10bit: 노드 ID][12bit: ms 내 시퀀스]
+ * - 노드당 ms 마다 최대 4096개, 노드 간 충돌 없이 DB 왕복 없이 ID를 미리 발급
+ * - 시계가 뒤로 가더라도 마지막 발급 시각을 기준으로 계속 증가하는 값을 보장
+ */
+public final class SnowflakeIdGenerator {
+
+	// 기준 시각: 2025-01-01T00:00:00Z
+	private static final long EPOCH = 1735689600000L;
+
+	private static final int NODE_ID_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+
+	public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	// 노드 ID를 지정하기 전(단일 노드, 테스트)에는 0번 노드로 발급
+	private static volatile SnowflakeIdGenerator instance = new SnowflakeIdGenerator(0);
+
+	private final long nodeId;
+	private long lastTimestamp = -1L;
+	private long sequence = 0L;
+
+	public SnowflakeIdGenerator(long nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+		}
+		this.nodeId = nodeId;
+	}
+
+	/**
+	 * 애플리케이션 공용 생성기 조회
+	 * - JPA ID 생성기처럼 스프링 빈을 주입받을 수 없는 곳에서도 같은 인스턴스를 사용
+	 */
+	public static SnowflakeIdGenerator getInstance() {
+		return instance;
+	}
+
+	/**
+	 * 공용 생성기의 노드 ID 지정 (애플리케이션 시작 시 한 번 호출)
+	 */
+	public static void initialize(long nodeId) {
+		instance = new SnowflakeIdGenerator(nodeId);
+	}
+
+	/**
+	 * 다음 ID 발급
+	 */
+	public synchronized long nextId() {
+		long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+		if (timestamp == lastTimestamp) {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0) {
+				// 같은 ms 내 시퀀스를 모두 사용한 경우 다음 ms 값을 미리 사용
+				timestamp++;
+			}
+		} else {
+			sequence = 0L;
+		}
+		lastTimestamp = timestamp;
+
+		return ((timestamp - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+			| (nodeId << SEQUENCE_BITS)
+			| sequence;
+	}
+
+	public long getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * ID에 포함된 발급 시각 (epoch millis)
+	 */
+	public static long timestampOf(long id) {
+		return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH;
+	}
+
+	/**
+	 * 해당 시각 이후 발급된 ID 보다 작거나 같은 최소 ID (ID 범위 조회의 하한으로 사용)
+	 */
+	public static long minIdAt(long timestampMillis) {
+		return Math.max(0L, timestampMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS);
+	}
+}
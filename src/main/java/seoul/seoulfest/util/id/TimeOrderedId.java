@@ -0,0 +1,35 @@
+package seoul.seoulfest.util.id;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간 순 애플리케이션 ID 사용 표시
+ * - IDENTITY 대신 INSERT 전에 ID를 발급하므로 Hibernate JDBC 배치가 동작
+ * - @GeneratedValue 대신 @Id 필드에 함께 선언
+ * - 적용 대상
+ *   - chat_message.message_id, chat_media.media_id (write-behind 배치 기록)
+ *   - event_search_history.search_history_id, ai_recommendation.ai_recommendation_id
+ *     (검색 기록/추천 결과를 트랜잭션 안에서 여러 건 저장할 때 flush 시 배치 INSERT)
+ *
+ * 기존 IDENTITY 테이블에 적용할 때의 마이그레이션
+ * - 새 ID는 기존 AUTO_INCREMENT 값보다 항상 크므로 기존 행의 ID는 그대로 두고 ID 순 조회/커서도 유지됨
+ * - 명시적인 ID로 INSERT 하면 MySQL 이 AUTO_INCREMENT 카운터를 새 ID 이후로 올리므로,
+ *   다른 경로에서 ID 없이 INSERT 하는 곳이 없도록 AUTO_INCREMENT 속성을 제거
+ *   (예: ALTER TABLE chat_message MODIFY message_id BIGINT NOT NULL;
+ *        ALTER TABLE chat_media MODIFY media_id BIGINT NOT NULL;
+ *        ALTER TABLE event_search_history MODIFY search_history_id BIGINT NOT NULL;
+ *        ALTER TABLE ai_recommendation MODIFY ai_recommendation_id BIGINT NOT NULL;)
+ * - 이 테이블을 참조하는 외래 키 컬럼(chat_media.message_id 등)도 BIGINT 인지 확인
+ * - 롤백 시에는 AUTO_INCREMENT 를 다시 지정하면 카운터가 현재 최대 ID 다음 값부터 시작함
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,26 @@
+package seoul.seoulfest.util.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * @TimeOrderedId 엔티티의 ID 생성기
+ * - 애플리케이션 공용 SnowflakeIdGenerator 로 ID 발급
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+		EventType eventType) {
+		return SnowflakeIdGenerator.getInstance().nextId();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
@@ -0,0 +1,66 @@
+package seoul.seoulfest.util.text;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 부분 문자열 검색용 n-gram 토크나이저
+ * - 공백을 제거하고 소문자로 정규화한 뒤 글자(code point) 단위로 토큰화
+ * - 색인 시에는 1글자(unigram)와 2글자(bigram) 토큰을 모두 만들어 1글자 검색어도 처리
+ * - 형태소 분석 없이 한글 부분 일치 검색을 지원하기 위한 용도
+ */
+public final class BigramTokenizer {
+
+	private BigramTokenizer() {
+	}
+
+	/**
+	 * 공백 제거 및 소문자 변환
+	 */
+	public static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+
+		StringBuilder sb = new StringBuilder(text.length());
+		text.codePoints()
+			.filter(cp -> !Character.isWhitespace(cp))
+			.map(Character::toLowerCase)
+			.forEach(sb::appendCodePoint);
+		return sb.toString();
+	}
+
+	/**
+	 * 색인용 토큰 (unigram + bigram)
+	 */
+	public static Set<String> indexTokens(String text) {
+		int[] codePoints = normalize(text).codePoints().toArray();
+		Set<String> tokens = new LinkedHashSet<>();
+
+		for (int i = 0; i < codePoints.length; i++) {
+			tokens.add(new String(codePoints, i, 1));
+			if (i + 1 < codePoints.length) {
+				tokens.add(new String(codePoints, i, 2));
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * 검색어 토큰
+	 * - 2글자 이상이면 bigram, 1글자면 unigram 하나
+	 */
+	public static Set<String> queryTokens(String text) {
+		int[] codePoints = normalize(text).codePoints().toArray();
+		Set<String> tokens = new LinkedHashSet<>();
+
+		if (codePoints.length == 1) {
+			tokens.add(new String(codePoints, 0, 1));
+			return tokens;
+		}
+		for (int i = 0; i + 1 < codePoints.length; i++) {
+			tokens.add(new String(codePoints, i, 2));
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,103 @@
+package seoul.seoulfest.chat.broker;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+class CborPayloadInterceptorTest {
+
+	private static final String SESSION_ID = "session-1";
+	private static final byte[] JSON =
+		"{\"chatRoomId\":1,\"senderName\":\"서울\",\"isDeleted\":false}".getBytes(StandardCharsets.UTF_8);
+
+	private CborPayloadInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		interceptor = new CborPayloadInterceptor();
+		ReflectionTestUtils.setField(interceptor, "enabled", true);
+	}
+
+	@Test
+	@DisplayName("preSend: CBOR 를 협상한 세션의 JSON 본문은 CBOR 바이너리로 변환된다")
+	void testEncodeForCborSession() throws Exception {
+		// given
+		interceptor.preSend(connect(true), null);
+
+		// when
+		Message<?> result = interceptor.preSend(message(JSON), null);
+
+		// then
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(result);
+		assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+		assertThat(accessor.getFirstNativeHeader(CborPayloadInterceptor.ENCODING_HEADER))
+			.isEqualTo(CborPayloadInterceptor.CBOR);
+
+		JsonNode decoded = new CBORMapper().readTree((byte[])result.getPayload());
+		assertThat(decoded).isEqualTo(new ObjectMapper().readTree(JSON));
+	}
+
+	@Test
+	@DisplayName("preSend: 바이너리 프레임을 지원하지 않는 연결(SockJS)은 JSON 을 유지한다")
+	void testKeepJsonForSockJsSession() {
+		// given
+		interceptor.preSend(connect(false), null);
+		Message<byte[]> message = message(JSON);
+
+		// when
+		Message<?> result = interceptor.preSend(message, null);
+
+		// then
+		assertThat(result).isSameAs(message);
+		assertThat(interceptor.getCborSessionCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("toCbor: 같은 본문 배열은 한 번만 변환하여 재사용한다")
+	void testReuseEncodedPayload() throws Exception {
+		// when
+		byte[] first = interceptor.toCbor(JSON);
+		byte[] second = interceptor.toCbor(JSON);
+
+		// then
+		assertThat(second).isSameAs(first);
+	}
+
+	private Message<byte[]> connect(boolean binaryCapable) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setSessionId(SESSION_ID);
+		accessor.setNativeHeader(CborPayloadInterceptor.ENCODING_HEADER, CborPayloadInterceptor.CBOR);
+
+		Map<String, Object> attributes = new HashMap<>();
+		if (binaryCapable) {
+			attributes.put(CborPayloadInterceptor.BINARY_CAPABLE_ATTRIBUTE, Boolean.TRUE);
+		}
+		accessor.setSessionAttributes(attributes);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Message<byte[]> message(byte[] payload) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		accessor.setSessionId(SESSION_ID);
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination("/topic/chat/room/1");
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,166 @@
+package seoul.seoulfest.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seoul.seoulfest.chat.service.chatting.RecentMessageCache;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBrokerBridgeTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ObjectProvider<MessageChannel> brokerChannelProvider;
+
+	@Mock
+	private RecentMessageCache recentMessageCache;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// 로컬 브로커 대역: 브로커 채널로 전달된 메시지를 수집
+	private final ExecutorSubscribableChannel localBrokerChannel = new ExecutorSubscribableChannel();
+	private final List<Message<?>> deliveredMessages = new ArrayList<>();
+
+	private RedisBrokerBridge bridge;
+
+	@BeforeEach
+	void setUp() {
+		localBrokerChannel.subscribe(deliveredMessages::add);
+		bridge = new RedisBrokerBridge(redisTemplate, objectMapper, brokerChannelProvider, recentMessageCache);
+	}
+
+	@Test
+	@DisplayName("preSend: 채팅방 토픽 메시지는 Redis 채널로 발행된다")
+	void testPublishRoomMessage() throws Exception {
+		// given
+		Message<byte[]> message = createMessage("/topic/chat/room/1", "{\"content\":\"hello\"}");
+
+		// when
+		bridge.preSend(message, localBrokerChannel);
+
+		// then
+		ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(RedisBrokerBridge.CHANNEL), captor.capture());
+
+		RedisBrokerBridge.BrokerEnvelope envelope =
+			objectMapper.readValue(captor.getValue(), RedisBrokerBridge.BrokerEnvelope.class);
+		assertThat(envelope.getDestination()).isEqualTo("/topic/chat/room/1");
+		assertThat(new String(envelope.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"hello\"}");
+	}
+
+	@Test
+	@DisplayName("preSend: 개인 큐 메시지는 Redis 채널로 발행된다")
+	void testPublishUserQueueMessage() {
+		// given
+		Message<byte[]> message = createMessage("/user/verify-1/queue/errors", "{}");
+
+		// when
+		bridge.preSend(message, localBrokerChannel);
+
+		// then
+		verify(redisTemplate).convertAndSend(eq(RedisBrokerBridge.CHANNEL), anyString());
+	}
+
+	@Test
+	@DisplayName("preSend: 채팅 외 목적지와 다른 노드에서 전달된 메시지는 발행하지 않는다")
+	void testSkipNonBridgedMessage() {
+		// given
+		Message<byte[]> otherTopic = createMessage("/topic/notice", "{}");
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination("/topic/chat/room/1");
+		accessor.setHeader(RedisBrokerBridge.ORIGIN_HEADER, "other-node");
+		Message<byte[]> relayed = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+		// when
+		bridge.preSend(otherTopic, localBrokerChannel);
+		bridge.preSend(relayed, localBrokerChannel);
+
+		// then
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("onMessage: 다른 노드에서 발행한 메시지를 로컬 브로커로 전달한다")
+	void testDeliverRemoteMessage() throws Exception {
+		// given
+		when(brokerChannelProvider.getObject()).thenReturn(localBrokerChannel);
+		RedisBrokerBridge.BrokerEnvelope envelope = new RedisBrokerBridge.BrokerEnvelope(
+			"other-node", "/topic/chat/room/7", MimeTypeUtils.APPLICATION_JSON_VALUE,
+			"{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8));
+
+		// when
+		bridge.onMessage(toRedisMessage(envelope), null);
+
+		// then
+		assertThat(deliveredMessages).hasSize(1);
+		Message<?> delivered = deliveredMessages.get(0);
+		assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/topic/chat/room/7");
+		assertThat(delivered.getHeaders().get(RedisBrokerBridge.ORIGIN_HEADER)).isEqualTo("other-node");
+		assertThat(new String((byte[])delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"hi\"}");
+		verify(recentMessageCache).applyBrokerPayload(eq(7L), any(byte[].class));
+
+		// 전달된 메시지는 다시 발행되지 않음
+		bridge.preSend(delivered, localBrokerChannel);
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("onMessage: 자신이 발행한 메시지는 무시한다")
+	void testIgnoreOwnMessage() throws Exception {
+		// given
+		bridge.preSend(createMessage("/topic/chat/room/1", "{}"), localBrokerChannel);
+		ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(RedisBrokerBridge.CHANNEL), captor.capture());
+
+		// when
+		bridge.onMessage(new DefaultMessage(RedisBrokerBridge.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			captor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		assertThat(deliveredMessages).isEmpty();
+	}
+
+	private Message<byte[]> createMessage(String destination, String payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+	}
+
+	private DefaultMessage toRedisMessage(RedisBrokerBridge.BrokerEnvelope envelope) throws Exception {
+		return new DefaultMessage(RedisBrokerBridge.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			objectMapper.writeValueAsBytes(envelope));
+	}
+}
@@ -0,0 +1,113 @@
+package seoul.seoulfest.chat.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private ChatMetrics chatMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		chatMetrics = new ChatMetrics(registry);
+		ReflectionTestUtils.setField(chatMetrics, "windowMillis", 10000L);
+		ReflectionTestUtils.setField(chatMetrics, "topK", 2);
+		ReflectionTestUtils.setField(chatMetrics, "maxTaggedRooms", 1);
+		chatMetrics.init();
+	}
+
+	@Test
+	@DisplayName("recordInbound: 허용된 구독만 집계하고 연결 종료 시 세션의 구독을 모두 제거한다")
+	void testSubscriptionTracking() {
+		// given
+		chatMetrics.recordInbound(frame(StompCommand.CONNECT, "s1", null, null), true);
+		chatMetrics.recordInbound(frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/1"), true);
+		chatMetrics.recordInbound(frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/chat/room/2"), false);
+
+		// when
+		int subscriptions = chatMetrics.getSubscriptionCount();
+		chatMetrics.recordInbound(frame(StompCommand.DISCONNECT, "s1", null, null), true);
+
+		// then
+		assertThat(subscriptions).isEqualTo(1);
+		assertThat(chatMetrics.getSubscriptionCount()).isZero();
+		assertThat(chatMetrics.getSessionCount()).isZero();
+		assertThat(registry.get("chat.stomp.inbound").tag("command", "SUBSCRIBE").tag("result", "rejected")
+			.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("rollWindow: 메시지가 많은 채팅방 top-k 를 계산하고 room 태그 수를 제한한다")
+	void testHotRooms() {
+		// given
+		chatMetrics.recordInbound(frame(StompCommand.CONNECT, "s1", null, null), true);
+		chatMetrics.recordInbound(frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/2"), true);
+		for (int i = 0; i < 3; i++) {
+			chatMetrics.recordRoomMessage(1L);
+		}
+		for (int i = 0; i < 5; i++) {
+			chatMetrics.recordRoomMessage(2L);
+		}
+		chatMetrics.recordRoomMessage(3L);
+
+		// when
+		chatMetrics.rollWindow();
+		chatMetrics.recordRoomMessage(2L);
+		chatMetrics.recordRoomMessage(1L);
+
+		// then
+		assertThat(chatMetrics.getHotRooms())
+			.extracting(ChatMetrics.HotRoom::chatRoomId)
+			.containsExactly(2L, 1L);
+		assertThat(chatMetrics.getHotRooms().get(0).subscribers()).isEqualTo(1);
+		assertThat(registry.get("chat.room.messages").tag("room", "2").counter().count()).isEqualTo(1);
+		assertThat(registry.find("chat.room.messages").tag("room", "1").counter()).isNull();
+	}
+
+	@Test
+	@DisplayName("rollWindow: 상위권에서 빠진 채팅방은 유지 구간이 지나면 room 태그를 제거하고 새 상위 채팅방을 태그한다")
+	void testTaggedRoomEviction() {
+		// given
+		ReflectionTestUtils.setField(chatMetrics, "taggedRoomIdleWindows", 1);
+		chatMetrics.recordRoomMessage(2L);
+		chatMetrics.rollWindow();
+
+		// when : 2번 채팅방이 두 구간 연속 상위권에 없음
+		chatMetrics.recordRoomMessage(3L);
+		chatMetrics.rollWindow();
+		boolean keptDuringIdleWindow = registry.find("chat.room.messages").tag("room", "2").counter() != null;
+
+		chatMetrics.recordRoomMessage(3L);
+		chatMetrics.rollWindow();
+		chatMetrics.recordRoomMessage(2L);
+
+		// then
+		assertThat(keptDuringIdleWindow).isTrue();
+		assertThat(registry.find("chat.room.messages").tag("room", "2").counter()).isNull();
+		assertThat(registry.get("chat.room.messages").tag("room", "3").counter()).isNotNull();
+		assertThat(registry.get("chat.room.messages").tag("room", "other").counter().count()).isEqualTo(4);
+	}
+
+	private StompHeaderAccessor frame(StompCommand command, String sessionId, String subscriptionId,
+		String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setSessionId(sessionId);
+		if (subscriptionId != null) {
+			accessor.setSubscriptionId(subscriptionId);
+		}
+		if (destination != null) {
+			accessor.setDestination(destination);
+		}
+		return accessor;
+	}
+}
@@ -0,0 +1,66 @@
+package seoul.seoulfest.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import seoul.seoulfest.chat.enums.ChatRole;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMemberBulkRepositoryTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private ChatRoomMemberBulkRepository bulkRepository;
+
+	@Test
+	@DisplayName("insertActiveMembers: 회원마다 ACTIVE 멤버 행을 배치로 등록하고 등록된 행 수를 반환한다")
+	@SuppressWarnings("unchecked")
+	void testInsertActiveMembers() throws Exception {
+		// given : 드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 포함
+		LocalDateTime joinedAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+		PreparedStatement ps = mock(PreparedStatement.class);
+		when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO chat_room_member"), eq(List.of(20L, 30L)), eq(2),
+			any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+				ParameterizedPreparedStatementSetter<Long> setter = invocation.getArgument(3);
+				setter.setValues(ps, 20L);
+				return new int[][] {{1, Statement.SUCCESS_NO_INFO}};
+			});
+
+		// when
+		int inserted = bulkRepository.insertActiveMembers(1L, List.of(20L, 30L), ChatRole.USER, joinedAt);
+
+		// then
+		assertThat(inserted).isEqualTo(2);
+		verify(ps).setLong(1, 1L);
+		verify(ps).setLong(2, 20L);
+		verify(ps).setString(3, "USER");
+		verify(ps).setTimestamp(4, Timestamp.valueOf(joinedAt));
+		verify(ps).setString(5, "ACTIVE");
+	}
+
+	@Test
+	@DisplayName("insertActiveMembers: 등록할 회원이 없으면 쿼리를 실행하지 않는다")
+	void testInsertNoMembers() {
+		// when & then
+		assertThat(bulkRepository.insertActiveMembers(1L, List.of(), ChatRole.USER, LocalDateTime.now())).isZero();
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
@@ -0,0 +1,169 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seoul.seoulfest.chat.dto.response.ChatRoomRes;
+import seoul.seoulfest.chat.enums.ChatRoomSortType;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomDirectoryCacheTest {
+
+	private static final String VERSION_KEY = "chat:directory:version";
+	private static final String PAGE_KEY = "chat:directory:3:c=FOOD:LATEST:0:10";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Pageable pageable = PageRequest.of(0, 10);
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private ChatRoomDirectoryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ChatRoomDirectoryCache(redisTemplate, objectMapper);
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "localMaxEntries", 10);
+		ReflectionTestUtils.setField(cache, "localTtlMs", 60_000L);
+		ReflectionTestUtils.setField(cache, "redisTtlSeconds", 60L);
+		cache.init();
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("get: 로컬과 Redis 에 없으면 DB 에서 읽어 현재 버전 키로 Redis 와 로컬에 저장한다")
+	void testLoadAndStoreOnMiss() throws Exception {
+		// given
+		when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		Page<ChatRoomRes> first = get(loader(loads, room(1L, "축제")));
+		Page<ChatRoomRes> second = get(loader(loads, room(2L, "다른 결과")));
+
+		// then : 두 번째 조회는 로컬 캐시에서 반환 (Redis 버전도 다시 읽지 않음)
+		assertThat(loads).hasValue(1);
+		assertThat(first.getContent()).extracting(ChatRoomRes::getChatRoomId).containsExactly(1L);
+		assertThat(second.getContent()).extracting(ChatRoomRes::getChatRoomId).containsExactly(1L);
+		assertThat(second.getTotalElements()).isEqualTo(1);
+		verify(valueOperations, times(1)).get(VERSION_KEY);
+		verify(valueOperations).set(eq(PAGE_KEY), anyString(), eq(Duration.ofSeconds(60)));
+	}
+
+	@Test
+	@DisplayName("get: 로컬에 없고 Redis 에 있으면 DB 를 조회하지 않고 Redis 결과를 사용한다")
+	void testRemoteHit() throws Exception {
+		// given
+		ChatRoomDirectoryCache.DirectoryPage page = new ChatRoomDirectoryCache.DirectoryPage(List.of(room(7L, "공유")), 25);
+		when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+		when(valueOperations.get(PAGE_KEY)).thenReturn(objectMapper.writeValueAsString(page));
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		Page<ChatRoomRes> result = get(loader(loads, room(1L, "DB")));
+
+		// then
+		assertThat(loads).hasValue(0);
+		assertThat(result.getContent()).extracting(ChatRoomRes::getChatRoomId).containsExactly(7L);
+		assertThat(result.getTotalElements()).isEqualTo(25);
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("get: 조회 도중 무효화되면 오래된 조회 결과를 로컬에 저장하지 않는다")
+	void testSkipLocalPutWhenInvalidatedDuringLoad() {
+		// given
+		when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<Page<ChatRoomRes>> invalidatingLoader = () -> {
+			loads.incrementAndGet();
+			cache.invalidateAll();
+			return new PageImpl<>(List.of(room(1L, "이전 이름")), pageable, 1);
+		};
+
+		// when
+		get(invalidatingLoader);
+		get(loader(loads, room(1L, "새 이름")));
+
+		// then : 두 번째 조회는 로컬 캐시가 아닌 하위 계층에서 다시 읽음
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("invalidateAll: 로컬 캐시를 비우고 Redis 버전을 올려 기존 키를 모두 무효화한다")
+	void testInvalidateAllBumpsVersion() {
+		// given
+		when(valueOperations.get(VERSION_KEY)).thenReturn("3", "4");
+		AtomicInteger loads = new AtomicInteger();
+		get(loader(loads, room(1L, "축제")));
+
+		// when
+		cache.onDirectoryChanged(new ChatRoomDirectoryChangedEvent(1L));
+		get(loader(loads, room(1L, "축제 (수정)")));
+
+		// then : 새 버전 키로 다시 조회하고 저장
+		assertThat(loads).hasValue(2);
+		verify(valueOperations).increment(VERSION_KEY);
+		verify(valueOperations).get("chat:directory:4:c=FOOD:LATEST:0:10");
+		verify(valueOperations).set(eq("chat:directory:4:c=FOOD:LATEST:0:10"), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("get: Redis 장애 시에는 DB 결과를 로컬 캐시에만 저장한다")
+	void testRedisFailureFallsBackToLocal() {
+		// given
+		when(valueOperations.get(VERSION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		get(loader(loads, room(1L, "축제")));
+		Page<ChatRoomRes> cached = get(loader(loads, room(2L, "다른 결과")));
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(cached.getContent()).extracting(ChatRoomRes::getChatRoomId).containsExactly(1L);
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	private Page<ChatRoomRes> get(Supplier<Page<ChatRoomRes>> loader) {
+		return cache.get("FOOD", null, ChatRoomSortType.LATEST, pageable, loader);
+	}
+
+	private Supplier<Page<ChatRoomRes>> loader(AtomicInteger loads, ChatRoomRes room) {
+		return () -> {
+			loads.incrementAndGet();
+			return new PageImpl<>(List.of(room), pageable, 1);
+		};
+	}
+
+	private ChatRoomRes room(Long id, String name) {
+		return ChatRoomRes.builder().chatRoomId(id).name(name).category("FOOD").build();
+	}
+}
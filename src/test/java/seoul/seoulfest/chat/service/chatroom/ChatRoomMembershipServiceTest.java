@@ -0,0 +1,170 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import seoul.seoulfest.chat.dto.request.chatroom.BulkInviteChatRoomReq;
+import seoul.seoulfest.chat.dto.response.BulkInviteChatRoomRes;
+import seoul.seoulfest.chat.entity.ChatRoom;
+import seoul.seoulfest.chat.entity.ChatRoomMember;
+import seoul.seoulfest.chat.enums.ChatRole;
+import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
+import seoul.seoulfest.chat.exception.ChatErrorCode;
+import seoul.seoulfest.chat.repository.ChatRoomMemberBulkRepository;
+import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.chat.service.chatting.ChatEventPublisher;
+import seoul.seoulfest.chat.service.chatting.ChatPresenceService;
+import seoul.seoulfest.chat.service.chatting.ChatSubscriptionAuthCache;
+import seoul.seoulfest.chat.service.chatting.ChatUnreadCountService;
+import seoul.seoulfest.exception.BusinessException;
+import seoul.seoulfest.member.entity.Member;
+import seoul.seoulfest.member.repository.MemberRepository;
+import seoul.seoulfest.util.security.SecurityUtil;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	private SecurityUtil securityUtil;
+	@Mock
+	private ChatRoomMemberRepository chatRoomMemberRepository;
+	@Mock
+	private ChatRoomMemberBulkRepository chatRoomMemberBulkRepository;
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+	@Mock
+	private MemberRepository memberRepository;
+	@Mock
+	private ChatUnreadCountService unreadCountService;
+	@Mock
+	private ChatSubscriptionAuthCache subscriptionAuthCache;
+	@Mock
+	private ChatEventPublisher chatEventPublisher;
+	@Mock
+	private ChatPresenceService chatPresenceService;
+
+	private ChatRoomMembershipService membershipService;
+
+	private ChatRoom chatRoom;
+	private Member inviter;
+
+	@BeforeEach
+	void setUp() {
+		// 요청자 검증까지 확인하기 위해 실제 validator 사용
+		ChatRoomValidator validator = new ChatRoomValidator(chatRoomRepository, chatRoomMemberRepository);
+		membershipService = new ChatRoomMembershipService(securityUtil, chatRoomMemberRepository,
+			chatRoomMemberBulkRepository, chatRoomRepository, memberRepository, validator, unreadCountService,
+			subscriptionAuthCache, chatEventPublisher, chatPresenceService);
+
+		inviter = member(10L, "inviter", "inviter@test.com");
+		chatRoom = ChatRoom.builder().name("room").owner(inviter).build();
+		ReflectionTestUtils.setField(chatRoom, "id", ROOM_ID);
+
+		when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+		when(securityUtil.getCurrentMember()).thenReturn(inviter);
+	}
+
+	@Test
+	@DisplayName("inviteChatRoomBulk: 없는 회원과 참여 이력이 있는 회원을 제외하고 나머지를 초대한다")
+	void testInviteBulk() {
+		// given
+		Member newMember = member(20L, "new", "new@test.com");
+		Member existingMember = member(30L, "existing", "existing@test.com");
+		when(chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, inviter))
+			.thenReturn(Optional.of(chatRoomMember(inviter, ChatRoomMemberStatus.ACTIVE)));
+		when(memberRepository.findAllByVerifyIdInOrEmailIn(any(), any())).thenReturn(List.of(newMember, existingMember));
+		when(chatRoomMemberRepository.findMemberIdsByChatRoomIdAndMemberIdIn(eq(ROOM_ID), any()))
+			.thenReturn(List.of(30L));
+		when(chatRoomMemberBulkRepository.insertActiveMembers(eq(ROOM_ID), eq(List.of(20L)), eq(ChatRole.USER), any()))
+			.thenReturn(1);
+
+		// when
+		BulkInviteChatRoomRes result = membershipService.inviteChatRoomBulk(
+			request(List.of("verify-new", "verify-unknown"), List.of("existing@test.com")));
+
+		// then
+		assertThat(result.getInvitedCount()).isEqualTo(1);
+		assertThat(result.getAlreadyMembers()).containsExactly("existing@test.com");
+		assertThat(result.getNotFound()).containsExactly("verify-unknown");
+		verify(chatRoomRepository).addParticipantCount(ROOM_ID, 1);
+		verify(subscriptionAuthCache).invalidate("verify-new", ROOM_ID);
+		verify(chatEventPublisher).publish(eq("/topic/chat/room/" + ROOM_ID), any());
+	}
+
+	@Test
+	@DisplayName("inviteChatRoomBulk: 모두 초대할 수 없으면 참여 인원 수와 시스템 메시지를 변경하지 않는다")
+	void testInviteBulkWithoutInvitees() {
+		// given
+		when(chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, inviter))
+			.thenReturn(Optional.of(chatRoomMember(inviter, ChatRoomMemberStatus.ACTIVE)));
+		when(memberRepository.findAllByVerifyIdInOrEmailIn(any(), any())).thenReturn(List.of());
+
+		// when
+		BulkInviteChatRoomRes result = membershipService.inviteChatRoomBulk(request(List.of("verify-unknown"), List.of()));
+
+		// then
+		assertThat(result.getInvitedCount()).isZero();
+		assertThat(result.getNotFound()).containsExactly("verify-unknown");
+		verify(chatRoomRepository, never()).addParticipantCount(anyLong(), anyInt());
+		verifyNoInteractions(chatEventPublisher);
+	}
+
+	@Test
+	@DisplayName("inviteChatRoomBulk: 채팅방 멤버가 아니거나 강퇴/탈퇴한 회원은 초대할 수 없다")
+	void testInviteBulkRequiresActiveMember() {
+		// given
+		ChatRoomMember kicked = chatRoomMember(inviter, ChatRoomMemberStatus.KICKED);
+		kicked.setKickedAt(LocalDateTime.now());
+		when(chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, inviter))
+			.thenReturn(Optional.empty(),
+				Optional.of(kicked),
+				Optional.of(chatRoomMember(inviter, ChatRoomMemberStatus.EXIT)));
+		BulkInviteChatRoomReq request = request(List.of("verify-new"), List.of());
+
+		// when & then
+		assertThatThrownBy(() -> membershipService.inviteChatRoomBulk(request))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.NOT_EXIST_CHATROOM_MEMBER);
+		assertThatThrownBy(() -> membershipService.inviteChatRoomBulk(request))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.KICKED_CHATROOM_MEMBER);
+		assertThatThrownBy(() -> membershipService.inviteChatRoomBulk(request))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.EXITED_CHATROOM_MEMBER);
+		verifyNoInteractions(memberRepository, chatRoomMemberBulkRepository);
+	}
+
+	private BulkInviteChatRoomReq request(List<String> verifyIds, List<String> emails) {
+		BulkInviteChatRoomReq request = new BulkInviteChatRoomReq();
+		ReflectionTestUtils.setField(request, "chatRoomId", ROOM_ID);
+		ReflectionTestUtils.setField(request, "verifyIds", verifyIds);
+		ReflectionTestUtils.setField(request, "emails", emails);
+		return request;
+	}
+
+	private ChatRoomMember chatRoomMember(Member member, ChatRoomMemberStatus status) {
+		return ChatRoomMember.builder().chatRoom(chatRoom).member(member).role(ChatRole.USER).status(status).build();
+	}
+
+	private Member member(Long id, String name, String email) {
+		Member member = Member.builder().verifyId("verify-" + name).username(name).email(email).build();
+		ReflectionTestUtils.setField(member, "id", id);
+		return member;
+	}
+}
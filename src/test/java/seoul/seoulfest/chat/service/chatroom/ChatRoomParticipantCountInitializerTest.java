@@ -0,0 +1,68 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomParticipantCountInitializerTest {
+
+	private static final String MIGRATION_KEY = ChatRoomParticipantCountInitializer.MIGRATION_KEY;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@InjectMocks
+	private ChatRoomParticipantCountInitializer initializer;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("recalculate: 완료 표시를 선점한 노드만 재계산하고 완료로 표시한다")
+	void testRecalculateOnce() {
+		// given
+		when(valueOperations.setIfAbsent(MIGRATION_KEY, "running")).thenReturn(true, false);
+
+		// when
+		initializer.recalculate();
+		initializer.recalculate();
+
+		// then
+		verify(chatRoomRepository, times(1)).recalculateParticipantCounts();
+		verify(valueOperations).set(MIGRATION_KEY, "done");
+	}
+
+	@Test
+	@DisplayName("recalculate: 재계산에 실패하면 완료 표시를 지워 다음 기동에서 다시 시도한다")
+	void testRecalculateFailureReleasesMarker() {
+		// given
+		when(valueOperations.setIfAbsent(MIGRATION_KEY, "running")).thenReturn(true);
+		when(chatRoomRepository.recalculateParticipantCounts()).thenThrow(new IllegalStateException("db down"));
+
+		// when
+		initializer.recalculate();
+
+		// then
+		verify(redisTemplate).delete(MIGRATION_KEY);
+		verify(valueOperations, never()).set(MIGRATION_KEY, "done");
+	}
+}
@@ -0,0 +1,153 @@
+package seoul.seoulfest.chat.service.chatroom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import seoul.seoulfest.chat.entity.ChatRoom;
+import seoul.seoulfest.chat.enums.ChatRoomType;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSearchIndexTest {
+
+	private static final String VERSION_KEY = "chat:directory:version";
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@InjectMocks
+	private ChatRoomSearchIndex searchIndex;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(searchIndex, "enabled", true);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("search: 이름 일치 > 이름 접두사 > 이름 포함 순으로, 같은 점수면 이름이 짧은 채팅방부터 반환한다")
+	void testSearchOrdersByRelevance() {
+		// given
+		initialize("1", List.<Object[]>of(
+			room(1L, "한강 불꽃축제", "축제"),
+			room(2L, "불꽃", "공연"),
+			room(3L, "서울 불꽃 야시장", "시장"),
+			room(4L, "불 꽃집", "꽃"),
+			room(5L, "야외 공연", "불꽃")));
+
+		// when
+		List<Long> result = searchIndex.search("불꽃");
+
+		// then : 공백은 무시되므로 "불 꽃집"은 접두사 일치, 카테고리만 일치하는 채팅방은 마지막
+		assertThat(result).containsExactly(2L, 4L, 1L, 3L, 5L);
+	}
+
+	@Test
+	@DisplayName("search: bigram 이 모두 포함되어도 실제 부분 문자열이 아니면 제외한다")
+	void testSearchRejectsBigramFalsePositive() {
+		// given
+		initialize("1", List.<Object[]>of(room(1L, "가나다나가", "기타")));
+
+		// when & then : "나가", "가나" 토큰은 모두 있지만 "나가나"는 포함되지 않음
+		assertThat(searchIndex.search("나가나")).isEmpty();
+		assertThat(searchIndex.search("다나가")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("refreshIfChanged: 이 노드의 변경으로 오른 버전이면 전체 재색인하지 않는다")
+	void testLocalChangeDoesNotRebuild() {
+		// given
+		initialize("5", List.<Object[]>of(room(1L, "한강 축제", "축제")));
+		ChatRoom renamed = ChatRoom.builder().name("한강 불꽃").category("축제").type(ChatRoomType.GROUP).build();
+		ReflectionTestUtils.setField(renamed, "id", 1L);
+		when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(renamed));
+
+		// when
+		searchIndex.onDirectoryChanged(new ChatRoomDirectoryChangedEvent(1L));
+		when(valueOperations.get(VERSION_KEY)).thenReturn("6");
+		searchIndex.refreshIfChanged();
+
+		// then
+		verify(chatRoomRepository, times(1)).findSearchableRooms(ChatRoomType.GROUP);
+		assertThat(searchIndex.search("불꽃")).containsExactly(1L);
+		assertThat(searchIndex.search("한강 축제")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("refreshIfChanged: 다른 노드의 변경이 섞여 있으면 전체 재색인한다")
+	void testRemoteChangeRebuilds() {
+		// given
+		initialize("5", List.<Object[]>of(room(1L, "한강 축제", "축제")));
+		ChatRoom renamed = ChatRoom.builder().name("한강 불꽃").category("축제").type(ChatRoomType.GROUP).build();
+		ReflectionTestUtils.setField(renamed, "id", 1L);
+		when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(renamed));
+		searchIndex.onDirectoryChanged(new ChatRoomDirectoryChangedEvent(1L));
+
+		// when : 로컬 변경 1건 + 다른 노드 변경 1건
+		when(valueOperations.get(VERSION_KEY)).thenReturn("7");
+		when(chatRoomRepository.findSearchableRooms(ChatRoomType.GROUP)).thenReturn(List.<Object[]>of(
+			room(1L, "한강 불꽃", "축제"), room(2L, "여의도 불꽃", "축제")));
+		searchIndex.refreshIfChanged();
+
+		// then
+		assertThat(searchIndex.search("불꽃")).containsExactlyInAnyOrder(1L, 2L);
+
+		// 재색인 이후에는 버전이 같으면 다시 색인하지 않음
+		searchIndex.refreshIfChanged();
+		verify(chatRoomRepository, times(2)).findSearchableRooms(ChatRoomType.GROUP);
+	}
+
+	@Test
+	@DisplayName("rebuild: 재색인 도중 반영된 변경은 새 색인에 다시 적용하고, 다음 버전 확인에서 로컬 변경으로 인정한다")
+	void testReplayChangesDuringRebuild() {
+		// given : 전체 조회 직후(커밋 이전 상태 조회) 채팅방 이름이 변경됨
+		when(valueOperations.get(VERSION_KEY)).thenReturn("5");
+		ChatRoom renamed = ChatRoom.builder().name("한강 불꽃").category("축제").type(ChatRoomType.GROUP).build();
+		ReflectionTestUtils.setField(renamed, "id", 1L);
+		when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(renamed));
+		when(chatRoomRepository.findSearchableRooms(ChatRoomType.GROUP)).thenAnswer(invocation -> {
+			searchIndex.onDirectoryChanged(new ChatRoomDirectoryChangedEvent(1L));
+			return List.<Object[]>of(room(1L, "한강 축제", "축제"));
+		});
+
+		// when
+		searchIndex.initialize();
+		when(valueOperations.get(VERSION_KEY)).thenReturn("6");
+		searchIndex.refreshIfChanged();
+
+		// then
+		assertThat(searchIndex.search("불꽃")).containsExactly(1L);
+		assertThat(searchIndex.search("한강 축제")).isEmpty();
+		verify(chatRoomRepository, times(1)).findSearchableRooms(ChatRoomType.GROUP);
+	}
+
+	private void initialize(String version, List<Object[]> rooms) {
+		when(valueOperations.get(VERSION_KEY)).thenReturn(version);
+		when(chatRoomRepository.findSearchableRooms(ChatRoomType.GROUP)).thenReturn(rooms);
+		searchIndex.initialize();
+	}
+
+	private Object[] room(Long id, String name, String category) {
+		return new Object[] {id, name, category};
+	}
+}
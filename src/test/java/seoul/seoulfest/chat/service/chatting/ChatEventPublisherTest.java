@@ -0,0 +1,173 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatEventPublisherTest {
+
+	private static final String ROOM_TOPIC = "/topic/chat/room/1";
+
+	private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+	// 실제 DB 없이 트랜잭션 동기화(커밋/롤백 콜백)만 수행하는 트랜잭션 매니저
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(
+		new AbstractPlatformTransactionManager() {
+			@Override
+			protected Object doGetTransaction() {
+				return new Object();
+			}
+
+			@Override
+			protected void doBegin(Object transaction, TransactionDefinition definition) {
+			}
+
+			@Override
+			protected void doCommit(DefaultTransactionStatus status) {
+			}
+
+			@Override
+			protected void doRollback(DefaultTransactionStatus status) {
+			}
+		});
+
+	private final List<Object> sent = new CopyOnWriteArrayList<>();
+	private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+	private final CountDownLatch releaseFirstSend = new CountDownLatch(1);
+
+	private AnnotationConfigApplicationContext context;
+
+	@BeforeEach
+	void setUp() {
+		// 첫 번째 메시지(m1) 발송은 releaseFirstSend 까지 레인 스레드를 붙잡아 둠
+		doAnswer(invocation -> {
+			Object payload = invocation.getArgument(1);
+			if ("m1".equals(payload)) {
+				firstSendStarted.countDown();
+				releaseFirstSend.await(5, TimeUnit.SECONDS);
+			}
+			sent.add(payload);
+			return null;
+		}).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseFirstSend.countDown();
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	@Test
+	@DisplayName("onOutboundEvent: 트랜잭션 중 발행한 이벤트는 커밋된 경우에만 발송한다")
+	void testDispatchAfterCommitOnly() {
+		// given
+		ChatEventPublisher publisher = start(Map.of("chat.outbound.async", "false"));
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			publisher.publish(ROOM_TOPIC, "committed");
+			assertThat(sent).isEmpty();
+		});
+		transactionTemplate.executeWithoutResult(status -> {
+			publisher.publish(ROOM_TOPIC, "rolled-back");
+			status.setRollbackOnly();
+		});
+		publisher.publish(ROOM_TOPIC, "no-transaction");
+
+		// then
+		assertThat(sent).containsExactly("committed", "no-transaction");
+	}
+
+	@Test
+	@DisplayName("onOutboundEvent: 대기열이 가득 차면 자리가 날 때까지 기다려 같은 채팅방 이벤트의 순서를 지킨다")
+	void testFullLaneKeepsOrder() throws Exception {
+		// given : 레인 1개, 대기열 1칸
+		ChatEventPublisher publisher = start(Map.of("chat.outbound.lanes", "1", "chat.outbound.queue-capacity", "1",
+			"chat.outbound.offer-timeout-ms", "5000"));
+		publisher.publish(ROOM_TOPIC, "m1");
+		assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		publisher.publish(ROOM_TOPIC, "m2");
+
+		// when : 대기열이 가득 찬 상태에서 발행하고, 잠시 뒤 레인이 다시 움직임
+		Thread releaser = new Thread(() -> {
+			sleep(100);
+			releaseFirstSend.countDown();
+		});
+		releaser.start();
+		publisher.publish(ROOM_TOPIC, "m3");
+
+		// then : 호출 스레드가 m3 를 먼저 보내지 않음
+		awaitSent(3);
+		assertThat(sent).containsExactly("m1", "m2", "m3");
+	}
+
+	@Test
+	@DisplayName("onOutboundEvent: 기다려도 자리가 나지 않으면 호출 스레드에서 보내지 않고 폐기로 집계한다")
+	void testDropAfterOfferTimeout() throws Exception {
+		// given
+		ChatEventPublisher publisher = start(Map.of("chat.outbound.lanes", "1", "chat.outbound.queue-capacity", "1",
+			"chat.outbound.offer-timeout-ms", "50"));
+		publisher.publish(ROOM_TOPIC, "m1");
+		assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		publisher.publish(ROOM_TOPIC, "m2");
+
+		// when
+		publisher.publish(ROOM_TOPIC, "m3");
+		releaseFirstSend.countDown();
+
+		// then
+		awaitSent(2);
+		assertThat(sent).containsExactly("m1", "m2");
+		assertThat(context.getBean(MeterRegistry.class).counter("chat.outbound.dropped").count()).isEqualTo(1);
+	}
+
+	private ChatEventPublisher start(Map<String, Object> properties) {
+		context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+		context.registerBean(SimpMessagingTemplate.class, () -> messagingTemplate);
+		context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+		context.registerBean(TransactionalEventListenerFactory.class);
+		context.registerBean(ChatEventPublisher.class);
+		context.refresh();
+		return context.getBean(ChatEventPublisher.class);
+	}
+
+	private void awaitSent(int count) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (sent.size() < count && System.currentTimeMillis() < deadline) {
+			sleep(10);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
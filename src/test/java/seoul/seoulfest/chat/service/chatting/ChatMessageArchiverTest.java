@@ -0,0 +1,81 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiverTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ChatMessageArchiver archiver;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		archiver = new ChatMessageArchiver(jdbcTemplate, meterRegistry);
+		ReflectionTestUtils.setField(archiver, "batchSize", 2);
+		archiver.init();
+	}
+
+	@Test
+	@DisplayName("archiveBatch: 메시지와 모든 첨부 미디어를 아카이브에 복사한 뒤 원본을 삭제한다")
+	void testArchiveBatchMovesMessagesAndAllMedia() {
+		// given
+		when(jdbcTemplate.queryForList(startsWith("SELECT message_id FROM chat_message"), eq(Long.class),
+			eq(Timestamp.valueOf(CUTOFF)), eq(2))).thenReturn(List.of(1L, 2L));
+		when(jdbcTemplate.update(startsWith("DELETE FROM chat_message "), any(Object[].class))).thenReturn(2);
+
+		// when
+		int moved = archiver.archiveBatch(CUTOFF);
+
+		// then : 미디어는 첫 번째 키만이 아니라 메시지의 모든 행을 보관한 뒤 삭제
+		assertThat(moved).isEqualTo(2);
+		ArgumentCaptor<Object[]> mediaArgs = ArgumentCaptor.forClass(Object[].class);
+		InOrder inOrder = inOrder(jdbcTemplate);
+		inOrder.verify(jdbcTemplate).update(startsWith("INSERT INTO chat_message_archive"), any(Object[].class));
+		inOrder.verify(jdbcTemplate).update(eq("INSERT INTO chat_media_archive (media_id, message_id, s3_key, archived_at) "
+			+ "SELECT md.media_id, md.message_id, md.s3_key, ? FROM chat_media md WHERE md.message_id IN (?,?)"),
+			mediaArgs.capture());
+		inOrder.verify(jdbcTemplate).update(eq("DELETE FROM chat_media WHERE message_id IN (?,?)"), any(Object[].class));
+		inOrder.verify(jdbcTemplate).update(eq("DELETE FROM chat_message WHERE message_id IN (?,?)"), any(Object[].class));
+		assertThat(mediaArgs.getValue()).hasSize(3);
+		assertThat(mediaArgs.getValue()[0]).isInstanceOf(Timestamp.class);
+		assertThat(mediaArgs.getValue()).endsWith(1L, 2L);
+		assertThat(meterRegistry.counter("chat.message.archive.moved").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("archiveBatch: 보관 대상이 없으면 아무것도 복사하거나 삭제하지 않는다")
+	void testArchiveBatchWithoutTargets() {
+		// given
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any())).thenReturn(List.of());
+
+		// when & then
+		assertThat(archiver.archiveBatch(CUTOFF)).isZero();
+		verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+	}
+}
@@ -0,0 +1,154 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+import seoul.seoulfest.util.id.SnowflakeIdGenerator;
+
+class ChatMessageSearchIndexTest {
+
+	private ChatMessageSearchIndex.RoomIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ChatMessageSearchIndex.RoomIndex(3);
+	}
+
+	@Test
+	@DisplayName("search: 검색어를 포함하는 메시지만 최신순으로 반환한다")
+	void testSearchReturnsNewestFirst() {
+		// given
+		index.add(1L, "한강 불꽃축제 언제예요?");
+		index.add(2L, "저녁 뭐 먹을까요");
+		index.add(3L, "불꽃 축제 자리 맡았어요");
+
+		// when
+		List<Long> result = index.search("불꽃축제", null, 10);
+
+		// then
+		assertThat(result).containsExactly(3L, 1L);
+		assertThat(index.search("축제언제", null, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("search: beforeId 이전 메시지만 limit 개 반환한다")
+	void testSearchWithCursor() {
+		// given
+		index.add(1L, "축제 1");
+		index.add(2L, "축제 2");
+		index.add(3L, "축제 3");
+
+		// when
+		List<Long> first = index.search("축제", null, 2);
+		List<Long> next = index.search("축제", first.get(first.size() - 1), 2);
+
+		// then
+		assertThat(first).containsExactly(3L, 2L);
+		assertThat(next).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("remove/add: 삭제된 메시지는 검색되지 않고 용량을 넘으면 오래된 메시지부터 제거된다")
+	void testRemoveAndCapacity() {
+		// given
+		index.add(1L, "공연 시간");
+		index.add(2L, "공연 장소");
+		index.add(3L, "공연 후기");
+
+		// when
+		index.remove(2L);
+		index.add(4L, "공연 티켓");
+		index.add(5L, "공연 끝");
+
+		// then
+		assertThat(index.search("공연", null, 10)).containsExactly(5L, 4L, 3L);
+	}
+
+	@Test
+	@DisplayName("LongPostings: 순서와 상관없이 추가해도 정렬을 유지하고 중복은 무시한다")
+	void testLongPostingsKeepsOrder() {
+		// given
+		ChatMessageSearchIndex.LongPostings postings = new ChatMessageSearchIndex.LongPostings();
+		for (long id : new long[] {5L, 1L, 9L, 3L, 7L, 3L}) {
+			postings.add(id);
+		}
+
+		// when
+		postings.remove(7L);
+		postings.remove(100L);
+
+		// then
+		assertThat(postings.size()).isEqualTo(4);
+		assertThat(postings.get(0)).isEqualTo(1L);
+		assertThat(postings.get(3)).isEqualTo(9L);
+		assertThat(postings.contains(3L)).isTrue();
+		assertThat(postings.contains(7L)).isFalse();
+		assertThat(postings.lowerIndex(9L)).isEqualTo(2);
+		assertThat(postings.lowerIndex(6L)).isEqualTo(2);
+		assertThat(postings.lowerIndex(1L)).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("search: 마지막으로 읽은 ID 보다 작은 ID 로 늦게 커밋된 메시지도 검색된다")
+	void testCatchUpRescansRecentWindow() {
+		// given : 먼저 발급된 lateId 메시지가 earlyCommittedId 메시지보다 늦게 커밋됨
+		SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+		long lateId = idGenerator.nextId();
+		long earlyCommittedId = idGenerator.nextId();
+
+		ChatMessageRepository repository = mock(ChatMessageRepository.class);
+		ChatMessageSearchIndex searchIndex = new ChatMessageSearchIndex(repository);
+		ReflectionTestUtils.setField(searchIndex, "messagesPerRoom", 100);
+		ReflectionTestUtils.setField(searchIndex, "maxRooms", 10);
+		ReflectionTestUtils.setField(searchIndex, "catchUpWindowMillis", 30_000L);
+		searchIndex.init();
+
+		when(repository.findSearchableContentsByRoomId(eq(1L), any()))
+			.thenReturn(List.<Object[]>of(new Object[] {earlyCommittedId, "축제 먼저 커밋"}));
+		when(repository.findSearchableContentsByRoomIdAfter(eq(1L), anyLong(), any())).thenAnswer(invocation -> {
+			long afterId = invocation.getArgument(1);
+			return afterId < lateId
+				? List.<Object[]>of(new Object[] {lateId, "축제 늦게 커밋"}, new Object[] {earlyCommittedId, "축제 먼저 커밋"})
+				: List.<Object[]>of();
+		});
+
+		// when
+		ChatMessageSearchIndex.SearchResult result = searchIndex.search(1L, "축제", null, 10);
+
+		// then
+		assertThat(result.messageIds()).containsExactly(earlyCommittedId, lateId);
+		assertThat(result.indexedFromId()).isNull();
+	}
+
+	@Test
+	@DisplayName("search: 색인이 최근 메시지만 담고 있으면 색인 시작 ID를 함께 반환한다")
+	void testSearchReportsIndexedFrom() {
+		// given : 용량(2)만큼 읽었으므로 더 오래된 메시지가 있을 수 있음
+		ChatMessageRepository repository = mock(ChatMessageRepository.class);
+		ChatMessageSearchIndex searchIndex = new ChatMessageSearchIndex(repository);
+		ReflectionTestUtils.setField(searchIndex, "messagesPerRoom", 2);
+		ReflectionTestUtils.setField(searchIndex, "maxRooms", 10);
+		ReflectionTestUtils.setField(searchIndex, "catchUpWindowMillis", 0L);
+		searchIndex.init();
+		when(repository.findSearchableContentsByRoomId(eq(1L), any())).thenReturn(List.<Object[]>of(
+			new Object[] {20L, "축제 20"}, new Object[] {10L, "축제 10"}));
+		when(repository.findSearchableContentsByRoomIdAfter(eq(1L), anyLong(), any()))
+			.thenReturn(List.<Object[]>of(new Object[] {30L, "축제 30"}), List.<Object[]>of());
+
+		// when : 새 메시지가 들어와 가장 오래된 메시지가 밀려남
+		ChatMessageSearchIndex.SearchResult result = searchIndex.search(1L, "축제", null, 10);
+
+		// then
+		assertThat(result.messageIds()).containsExactly(30L, 20L);
+		assertThat(result.indexedFromId()).isEqualTo(11L);
+	}
+}
@@ -0,0 +1,100 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import seoul.seoulfest.chat.exception.ChatErrorCode;
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+import seoul.seoulfest.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageSequencerTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final String SEQ_KEY = "chat:room:1:seq";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@InjectMocks
+	private ChatMessageSequencer sequencer;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(sequencer, "reseedMargin", 1000L);
+	}
+
+	@Test
+	@DisplayName("next: Redis 키가 있으면 증가한 값을 그대로 반환한다")
+	void testIncrementExistingKey() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQ_KEY)))).thenReturn(42L);
+
+		// when & then
+		assertThat(sequencer.next(ROOM_ID)).isEqualTo(42L);
+		verifyNoInteractions(chatMessageRepository);
+	}
+
+	@Test
+	@DisplayName("next: Redis 키가 유실되면 DB 최대 순번에 여유분을 더한 값부터 발급한다")
+	void testReseedSkipsPendingSeqs() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQ_KEY)))).thenReturn(null);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(chatMessageRepository.findMaxSeqByChatRoomId(ROOM_ID)).thenReturn(500L);
+		when(valueOperations.setIfAbsent(SEQ_KEY, "1500")).thenReturn(true);
+		when(valueOperations.increment(SEQ_KEY)).thenReturn(1501L);
+
+		// when & then : 아직 기록되지 않은 501 이후 순번을 다시 발급하지 않음
+		assertThat(sequencer.next(ROOM_ID)).isEqualTo(1501L);
+	}
+
+	@Test
+	@DisplayName("next: 메시지가 없는 채팅방은 1부터 발급한다")
+	void testFirstSeqOfNewRoom() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQ_KEY)))).thenReturn(null);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(chatMessageRepository.findMaxSeqByChatRoomId(ROOM_ID)).thenReturn(0L);
+		when(valueOperations.setIfAbsent(SEQ_KEY, "0")).thenReturn(true);
+		when(valueOperations.increment(SEQ_KEY)).thenReturn(1L);
+
+		// when & then
+		assertThat(sequencer.next(ROOM_ID)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("next: Redis 장애로 순번을 발급할 수 없으면 순번 없이 저장하지 않도록 전송을 실패시킨다")
+	void testFailWhenRedisUnavailable() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SEQ_KEY))))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThatThrownBy(() -> sequencer.next(ROOM_ID))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.MESSAGE_SEQ_UNAVAILABLE);
+	}
+}
@@ -0,0 +1,309 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import seoul.seoulfest.chat.dto.request.chatting.request.ChatMessageRequest;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageSliceResponse;
+import seoul.seoulfest.chat.entity.ChatMessage;
+import seoul.seoulfest.chat.entity.ChatMessageArchive;
+import seoul.seoulfest.chat.entity.ChatRoom;
+import seoul.seoulfest.chat.enums.ChatRoomMemberStatus;
+import seoul.seoulfest.chat.metrics.ChatMetrics;
+import seoul.seoulfest.chat.repository.ChatMediaRepository;
+import seoul.seoulfest.chat.repository.ChatMessageArchiveRepository;
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+import seoul.seoulfest.chat.repository.ChatRoomMemberRepository;
+import seoul.seoulfest.chat.repository.ChatRoomRepository;
+import seoul.seoulfest.exception.BusinessException;
+import seoul.seoulfest.member.entity.Member;
+import seoul.seoulfest.member.repository.MemberRepository;
+import seoul.seoulfest.util.jwt.JwtTokenProvider;
+import seoul.seoulfest.util.security.SecurityUtil;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceImplTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long MEMBER_ID = 10L;
+	private static final String VERIFY_ID = "verify-10";
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+	@Mock
+	private ChatRoomMemberRepository chatRoomMemberRepository;
+	@Mock
+	private ChatMediaRepository chatMediaRepository;
+	@Mock
+	private ChatMessageArchiveRepository chatMessageArchiveRepository;
+	@Mock
+	private MemberRepository memberRepository;
+	@Mock
+	private ChatUnreadCountService unreadCountService;
+	@Mock
+	private ChatMessageWriteBehindQueue writeBehindQueue;
+	@Mock
+	private RecentMessageCache recentMessageCache;
+	@Spy
+	private ChatSubscriptionAuthCache subscriptionAuthCache =
+		new ChatSubscriptionAuthCache(mock(StringRedisTemplate.class));
+	@Mock
+	private ReadMarkerAggregator readMarkerAggregator;
+	@Mock
+	private ChatMessageSequencer sequencer;
+	@Mock
+	private ChatMessageSearchIndex messageSearchIndex;
+	@Mock
+	private SecurityUtil securityUtil;
+	@Mock
+	private ChatEventPublisher chatEventPublisher;
+	@Mock
+	private ChatPresenceService chatPresenceService;
+
+	@InjectMocks
+	private ChatMessageServiceImpl chatMessageService;
+
+	private ChatRoom chatRoom;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = Member.builder().verifyId(VERIFY_ID).username("tester").build();
+		ReflectionTestUtils.setField(member, "id", MEMBER_ID);
+
+		chatRoom = ChatRoom.builder().name("room").owner(member).build();
+		ReflectionTestUtils.setField(chatRoom, "id", ROOM_ID);
+
+		ReflectionTestUtils.setField(subscriptionAuthCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(subscriptionAuthCache, "maxSize", 100);
+	}
+
+	@Test
+	@DisplayName("sendMessage: 저장 직후 응답과 마지막 메시지 스냅샷에 생성 시간이 채워진다")
+	void testSendMessageHasCreatedAt() {
+		// given
+		when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+		when(securityUtil.getCurrentMember(VERIFY_ID)).thenReturn(member);
+		when(chatRoomMemberRepository.existsByChatRoomAndMemberAndStatusNotAndKickedAtIsNull(
+			chatRoom, member, ChatRoomMemberStatus.EXIT)).thenReturn(true);
+		when(sequencer.next(ROOM_ID)).thenReturn(1L);
+		// @TimeOrderedId 엔티티는 save 시점에 INSERT 하지 않으므로 저장한 객체를 그대로 반환
+		when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+			ChatMessage saved = invocation.getArgument(0);
+			ReflectionTestUtils.setField(saved, "id", 100L);
+			return saved;
+		});
+		ChatMessageRequest request = ChatMessageRequest.builder()
+			.chatRoomId(ROOM_ID)
+			.content("hello")
+			.type("TEXT")
+			.build();
+
+		// when
+		ChatMessageResponse response = chatMessageService.sendMessage(request, VERIFY_ID);
+
+		// then
+		assertThat(response.getMessageId()).isEqualTo(100L);
+		assertThat(response.getCreatedAt()).isNotNull();
+		verify(chatRoomRepository).updateLastMessage(eq(ROOM_ID), eq(100L), eq("hello"),
+			eq(response.getCreatedAt()), eq(MEMBER_ID));
+	}
+
+	@Test
+	@DisplayName("강퇴된 회원은 REST 조회 후에도 채팅방을 구독할 수 없다")
+	void testKickedMemberCannotSubscribeAfterRestCall() {
+		// given : 참여 이력(강퇴)은 남아 있지만 참여 중인 멤버는 아님
+		when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+		when(securityUtil.getCurrentMember(VERIFY_ID)).thenReturn(member);
+		when(memberRepository.findByVerifyId(VERIFY_ID)).thenReturn(Optional.of(member));
+		lenient().when(chatRoomMemberRepository.existsByChatRoomAndMember(chatRoom, member)).thenReturn(true);
+
+		StompInterceptor stompInterceptor = new StompInterceptor(mock(JwtTokenProvider.class), securityUtil,
+			memberRepository, chatRoomRepository, chatRoomMemberRepository, subscriptionAuthCache,
+			mock(ChatRateLimiter.class), mock(ChatMetrics.class), mock(ObjectProvider.class));
+
+		// when : REST 조회 시도
+		assertThatThrownBy(() -> chatMessageService.getPresence(ROOM_ID, VERIFY_ID))
+			.isInstanceOf(BusinessException.class);
+
+		// then : 구독 권한 캐시에 남지 않고 구독도 거부됨
+		assertThat(subscriptionAuthCache.isAuthorized(VERIFY_ID, ROOM_ID)).isFalse();
+		assertThat(stompInterceptor.preSend(subscribe(ROOM_ID), mock(MessageChannel.class))).isNull();
+		verify(subscriptionAuthCache, never()).markAuthorized(anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("getMessages: 캐시로 응답하는 첫 페이지와 이후 페이지의 전체 개수가 같다")
+	void testTotalElementsConsistentAcrossPages() {
+		// given
+		subscriptionAuthCache.markAuthorized(VERIFY_ID, ROOM_ID);
+		when(recentMessageCache.canServe(20)).thenReturn(true);
+		when(recentMessageCache.getRecent(ROOM_ID, 20)).thenReturn(
+			Collections.nCopies(20, ChatMessageResponse.builder().chatRoomId(ROOM_ID).build()));
+		when(chatMessageRepository.countByChatRoomId(ROOM_ID)).thenReturn(45L);
+		when(chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(ROOM_ID, PageRequest.of(1, 20)))
+			.thenReturn(new PageImpl<>(List.of(), PageRequest.of(1, 20), 45L));
+
+		// when
+		Page<ChatMessageResponse> first = chatMessageService.getMessages(ROOM_ID, VERIFY_ID, PageRequest.of(0, 20));
+		Page<ChatMessageResponse> second = chatMessageService.getMessages(ROOM_ID, VERIFY_ID, PageRequest.of(1, 20));
+
+		// then
+		assertThat(first.getTotalElements()).isEqualTo(45L);
+		assertThat(first.getTotalPages()).isEqualTo(second.getTotalPages()).isEqualTo(3);
+		verifyNoInteractions(unreadCountService);
+	}
+
+	@Test
+	@DisplayName("getMessagesByCursor: 최근 메시지 테이블을 다 읽으면 마지막 메시지 ID를 커서로 아카이브에서 이어서 채운다")
+	void testCursorReadsThroughToArchive() {
+		// given
+		givenRoomMember();
+		PageRequest limit = PageRequest.of(0, 3);
+		when(chatMessageRepository.findSliceByRoomId(ROOM_ID, limit))
+			.thenReturn(new SliceImpl<>(List.of(message(300L), message(200L)), limit, false));
+		when(chatMessageArchiveRepository.findSliceByRoomIdAndIdLessThan(ROOM_ID, 200L, PageRequest.of(0, 1)))
+			.thenReturn(new SliceImpl<>(List.of(archived(100L, "media/old.png")), PageRequest.of(0, 1), true));
+		when(memberRepository.findAllById(Set.of(MEMBER_ID))).thenReturn(List.of(member));
+
+		// when
+		ChatMessageSliceResponse result = chatMessageService.getMessagesByCursor(ROOM_ID, null, VERIFY_ID, 3);
+
+		// then
+		assertThat(result.getMessages()).extracting(ChatMessageResponse::getMessageId).containsExactly(300L, 200L, 100L);
+		assertThat(result.getMessages().get(2).getSenderName()).isEqualTo("tester");
+		assertThat(result.getMessages().get(2).getMediaUrl()).endsWith("media/old.png");
+		assertThat(result.isHasNext()).isTrue();
+		assertThat(result.getNextCursor()).isEqualTo(100L);
+	}
+
+	@Test
+	@DisplayName("getMessagesByCursor: 커서가 아카이브 구간이면 아카이브만 조회하고, 남은 메시지가 없으면 다음 커서를 비운다")
+	void testCursorWithinArchive() {
+		// given
+		givenRoomMember();
+		PageRequest limit = PageRequest.of(0, 3);
+		when(chatMessageRepository.findSliceByRoomIdAndIdLessThan(ROOM_ID, 100L, limit))
+			.thenReturn(new SliceImpl<>(List.of(), limit, false));
+		when(chatMessageArchiveRepository.findSliceByRoomIdAndIdLessThan(ROOM_ID, 100L, limit))
+			.thenReturn(new SliceImpl<>(List.of(archived(50L, null)), limit, false));
+		when(memberRepository.findAllById(Set.of(MEMBER_ID))).thenReturn(List.of(member));
+
+		// when
+		ChatMessageSliceResponse result = chatMessageService.getMessagesByCursor(ROOM_ID, 100L, VERIFY_ID, 3);
+
+		// then
+		assertThat(result.getMessages()).extracting(ChatMessageResponse::getMessageId).containsExactly(50L);
+		assertThat(result.isHasNext()).isFalse();
+		assertThat(result.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("getMessagesByCursor: 최근 메시지만으로 페이지가 차면 아카이브는 존재 여부만 확인하여 다음 페이지를 알린다")
+	void testCursorChecksArchiveWhenPageIsFull() {
+		// given
+		givenRoomMember();
+		PageRequest limit = PageRequest.of(0, 2);
+		when(chatMessageRepository.findSliceByRoomId(ROOM_ID, limit))
+			.thenReturn(new SliceImpl<>(List.of(message(300L), message(200L)), limit, false));
+		when(chatMessageArchiveRepository.existsByChatRoomIdAndIdLessThan(ROOM_ID, 200L)).thenReturn(true);
+
+		// when
+		ChatMessageSliceResponse result = chatMessageService.getMessagesByCursor(ROOM_ID, null, VERIFY_ID, 2);
+
+		// then
+		assertThat(result.isHasNext()).isTrue();
+		assertThat(result.getNextCursor()).isEqualTo(200L);
+		verify(chatMessageArchiveRepository, never()).findSliceByRoomIdAndIdLessThan(anyLong(), anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("searchMessages: 색인 결과가 부족하면 색인 시작 ID 이전 구간을 DB 에서 이어서 조회한다")
+	void testSearchFallsBackBelowIndexedRange() {
+		// given
+		subscriptionAuthCache.markAuthorized(VERIFY_ID, ROOM_ID);
+		when(messageSearchIndex.search(ROOM_ID, "50%", null, 3))
+			.thenReturn(new ChatMessageSearchIndex.SearchResult(List.of(300L), 200L));
+		when(chatMessageRepository.findActiveIdsByRoomIdAndContentLike(ROOM_ID, 200L, "%50!%%", PageRequest.of(0, 2)))
+			.thenReturn(List.of(150L, 120L));
+		when(chatMessageRepository.findActiveByRoomIdAndIdIn(ROOM_ID, List.of(300L, 150L)))
+			.thenReturn(List.of(message(150L), message(300L)));
+
+		// when
+		ChatMessageSliceResponse result = chatMessageService.searchMessages(ROOM_ID, "50%", null, VERIFY_ID, 2);
+
+		// then
+		assertThat(result.getMessages()).extracting(ChatMessageResponse::getMessageId).containsExactly(300L, 150L);
+		assertThat(result.isHasNext()).isTrue();
+		assertThat(result.getNextCursor()).isEqualTo(150L);
+	}
+
+	private void givenRoomMember() {
+		when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+		when(securityUtil.getCurrentMember(VERIFY_ID)).thenReturn(member);
+		when(chatRoomMemberRepository.existsByChatRoomAndMemberAndStatusNotAndKickedAtIsNull(
+			chatRoom, member, ChatRoomMemberStatus.EXIT)).thenReturn(true);
+	}
+
+	private ChatMessage message(Long id) {
+		ChatMessage message = ChatMessage.builder().chatRoom(chatRoom).sender(member).content("m" + id).type("TEXT")
+			.build();
+		ReflectionTestUtils.setField(message, "id", id);
+		return message;
+	}
+
+	private ChatMessageArchive archived(Long id, String mediaS3Key) {
+		ChatMessageArchive archive = BeanUtils.instantiateClass(ChatMessageArchive.class);
+		ReflectionTestUtils.setField(archive, "id", id);
+		ReflectionTestUtils.setField(archive, "chatRoomId", ROOM_ID);
+		ReflectionTestUtils.setField(archive, "senderId", MEMBER_ID);
+		ReflectionTestUtils.setField(archive, "content", "a" + id);
+		ReflectionTestUtils.setField(archive, "type", "TEXT");
+		ReflectionTestUtils.setField(archive, "createdAt", LocalDateTime.of(2024, 1, 1, 0, 0));
+		ReflectionTestUtils.setField(archive, "mediaS3Key", mediaS3Key);
+		return archive;
+	}
+
+	private Message<byte[]> subscribe(Long chatRoomId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId("session-1");
+		accessor.setSubscriptionId("sub-1");
+		accessor.setDestination("/topic/chat/room/" + chatRoomId);
+		accessor.setSessionAttributes(new HashMap<>(Map.of("verifyId", VERIFY_ID)));
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
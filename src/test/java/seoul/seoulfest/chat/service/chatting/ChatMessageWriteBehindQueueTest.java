@@ -0,0 +1,137 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import seoul.seoulfest.util.id.SnowflakeIdGenerator;
+
+class ChatMessageWriteBehindQueueTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final long BAD_MESSAGE_ID = 2L;
+
+	private JdbcTemplate jdbcTemplate;
+	private ChatMessageDeadLetterStore deadLetterStore;
+	private ChatMessageWriteBehindQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		deadLetterStore = mock(ChatMessageDeadLetterStore.class);
+		queue = new ChatMessageWriteBehindQueue(jdbcTemplate, mock(PlatformTransactionManager.class),
+			new SnowflakeIdGenerator(1), new SimpleMeterRegistry(), deadLetterStore);
+		ReflectionTestUtils.setField(queue, "enabled", true);
+		ReflectionTestUtils.setField(queue, "capacity", 100);
+		ReflectionTestUtils.setField(queue, "batchSize", 10);
+		// 기록 스레드가 테스트 도중 깨어나지 않도록 충분히 길게 설정
+		ReflectionTestUtils.setField(queue, "maxLagMillis", 60_000L);
+		ReflectionTestUtils.setField(queue, "pendingWindowMillis", 5_000L);
+		queue.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		queue.shutdown();
+	}
+
+	@Test
+	@DisplayName("isPending: 기록 전 메시지는 대기 중으로, 기록 후에는 대기 중이 아닌 것으로 판단한다")
+	void testPendingUntilWritten() {
+		// given
+		queue.enqueue(message(1L, 11L));
+
+		// when & then
+		assertThat(queue.isPending(1L)).isTrue();
+		assertThat(queue.hasPending(ROOM_ID)).isTrue();
+		assertThat(queue.oldestPendingSeq(ROOM_ID)).isEqualTo(11L);
+
+		queue.flush();
+
+		assertThat(queue.isPending(1L)).isFalse();
+		assertThat(queue.hasPending(ROOM_ID)).isFalse();
+		assertThat(queue.oldestPendingSeq(ROOM_ID)).isNull();
+	}
+
+	@Test
+	@DisplayName("isPending: 다른 노드에서 최근 발급된 ID는 기록 대기 중일 수 있는 것으로 판단한다")
+	void testRecentIdFromOtherNodeIsPending() {
+		// given
+		long recentId = new SnowflakeIdGenerator(2).nextId();
+
+		// when & then
+		assertThat(queue.isPending(recentId)).isTrue();
+		assertThat(queue.isPending(3L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("oldestPendingSeq: 채팅방별로 가장 작은 대기 순번을 반환한다")
+	void testOldestPendingSeqPerRoom() {
+		// given
+		queue.enqueue(message(1L, 12L));
+		queue.enqueue(message(2L, 11L));
+		queue.enqueue(PendingChatMessage.builder().messageId(3L).chatRoomId(2L).seq(5L).senderId(1L)
+			.content("other").type("TEXT").createdAt(LocalDateTime.now()).build());
+
+		// when & then
+		assertThat(queue.oldestPendingSeq(ROOM_ID)).isEqualTo(11L);
+		assertThat(queue.oldestPendingSeq(2L)).isEqualTo(5L);
+		assertThat(queue.oldestPendingSeq(3L)).isNull();
+	}
+
+	@Test
+	@DisplayName("flush: 배치 기록이 계속 실패하면 메시지별로 기록하고 실패한 메시지만 dead-letter 로 보관한다")
+	void testFallbackToPerRowWrites() {
+		// given
+		when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO chat_message "), anyList())).thenAnswer(invocation -> {
+			List<Object[]> rows = invocation.getArgument(1);
+			if (rows.stream().anyMatch(row -> row[0].equals(BAD_MESSAGE_ID))) {
+				throw new DataIntegrityViolationException("bad row");
+			}
+			return new int[rows.size()];
+		});
+		PendingChatMessage good = message(1L, 11L);
+		PendingChatMessage bad = message(BAD_MESSAGE_ID, 12L);
+		PendingChatMessage next = message(3L, 13L);
+		queue.enqueue(good);
+		queue.enqueue(bad);
+		queue.enqueue(next);
+
+		// when
+		queue.flush();
+
+		// then: 배치 3회 + 메시지별 3회
+		verify(jdbcTemplate, times(6)).batchUpdate(startsWith("INSERT INTO chat_message "), anyList());
+		verify(deadLetterStore).save(eq(bad), any(DataIntegrityViolationException.class));
+		verify(deadLetterStore, never()).save(eq(good), any());
+		verify(deadLetterStore, never()).save(eq(next), any());
+		assertThat(queue.hasPending(ROOM_ID)).isFalse();
+	}
+
+	private PendingChatMessage message(long messageId, long seq) {
+		return PendingChatMessage.builder()
+			.messageId(messageId)
+			.chatRoomId(ROOM_ID)
+			.seq(seq)
+			.senderId(1L)
+			.content("message " + messageId)
+			.type("TEXT")
+			.createdAt(LocalDateTime.now())
+			.preview("message " + messageId)
+			.enqueuedAtNanos(System.nanoTime())
+			.build();
+	}
+}
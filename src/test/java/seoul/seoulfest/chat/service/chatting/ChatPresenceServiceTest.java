@@ -0,0 +1,157 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatPresenceDigest;
+import seoul.seoulfest.member.entity.Member;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final String PRESENCE_KEY = "chat:room:1:online";
+	private static final String SESSIONS_KEY = "chat:room:1:sessions";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ChatEventPublisher chatEventPublisher;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@InjectMocks
+	private ChatPresenceService presenceService;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(presenceService, "ttlSeconds", 1800L);
+		ReflectionTestUtils.setField(presenceService, "digestMaxEvents", 20);
+		lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+		member = Member.builder().verifyId("verify-10").username("tester").build();
+		ReflectionTestUtils.setField(member, "id", 10L);
+	}
+
+	@Test
+	@DisplayName("onSessionDisconnect: 같은 회원의 마지막 세션이 끊길 때만 퇴장 처리한다")
+	void testDisconnectLeavesAfterLastSession() {
+		// given
+		when(zSetOperations.add(eq(PRESENCE_KEY), eq("10"), anyDouble())).thenReturn(true, false);
+		when(zSetOperations.remove(PRESENCE_KEY, "10")).thenReturn(1L);
+		when(hashOperations.increment(SESSIONS_KEY, "10", -1L)).thenReturn(1L, 0L);
+		presenceService.join(ROOM_ID, member, "session-1");
+		presenceService.join(ROOM_ID, member, "session-2");
+		verify(hashOperations, times(2)).increment(SESSIONS_KEY, "10", 1L);
+
+		// when & then
+		presenceService.onSessionDisconnect(disconnect("session-1"));
+		verify(zSetOperations, never()).remove(anyString(), any());
+
+		presenceService.onSessionDisconnect(disconnect("session-2"));
+		verify(zSetOperations).remove(PRESENCE_KEY, "10");
+
+		ChatPresenceDigest digest = publishedDigest();
+		assertThat(digest.getJoined()).isEqualTo(1);
+		assertThat(digest.getLeft()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("onSessionDisconnect: 다른 노드에 같은 회원의 세션이 남아 있으면 접속 상태를 유지한다")
+	void testDisconnectKeepsMemberOnOtherNode() {
+		// given : 이 노드에 세션 1개, 다른 노드에 세션 1개
+		when(zSetOperations.add(eq(PRESENCE_KEY), eq("10"), anyDouble())).thenReturn(true);
+		when(hashOperations.increment(SESSIONS_KEY, "10", -1L)).thenReturn(1L);
+		presenceService.join(ROOM_ID, member, "session-1");
+
+		// when
+		presenceService.onSessionDisconnect(disconnect("session-1"));
+
+		// then
+		verify(zSetOperations, never()).remove(anyString(), any());
+		verify(hashOperations, never()).delete(anyString(), any());
+		ChatPresenceDigest digest = publishedDigest();
+		assertThat(digest.getJoined()).isEqualTo(1);
+		assertThat(digest.getLeft()).isZero();
+	}
+
+	@Test
+	@DisplayName("leave: Redis 에 기록이 없어도 이 노드에서 접속 중이던 회원이면 퇴장으로 집계한다")
+	void testLeaveKeepsLocalResult() {
+		// given : 입장 후 Redis 키가 먼저 만료됨
+		when(zSetOperations.add(eq(PRESENCE_KEY), eq("10"), anyDouble())).thenReturn(true);
+		when(zSetOperations.remove(PRESENCE_KEY, "10")).thenReturn(0L);
+		presenceService.join(ROOM_ID, member, null);
+
+		// when
+		presenceService.leave(ROOM_ID, member, "LEAVE");
+
+		// then
+		assertThat(publishedDigest().getLeft()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("sweepIdleMembers: 다른 노드에서 입장한 뒤 활동이 없는 회원도 Redis 에서 정리한다")
+	void testSweepPrunesRemoteMembers() {
+		// given
+		when(setOperations.members("chat:presence:rooms")).thenReturn(Set.of("1"));
+		when(zSetOperations.rangeByScore(eq(PRESENCE_KEY), eq(0.0), anyDouble())).thenReturn(Set.of("99"));
+		when(zSetOperations.remove(PRESENCE_KEY, "99")).thenReturn(1L);
+		when(zSetOperations.zCard(PRESENCE_KEY)).thenReturn(0L);
+
+		// when
+		presenceService.sweepIdleMembers();
+
+		// then
+		verify(setOperations).remove("chat:presence:rooms", "1");
+		verify(hashOperations).delete(SESSIONS_KEY, "99");
+		ChatPresenceDigest digest = publishedDigest();
+		assertThat(digest.getLeft()).isEqualTo(1);
+		assertThat(digest.getEvents()).extracting("memberId").containsExactly(99L);
+	}
+
+	private ChatPresenceDigest publishedDigest() {
+		presenceService.publishDigests();
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(chatEventPublisher).publish(eq("/topic/chat/room/" + ROOM_ID + "/status"), captor.capture());
+		return (ChatPresenceDigest) captor.getValue();
+	}
+
+	private SessionDisconnectEvent disconnect(String sessionId) {
+		Message<byte[]> message = MessageBuilder.withPayload(new byte[0]).build();
+		return new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL);
+	}
+}
@@ -0,0 +1,114 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSubscriptionAuthCacheTest {
+
+	private static final String CHANNEL = ChatSubscriptionAuthCache.INVALIDATION_CHANNEL;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@InjectMocks
+	private ChatSubscriptionAuthCache cache;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(cache, "maxSize", 100);
+		ReflectionTestUtils.setField(cache, "brokerMode", "redis");
+	}
+
+	@Test
+	@DisplayName("invalidate: 다중 노드 모드에서는 무효화를 Redis 채널로 전파한다")
+	void testInvalidateBroadcasts() {
+		// given
+		cache.markAuthorized("verify-1", 1L);
+
+		// when
+		cache.invalidate("verify-1", 1L);
+		cache.invalidateRoom(2L);
+
+		// then
+		assertThat(cache.isAuthorized("verify-1", 1L)).isFalse();
+		verify(redisTemplate).convertAndSend(CHANNEL, "1:verify-1");
+		verify(redisTemplate).convertAndSend(CHANNEL, "2:");
+	}
+
+	@Test
+	@DisplayName("invalidate: simple 모드에서는 전파하지 않는다")
+	void testSimpleModeDoesNotBroadcast() {
+		// given
+		ReflectionTestUtils.setField(cache, "brokerMode", "simple");
+
+		// when
+		cache.invalidate("verify-1", 1L);
+
+		// then
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("onMessage: 다른 노드의 회원/채팅방 무효화를 이 노드 캐시에 반영한다")
+	void testRemoteInvalidation() {
+		// given
+		cache.markAuthorized("verify-1", 1L);
+		cache.markAuthorized("verify-2", 1L);
+		cache.markAuthorized("verify-1", 2L);
+		cache.markAuthorized("verify-2", 2L);
+
+		// when
+		cache.onMessage(message("1:verify-1"), null);
+		cache.onMessage(message("2:"), null);
+
+		// then
+		assertThat(cache.isAuthorized("verify-1", 1L)).isFalse();
+		assertThat(cache.isAuthorized("verify-2", 1L)).isTrue();
+		assertThat(cache.isAuthorized("verify-1", 2L)).isFalse();
+		assertThat(cache.isAuthorized("verify-2", 2L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("invalidateRoom: 커밋 전에 다시 저장된 권한도 커밋 이후 무효화하고 그때 전파한다")
+	void testInvalidateRoomAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// given
+			cache.invalidateRoom(1L);
+			// 삭제 커밋 전에 끝난 조회가 권한을 다시 저장
+			cache.markAuthorized("verify-1", 1L);
+			verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+			// when
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+			// then
+			assertThat(cache.isAuthorized("verify-1", 1L)).isFalse();
+			verify(redisTemplate).convertAndSend(CHANNEL, "1:");
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,165 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import seoul.seoulfest.chat.repository.ChatMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCountServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long MEMBER_ID = 10L;
+	private static final String MESSAGE_COUNT_KEY = "chat:room:1:message-count";
+	private static final String READ_COUNT_KEY = "chat:room:1:read-count";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@InjectMocks
+	private ChatUnreadCountService unreadCountService;
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("increaseMessageCount: 트랜잭션 밖에서는 바로 증가시키고 발신자를 읽음 처리한다")
+	void testIncreaseWithoutTransaction() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(MESSAGE_COUNT_KEY)))).thenReturn(5L);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+		// when
+		unreadCountService.increaseMessageCount(ROOM_ID, MEMBER_ID);
+
+		// then
+		verify(hashOperations).put(READ_COUNT_KEY, String.valueOf(MEMBER_ID), "5");
+	}
+
+	@Test
+	@DisplayName("increaseMessageCount: 트랜잭션 중에는 커밋 이후에만 증가시킨다")
+	void testIncreaseDeferredUntilCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		unreadCountService.increaseMessageCount(ROOM_ID, MEMBER_ID);
+
+		// then: 커밋 전(롤백 포함)에는 Redis 를 건드리지 않음
+		verifyNoInteractions(redisTemplate);
+
+		// when: 커밋
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(MESSAGE_COUNT_KEY)))).thenReturn(null);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then: 카운터가 없으면 읽은 수는 갱신하지 않음 (다음 조회 시 재계산)
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(MESSAGE_COUNT_KEY)));
+		verify(redisTemplate, never()).opsForHash();
+	}
+
+	@Test
+	@DisplayName("getUnreadCount: 누적 수와 읽은 수의 차이를 반환한다")
+	void testUnreadCountFromCounters() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+		when(valueOperations.get(MESSAGE_COUNT_KEY)).thenReturn("12");
+		when(hashOperations.get(READ_COUNT_KEY, String.valueOf(MEMBER_ID))).thenReturn("9");
+
+		// when
+		int unread = unreadCountService.getUnreadCount(ROOM_ID, MEMBER_ID, LocalDateTime.now());
+
+		// then
+		assertThat(unread).isEqualTo(3);
+		verifyNoInteractions(chatMessageRepository);
+	}
+
+	@Test
+	@DisplayName("getUnreadCount: 카운터가 없으면 DB 기준으로 재계산하고 기존 읽은 수를 초기화한다")
+	void testRebuildMissingCounters() {
+		// given
+		LocalDateTime readFrom = LocalDateTime.now().minusHours(1);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+		when(valueOperations.get(MESSAGE_COUNT_KEY)).thenReturn(null);
+		when(chatMessageRepository.countByChatRoomId(ROOM_ID)).thenReturn(20L);
+		when(valueOperations.setIfAbsent(MESSAGE_COUNT_KEY, "20")).thenReturn(true);
+		when(hashOperations.get(READ_COUNT_KEY, String.valueOf(MEMBER_ID))).thenReturn(null);
+		when(chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(ROOM_ID, readFrom)).thenReturn(4);
+
+		// when
+		int unread = unreadCountService.getUnreadCount(ROOM_ID, MEMBER_ID, readFrom);
+
+		// then
+		assertThat(unread).isEqualTo(4);
+		verify(redisTemplate).delete(READ_COUNT_KEY);
+		verify(hashOperations).putIfAbsent(READ_COUNT_KEY, String.valueOf(MEMBER_ID), "16");
+	}
+
+	@Test
+	@DisplayName("getUnreadCount: 다른 요청이 먼저 재계산했으면 해당 카운터 값을 사용한다")
+	void testRebuildRaceUsesExistingCounter() {
+		// given
+		LocalDateTime readFrom = LocalDateTime.now().minusHours(1);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+		when(valueOperations.get(MESSAGE_COUNT_KEY)).thenReturn(null, "21");
+		when(chatMessageRepository.countByChatRoomId(ROOM_ID)).thenReturn(20L);
+		when(valueOperations.setIfAbsent(MESSAGE_COUNT_KEY, "20")).thenReturn(false);
+		when(hashOperations.get(READ_COUNT_KEY, String.valueOf(MEMBER_ID))).thenReturn("21");
+
+		// when
+		int unread = unreadCountService.getUnreadCount(ROOM_ID, MEMBER_ID, readFrom);
+
+		// then
+		assertThat(unread).isZero();
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("getUnreadCount: Redis 장애 시 DB 카운트 쿼리로 대체한다")
+	void testFallbackToDatabase() {
+		// given
+		LocalDateTime readFrom = LocalDateTime.now().minusHours(1);
+		when(redisTemplate.opsForValue()).thenThrow(new QueryTimeoutException("timeout"));
+		when(chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(ROOM_ID, readFrom)).thenReturn(7);
+
+		// when
+		int unread = unreadCountService.getUnreadCount(ROOM_ID, MEMBER_ID, readFrom);
+
+		// then
+		assertThat(unread).isEqualTo(7);
+	}
+}
@@ -0,0 +1,165 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seoul.seoulfest.chat.dto.request.chatting.response.ChatMessageResponse;
+
+class RecentMessageCacheTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	private RecentMessageCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new RecentMessageCache(new ObjectMapper());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "messagesPerRoom", 3);
+		ReflectionTestUtils.setField(cache, "maxRooms", 2);
+		ReflectionTestUtils.setField(cache, "brokerMode", "simple");
+		cache.init();
+	}
+
+	@Test
+	@DisplayName("put: 버퍼가 가득 차면 가장 오래된 메시지를 밀어내고 최신순으로 반환한다")
+	void testRingBufferKeepsNewestMessages() {
+		// given
+		load(ROOM_ID, List.of(), true);
+
+		// when
+		for (long id = 1; id <= 5; id++) {
+			cache.put(message(ROOM_ID, id, "m" + id));
+		}
+
+		// then
+		assertThat(cache.getRecent(ROOM_ID, 3)).extracting(ChatMessageResponse::getMessageId)
+			.containsExactly(5L, 4L, 3L);
+		// 밀려난 메시지가 있으므로 버퍼보다 큰 요청은 보장할 수 없음
+		assertThat(cache.getRecent(ROOM_ID, 4)).isNull();
+	}
+
+	@Test
+	@DisplayName("put: 같은 ID의 메시지는 교체하고, 늦게 도착한 메시지는 ID 순서에 맞게 끼워 넣는다")
+	void testReplaceAndOutOfOrderInsert() {
+		// given
+		load(ROOM_ID, List.of(message(ROOM_ID, 3L, "m3"), message(ROOM_ID, 1L, "m1")), true);
+
+		// when
+		cache.put(message(ROOM_ID, 2L, "m2"));
+		cache.put(message(ROOM_ID, 3L, "삭제된 메시지입니다."));
+
+		// then
+		List<ChatMessageResponse> recent = cache.getRecent(ROOM_ID, 3);
+		assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(3L, 2L, 1L);
+		assertThat(recent.get(0).getContent()).isEqualTo("삭제된 메시지입니다.");
+	}
+
+	@Test
+	@DisplayName("completeLoad: 로드 도중 메시지가 추가되면 로드 결과를 버린다")
+	void testDiscardStaleLoad() {
+		// given
+		long token = cache.beginLoad(ROOM_ID);
+
+		// when
+		cache.put(message(ROOM_ID, 10L, "new"));
+		cache.completeLoad(ROOM_ID, token, List.of(message(ROOM_ID, 9L, "old")), true);
+
+		// then
+		assertThat(cache.getRecent(ROOM_ID, 1)).isNull();
+	}
+
+	@Test
+	@DisplayName("max-rooms 를 넘으면 가장 오래 사용하지 않은 채팅방을 제거한다")
+	void testEvictLeastRecentlyUsedRoom() {
+		// given
+		load(1L, List.of(message(1L, 1L, "a")), true);
+		load(2L, List.of(message(2L, 2L, "b")), true);
+		cache.getRecent(1L, 1);
+
+		// when
+		load(3L, List.of(message(3L, 3L, "c")), true);
+
+		// then
+		assertThat(cache.getRecent(1L, 1)).isNotNull();
+		assertThat(cache.getRecent(2L, 1)).isNull();
+		assertThat(cache.getRecent(3L, 1)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("getAfterSeq: 버퍼가 afterSeq 까지 보관하고 있으면 이후 메시지를 순번 오름차순으로 반환한다")
+	void testGetAfterSeq() {
+		// given : seq 1 ~ 5 를 넣으면 버퍼(3개)에는 seq 3 ~ 5 만 남음
+		load(ROOM_ID, List.of(), true);
+		for (long id = 1; id <= 5; id++) {
+			ChatMessageResponse message = message(ROOM_ID, id, "m" + id);
+			message.setSeq(id);
+			cache.put(message);
+		}
+
+		// when & then
+		assertThat(cache.getAfterSeq(ROOM_ID, 3L)).extracting(ChatMessageResponse::getSeq)
+			.containsExactly(4L, 5L);
+		// seq 2 는 밀려났으므로 seq 1 이후는 캐시로 보장할 수 없음
+		assertThat(cache.getAfterSeq(ROOM_ID, 1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("applyBrokerPayload: 문자열로 직렬화된 메시지 ID를 정밀도 손실 없이 반영한다")
+	void testApplyBrokerPayloadWithStringId() throws Exception {
+		// given : 2^53 을 넘는 시간 순 ID
+		long messageId = (1L << 57) + 1;
+		load(ROOM_ID, List.of(), true);
+		byte[] payload = new ObjectMapper().writeValueAsBytes(message(ROOM_ID, messageId, "remote"));
+
+		// when
+		cache.applyBrokerPayload(ROOM_ID, payload);
+
+		// then
+		assertThat(new String(payload)).contains("\"messageId\":\"" + messageId + "\"");
+		assertThat(cache.getRecent(ROOM_ID, 1)).extracting(ChatMessageResponse::getMessageId)
+			.containsExactly(messageId);
+	}
+
+	@Test
+	@DisplayName("init: relay 브로커 모드에서는 대소문자와 상관없이 캐시를 사용하지 않는다")
+	void testDisabledInRelayMode() {
+		// given
+		RecentMessageCache relayCache = new RecentMessageCache(new ObjectMapper());
+		ReflectionTestUtils.setField(relayCache, "enabled", true);
+		ReflectionTestUtils.setField(relayCache, "messagesPerRoom", 3);
+		ReflectionTestUtils.setField(relayCache, "maxRooms", 2);
+		ReflectionTestUtils.setField(relayCache, "brokerMode", "RELAY");
+
+		// when
+		relayCache.init();
+		long token = relayCache.beginLoad(ROOM_ID);
+		relayCache.completeLoad(ROOM_ID, token, List.of(message(ROOM_ID, 1L, "m1")), true);
+
+		// then
+		assertThat(relayCache.canServe(1)).isFalse();
+		assertThat(relayCache.getAfterSeq(ROOM_ID, 0L)).isNull();
+		assertThat(relayCache.getRecent(ROOM_ID, 1)).isNull();
+	}
+
+	private void load(Long roomId, List<ChatMessageResponse> newestFirst, boolean complete) {
+		long token = cache.beginLoad(roomId);
+		cache.completeLoad(roomId, token, newestFirst, complete);
+	}
+
+	private ChatMessageResponse message(Long roomId, Long messageId, String content) {
+		return ChatMessageResponse.builder()
+			.messageId(messageId)
+			.chatRoomId(roomId)
+			.content(content)
+			.build();
+	}
+}
@@ -0,0 +1,111 @@
+package seoul.seoulfest.chat.service.chatting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageHeaders;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import seoul.seoulfest.chat.broker.CborMessageConverter;
+
+class StompDestinationParserTest {
+
+	@Test
+	@DisplayName("parseRoomTopic: 채팅방 토픽과 상태 토픽에서 채팅방 ID를 추출한다")
+	void testParseRoomTopic() {
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/123")).isEqualTo(123L);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/45/status")).isEqualTo(45L);
+	}
+
+	@Test
+	@DisplayName("parseRoomTopic: 형식에 맞지 않는 목적지는 INVALID_ROOM_ID를 반환한다")
+	void testParseInvalidRoomTopic() {
+		assertThat(StompDestinationParser.parseRoomTopic(null)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/")).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/abc")).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/12a/status")).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/notice/1")).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.parseRoomTopic("/topic/chat/room/99999999999999999999")).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+	}
+
+	@Test
+	@DisplayName("parseRoomId: 임의의 prefix 뒤의 채팅방 ID를 추출한다")
+	void testParseRoomIdWithPrefix() {
+		assertThat(StompDestinationParser.parseRoomId("/app/chat/room/7/read", "/app/chat/room/")).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("resolveAppRoomId: 경로 또는 메시지 본문의 chatRoomId에서 채팅방 ID를 추출한다")
+	void testResolveAppRoomId() {
+		byte[] payload = "{\"content\":\"hi\", \"chatRoomId\" : 42,\"type\":\"TEXT\"}".getBytes(StandardCharsets.UTF_8);
+		byte[] quoted = "{\"chatRoomId\":\"8\"}".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/room/3/enter", null)).isEqualTo(3L);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", payload)).isEqualTo(42L);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", quoted)).isEqualTo(8L);
+	}
+
+	@Test
+	@DisplayName("resolveAppRoomId: 채팅방을 알 수 없는 메시지는 INVALID_ROOM_ID를 반환한다")
+	void testResolveUnknownAppRoomId() {
+		byte[] noRoom = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+		byte[] nullRoom = "{\"chatRoomId\":null}".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", noRoom)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", nullRoom)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message/delete", noRoom)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId(null, noRoom)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+	}
+
+	@Test
+	@DisplayName("resolveAppRoomId: 최상위 chatRoomId 만 사용하고, 중복되거나 형식이 잘못된 본문은 INVALID_ROOM_ID를 반환한다")
+	void testResolveStrictJsonRoomId() {
+		byte[] nested = "{\"meta\":{\"chatRoomId\":1},\"note\":\"\\\"chatRoomId\\\":2\",\"chatRoomId\":42}"
+			.getBytes(StandardCharsets.UTF_8);
+		byte[] duplicated = "{\"chatRoomId\":1,\"content\":\"hi\",\"chatRoomId\":2}".getBytes(StandardCharsets.UTF_8);
+		byte[] negative = "{\"chatRoomId\":-1}".getBytes(StandardCharsets.UTF_8);
+		byte[] decimal = "{\"chatRoomId\":1.5}".getBytes(StandardCharsets.UTF_8);
+		byte[] overflow = "{\"chatRoomId\":99999999999999999999}".getBytes(StandardCharsets.UTF_8);
+		byte[] truncated = "{\"chatRoomId\":1,\"content\":".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", nested)).isEqualTo(42L);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", duplicated)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", negative)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", decimal)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", overflow)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", truncated)).isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+	}
+
+	@Test
+	@DisplayName("resolveAppRoomId: content-type 이 application/cbor 인 메시지 전송은 CBOR 본문의 chatRoomId를 추출한다")
+	void testResolveCborSendRoomId() throws Exception {
+		// given : chatRoomId 앞에 중첩 값이 있어도 최상위 필드만 사용
+		CBORMapper mapper = new CBORMapper();
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("content", "hi");
+		body.put("meta", Map.of("chatRoomId", 1));
+		body.put("tags", List.of("a", "b"));
+		body.put("chatRoomId", 42);
+		byte[] payload = mapper.writeValueAsBytes(body);
+		byte[] quoted = mapper.writeValueAsBytes(Map.of("chatRoomId", "8"));
+		byte[] noRoom = mapper.writeValueAsBytes(Map.of("content", "hi"));
+		MessageHeaders headers = new MessageHeaders(
+			Map.of(MessageHeaders.CONTENT_TYPE, CborMessageConverter.APPLICATION_CBOR));
+
+		// when & then
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", headers, payload)).isEqualTo(42L);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", headers, quoted)).isEqualTo(8L);
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", headers, noRoom))
+			.isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+		// content-type 없이 보내면 JSON 으로 해석하므로 CBOR 본문은 알 수 없음
+		assertThat(StompDestinationParser.resolveAppRoomId("/app/chat/message", payload))
+			.isEqualTo(StompDestinationParser.INVALID_ROOM_ID);
+	}
+}
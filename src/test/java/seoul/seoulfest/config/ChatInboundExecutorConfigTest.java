@@ -0,0 +1,61 @@
+package seoul.seoulfest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+class ChatInboundExecutorConfigTest {
+
+	private static final String SESSION_ID = "session-1";
+
+	@Test
+	@DisplayName("orderingKey: 채팅방 경로나 최상위 chatRoomId 가 있으면 채팅방 ID를 키로 사용한다")
+	void testOrderingKeyByRoom() {
+		assertThat(ChatInboundExecutorConfig.orderingKey(task("/app/chat/room/3/read", "{}"))).isEqualTo(3L);
+		assertThat(ChatInboundExecutorConfig.orderingKey(
+			task("/app/chat/message", "{\"meta\":{\"chatRoomId\":1},\"chatRoomId\":42}"))).isEqualTo(42L);
+	}
+
+	@Test
+	@DisplayName("orderingKey: chatRoomId 가 중복되거나 형식이 잘못된 본문은 세션 ID를 키로 사용한다")
+	void testOrderingKeyFallsBackToSession() {
+		assertThat(ChatInboundExecutorConfig.orderingKey(
+			task("/app/chat/message", "{\"chatRoomId\":1,\"chatRoomId\":2}"))).isEqualTo(SESSION_ID);
+		assertThat(ChatInboundExecutorConfig.orderingKey(
+			task("/app/chat/message", "{\"chatRoomId\":\"abc\"}"))).isEqualTo(SESSION_ID);
+		assertThat(ChatInboundExecutorConfig.orderingKey(() -> { })).isNull();
+	}
+
+	private MessageHandlingRunnable task(String destination, String body) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		accessor.setSessionId(SESSION_ID);
+		Message<byte[]> message = MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8),
+			accessor.getMessageHeaders());
+
+		return new MessageHandlingRunnable() {
+			@Override
+			public Message<?> getMessage() {
+				return message;
+			}
+
+			@Override
+			public MessageHandler getMessageHandler() {
+				return msg -> { };
+			}
+
+			@Override
+			public void run() {
+			}
+		};
+	}
+}
@@ -0,0 +1,51 @@
+package seoul.seoulfest.util.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	@DisplayName("tryAcquire: capacity 만큼 연속 허용한 뒤 초과 요청은 거절한다")
+	void testRejectWhenEmpty() {
+		// given
+		TokenBucket bucket = new TokenBucket(3, 1, 0L);
+
+		// when & then
+		assertThat(bucket.tryAcquire(0L)).isTrue();
+		assertThat(bucket.tryAcquire(0L)).isTrue();
+		assertThat(bucket.tryAcquire(0L)).isTrue();
+		assertThat(bucket.tryAcquire(0L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("tryAcquire: 시간이 지나면 초당 refillPerSecond 개씩 다시 허용한다")
+	void testRefill() {
+		// given : 토큰을 모두 사용
+		TokenBucket bucket = new TokenBucket(2, 2, 0L);
+		bucket.tryAcquire(0L);
+		bucket.tryAcquire(0L);
+
+		// when & then : 0.5초 후 1개, 다시 0.5초 후 1개 허용
+		assertThat(bucket.tryAcquire(SECOND / 4)).isFalse();
+		assertThat(bucket.tryAcquire(SECOND / 2)).isTrue();
+		assertThat(bucket.tryAcquire(SECOND / 2)).isFalse();
+		assertThat(bucket.tryAcquire(SECOND)).isTrue();
+	}
+
+	@Test
+	@DisplayName("isIdle: 버킷이 다시 가득 차면 정리 대상으로 판단한다")
+	void testIdle() {
+		// given
+		TokenBucket bucket = new TokenBucket(5, 5, 0L);
+		bucket.tryAcquire(0L);
+
+		// when & then
+		assertThat(bucket.isIdle(0L)).isFalse();
+		assertThat(bucket.isIdle(SECOND)).isTrue();
+	}
+}
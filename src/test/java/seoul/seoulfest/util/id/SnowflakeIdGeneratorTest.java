@@ -0,0 +1,54 @@
+package seoul.seoulfest.util.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+	@Test
+	@DisplayName("nextId: 발급된 ID는 중복 없이 계속 증가한다")
+	void testNextIdIsMonotonicAndUnique() {
+		// given
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+		Set<Long> ids = new HashSet<>();
+		long previous = -1L;
+
+		// when & then : ms 당 시퀀스 한도(4096)를 넘도록 연속 발급
+		for (int i = 0; i < 20_000; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(previous);
+			assertThat(ids.add(id)).isTrue();
+			previous = id;
+		}
+	}
+
+	@Test
+	@DisplayName("nextId: 노드 ID가 다르면 같은 시각에 발급해도 ID가 겹치지 않는다")
+	void testNodeIdIsEncoded() {
+		// given
+		SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1);
+		SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2);
+
+		// when
+		long id1 = node1.nextId();
+		long id2 = node2.nextId();
+
+		// then : 노드 ID 비트(12~21번째)로 노드 구분
+		assertThat((id1 >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(1L);
+		assertThat((id2 >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("생성자: 범위를 벗어난 노드 ID는 허용하지 않는다")
+	void testInvalidNodeId() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
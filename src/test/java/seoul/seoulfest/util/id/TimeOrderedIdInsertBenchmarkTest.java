@@ -0,0 +1,141 @@
+package seoul.seoulfest.util.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * IDENTITY 대비 @TimeOrderedId INSERT 처리량 비교
+ * - 실행: ./gradlew test --tests '*TimeOrderedIdInsertBenchmarkTest' -Dbenchmark=true
+ * - 기본 DB는 H2 인메모리, 로컬 MySQL 로 측정하려면 -Dbenchmark.url / user / password 지정
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TimeOrderedIdInsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdInsertBenchmarkTest.class);
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 50_000);
+	private static final int BATCH_SIZE = 50;
+	private static final int WARMUP_ROWS = 5_000;
+
+	private SessionFactory sessionFactory;
+
+	@BeforeEach
+	void setUp() {
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(IdentityRow.class)
+			.addAnnotatedClass(TimeOrderedRow.class)
+			.setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+				System.getProperty("benchmark.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1"))
+			.setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.user", "sa"))
+			.setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.password", ""))
+			.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+			.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+			.setProperty(AvailableSettings.ORDER_INSERTS, "true")
+			.buildSessionFactory();
+	}
+
+	@AfterEach
+	void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Test
+	@DisplayName("IDENTITY 와 @TimeOrderedId 의 INSERT 처리량을 비교한다")
+	void compareInsertThroughput() {
+		// given : JIT 워밍업
+		insert(true, WARMUP_ROWS);
+		insert(false, WARMUP_ROWS);
+
+		// when
+		long identityNanos = insert(true, ROWS);
+		long timeOrderedNanos = insert(false, ROWS);
+
+		// then
+		double identityRate = ROWS / (identityNanos / 1_000_000_000.0);
+		double timeOrderedRate = ROWS / (timeOrderedNanos / 1_000_000_000.0);
+		log.info("rows={} batchSize={} IDENTITY={} rows/s ({} ms) @TimeOrderedId={} rows/s ({} ms) speedup={}x",
+			ROWS, BATCH_SIZE, Math.round(identityRate), TimeUnit.NANOSECONDS.toMillis(identityNanos),
+			Math.round(timeOrderedRate), TimeUnit.NANOSECONDS.toMillis(timeOrderedNanos),
+			String.format("%.2f", timeOrderedRate / identityRate));
+
+		assertThat(count(TimeOrderedRow.class)).isEqualTo(ROWS + WARMUP_ROWS);
+	}
+
+	private long insert(boolean identity, int rows) {
+		long start = System.nanoTime();
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < rows; i++) {
+				session.persist(identity ? new IdentityRow("payload-" + i) : new TimeOrderedRow("payload-" + i));
+				if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+		return System.nanoTime() - start;
+	}
+
+	private long count(Class<?> entityClass) {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery("select count(e) from " + entityClass.getSimpleName() + " e", Long.class)
+				.getSingleResult();
+		}
+	}
+
+	@Entity(name = "IdentityRow")
+	@Table(name = "benchmark_identity_row")
+	static class IdentityRow {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String payload;
+
+		protected IdentityRow() {
+		}
+
+		IdentityRow(String payload) {
+			this.payload = payload;
+		}
+	}
+
+	@Entity(name = "TimeOrderedRow")
+	@Table(name = "benchmark_time_ordered_row")
+	static class TimeOrderedRow {
+
+		@Id
+		@TimeOrderedId
+		private Long id;
+
+		private String payload;
+
+		protected TimeOrderedRow() {
+		}
+
+		TimeOrderedRow(String payload) {
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package seoul.seoulfest.util.text;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BigramTokenizerTest {
+
+	@Test
+	@DisplayName("normalize: 공백을 제거하고 소문자로 변환한다")
+	void testNormalize() {
+		assertThat(BigramTokenizer.normalize(" 서울 Jazz\t페스티벌 ")).isEqualTo("서울jazz페스티벌");
+		assertThat(BigramTokenizer.normalize(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("indexTokens: 한 글자와 두 글자 토큰을 모두 만든다")
+	void testIndexTokens() {
+		assertThat(BigramTokenizer.indexTokens("서울 축제"))
+			.containsExactly("서", "서울", "울", "울축", "축", "축제", "제");
+	}
+
+	@Test
+	@DisplayName("queryTokens: 두 글자 이상이면 bigram, 한 글자면 unigram 을 만든다")
+	void testQueryTokens() {
+		assertThat(BigramTokenizer.queryTokens("불꽃놀이")).containsExactly("불꽃", "꽃놀", "놀이");
+		assertThat(BigramTokenizer.queryTokens("축")).containsExactly("축");
+		assertThat(BigramTokenizer.queryTokens("  ")).isEmpty();
+	}
+}